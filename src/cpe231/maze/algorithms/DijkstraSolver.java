@@ -1,11 +1,35 @@
 package cpe231.maze.algorithms;
 import cpe231.maze.core.*;
+import cpe231.maze.jfr.SearchPhaseEvent;
+import cpe231.maze.jfr.SolveEvent;
 import java.util.*;
 
 public class DijkstraSolver implements MazeSolver {
+    // Thread interrupts (cancellation) are checked once every 1024 expansions
+    private static final long CANCEL_CHECK_MASK = 1024 - 1;
+
     @Override
     public AlgorithmResult solve(MazeContext context) {
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(search(context));
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String cacheKey() {
+        return "Dijkstra";
+    }
+
+    private AlgorithmResult search(MazeContext context) {
         long startTime = System.nanoTime();
+        if (!context.isGoalReachable()) {
+            return AlgorithmResult.unreachable(System.nanoTime() - startTime);
+        }
+        SearchPhaseEvent searchPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.SEARCH);
         int rows = context.rows, cols = context.cols;
         int start = context.startRow * cols + context.startCol;
         int end = context.endRow * cols + context.endCol;
@@ -20,7 +44,7 @@ public class DijkstraSolver implements MazeSolver {
         dist[start] = 0;
         pq.add(new int[]{start, 0});
         
-        long expanded = 0;
+        long expanded = 0, staleSkips = 0, pushes = 1, peakQueue = 1, relaxations = 0;
         int[] dr = {-1, 1, 0, 0};
         int[] dc = {0, 0, -1, 1};
 
@@ -30,32 +54,44 @@ public class DijkstraSolver implements MazeSolver {
             
             // CHANGE: Subtract goal tile cost to match the 1085 definition
             if (u == end) {
+                searchPhase.finish(expanded);
+                SearchPhaseEvent reconstructPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.RECONSTRUCT);
+                List<int[]> path = PathUtils.reconstruct(parent, end, cols);
+                reconstructPhase.finish(path.size());
                 int finalCost = dist[end] - grid[context.endRow][context.endCol];
-                return new AlgorithmResult("Success", getPath(parent, end, cols), finalCost, System.nanoTime()-startTime, expanded);
+                return new AlgorithmResult("Success", path, finalCost, System.nanoTime()-startTime, expanded,
+                    new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, path.size()));
             }
             
-            if (curr[1] > dist[u]) continue;
+            if (curr[1] > dist[u]) {
+                staleSkips++;
+                continue;
+            }
             
             expanded++;
+            if ((expanded & CANCEL_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                searchPhase.finish(expanded);
+                return new AlgorithmResult("Cancelled", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+                    new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, 0));
+            }
             for(int i=0; i<4; i++) {
                 int nr = u/cols+dr[i], nc = u%cols+dc[i];
                 if(nr>=0 && nr<rows && nc>=0 && nc<cols && grid[nr][nc]!=-1) {
+                    relaxations++;
                     int v = nr*cols+nc;
                     int newDist = dist[u] + grid[nr][nc];
                     if(newDist < dist[v]) {
                         dist[v] = newDist;
                         parent[v] = u;
                         pq.add(new int[]{v, newDist});
+                        pushes++;
+                        if (pq.size() > peakQueue) peakQueue = pq.size();
                     }
                 }
             }
         }
-        return new AlgorithmResult("Failed", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded);
-    }
-    private List<int[]> getPath(int[] p, int end, int cols) {
-        List<int[]> path = new ArrayList<>();
-        for(int c=end; c!=-1; c=p[c]) path.add(new int[]{c/cols, c%cols});
-        Collections.reverse(path);
-        return path;
+        searchPhase.finish(expanded);
+        return new AlgorithmResult("Failed", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+            new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, 0));
     }
 }
\ No newline at end of file
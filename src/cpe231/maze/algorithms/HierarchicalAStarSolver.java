@@ -0,0 +1,85 @@
+package cpe231.maze.algorithms;
+import cpe231.maze.core.*;
+import cpe231.maze.index.ClusterGraph;
+import cpe231.maze.index.MazeIndexStore;
+import cpe231.maze.jfr.SearchPhaseEvent;
+import cpe231.maze.jfr.SolveEvent;
+import java.util.*;
+
+/**
+ * Hierarchical A* (HPA*) over a {@link ClusterGraph}.
+ *
+ * The first solve on a grid builds its abstract graph (kept in
+ * {@link MazeIndexStore#shared()}, which also opens it from a file for the
+ * server's mazes); later solves, with any start and goal, search the
+ * abstract graph and refine only the clusters on the result. The build is
+ * not part of durationNs: it is reported as a {@code "build"}
+ * {@link SearchPhaseEvent} and summed by {@link MazeIndexStore#getGraphBuildNanos}.
+ * Every border crossing is an abstract node, so the path is optimal, like
+ * {@link AStarSolver}'s. The cluster size defaults to 16 and can be set with
+ * {@code -Dmaze.hpa.clusterSize=<n>}.
+ *
+ * nodesExpanded and the {@link SearchStats} counters sum the abstract
+ * search and the cluster-local searches; peakQueue is the larger of the two
+ * queues.
+ */
+public class HierarchicalAStarSolver implements MazeSolver {
+
+    public static final int DEFAULT_CLUSTER_SIZE =
+        Integer.getInteger("maze.hpa.clusterSize", ClusterGraph.DEFAULT_CLUSTER_SIZE);
+
+    private final MazeIndexStore store;
+    private final int clusterSize;
+
+    public HierarchicalAStarSolver() {
+        this(MazeIndexStore.shared(), DEFAULT_CLUSTER_SIZE);
+    }
+
+    public HierarchicalAStarSolver(MazeIndexStore store, int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("clusterSize must be >= 2");
+        }
+        this.store = store;
+        this.clusterSize = clusterSize;
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(search(context));
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String cacheKey() {
+        return "HierarchicalAStar";
+    }
+
+    private AlgorithmResult search(MazeContext context) {
+        long startTime = System.nanoTime();
+        if (!context.isGoalReachable()) {
+            return AlgorithmResult.unreachable(System.nanoTime() - startTime);
+        }
+        SearchPhaseEvent buildPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.BUILD);
+        ClusterGraph graph = store.getOrBuildGraph(context, clusterSize);
+        buildPhase.finish(graph.nodeCount());
+        startTime = System.nanoTime(); // the build is reported by the phase event and the store
+
+        SearchPhaseEvent searchPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.SEARCH);
+        ClusterGraph.Route route = graph.route(context);
+        long expanded = route.abstractExpanded() + route.localExpanded();
+        searchPhase.finish(expanded);
+        if (!route.found()) {
+            String status = Thread.currentThread().isInterrupted() ? "Cancelled" : "Failed";
+            return new AlgorithmResult(status, new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+                route.stats());
+        }
+        int finalCost = route.cost() - context.getCost(context.endRow, context.endCol);
+        return new AlgorithmResult("Success", route.path(), finalCost, System.nanoTime()-startTime, expanded,
+            route.stats());
+    }
+}
@@ -1,10 +1,12 @@
 package cpe231.maze.algorithms;
 
 import cpe231.maze.core.*;
+import cpe231.maze.jfr.GenerationTimer;
+import cpe231.maze.jfr.SolveEvent;
 import java.util.*;
 import java.util.function.Consumer;
 
-public class HybridGASolver implements MazeSolver {
+public class HybridGASolver implements ProgressiveSolver {
 
     // --- SETUP ---
     private static final int POPULATION_SIZE = 500;
@@ -22,6 +24,11 @@ public class HybridGASolver implements MazeSolver {
 
     // Callback for real-time visualization
     private Consumer<AlgorithmResult> progressCallback;
+    private int progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+    // Fixed seed for reproducible runs, or null; random is re-created per solve
+    private final Long seed;
+    private Random random = new Random();
 
     private static class Individual implements Comparable<Individual> {
         List<int[]> path;
@@ -40,28 +47,66 @@ public class HybridGASolver implements MazeSolver {
         }
     }
 
+    public HybridGASolver() {
+        this.seed = null;
+    }
+
+    /**
+     * Seeded solver: every solve of the same maze returns the same path.
+     */
+    public HybridGASolver(long seed) {
+        this.seed = seed;
+    }
+
+    // Cacheable only when seeded
+    @Override
+    public String cacheKey() {
+        return seed == null ? null : "HybridGA#seed=" + seed;
+    }
+
     @Override
     public AlgorithmResult solve(MazeContext context) {
-        return solveInternal(context, null);
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(solveInternal(context, null));
     }
 
     // NEW: Support for visualization callback
-    public AlgorithmResult solveWithProgress(MazeContext context, Consumer<AlgorithmResult> callback) {
-        return solveInternal(context, callback);
+    @Override
+    public AlgorithmResult solveWithProgress(MazeContext context, Consumer<AlgorithmResult> callback, int interval) {
+        this.progressInterval = Math.max(1, interval);
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(solveInternal(context, callback));
     }
 
     private AlgorithmResult solveInternal(MazeContext context, Consumer<AlgorithmResult> callback) {
         long startTime = System.nanoTime();
         long nodesExpanded = 0;
         this.progressCallback = callback;
+        this.random = seed == null ? new Random() : new Random(seed);
+
+        // Disconnected start and goal: no random walk can ever succeed
+        if (!context.isGoalReachable()) {
+            return AlgorithmResult.unreachable(System.nanoTime() - startTime);
+        }
+        // Random walks never enter dead-end branches, so far fewer steps are wasted backtracking
+        context = context.pruned();
 
         List<Individual> population = initializePopulation(context);
-        if (population.isEmpty()) 
-            return new AlgorithmResult("Failed", new ArrayList<>(), -1, System.nanoTime() - startTime, 0);
+        if (population.isEmpty()) {
+            String status = Thread.currentThread().isInterrupted() ? "Cancelled" : "Failed";
+            return new AlgorithmResult(status, new ArrayList<>(), -1, System.nanoTime() - startTime, 0);
+        }
 
         Individual bestSolution = population.get(0);
+        boolean cancelled = false;
 
         for (int gen = 0; gen < MAX_GENERATIONS; gen++) {
+            // Cancelled by the caller: return the best path so far, but not as a finished (cacheable) run
+            if (Thread.currentThread().isInterrupted()) {
+                cancelled = true;
+                break;
+            }
+            GenerationTimer timer = GenerationTimer.start(this, gen);
             
             // Dynamic mutation rate
             double currentMutationRate = START_MUTATION - 
@@ -71,10 +116,11 @@ public class HybridGASolver implements MazeSolver {
             if (population.get(0).fitness > bestSolution.fitness) {
                 bestSolution = population.get(0);
             }
+            timer.evaluationDone();
 
             // --- ANIMATION UPDATE ---
-            // Update UI every 10 generations
-            if (progressCallback != null && (gen % 10 == 0 || gen == MAX_GENERATIONS - 1)) {
+            // Update UI every progressInterval generations
+            if (progressCallback != null && (gen % progressInterval == 0 || gen == MAX_GENERATIONS - 1)) {
                 AlgorithmResult intermediate = new AlgorithmResult(
                     "Generation " + gen + "/" + MAX_GENERATIONS,
                     new ArrayList<>(bestSolution.path), // Copy path to avoid thread issues
@@ -94,25 +140,31 @@ public class HybridGASolver implements MazeSolver {
 
             // 2. Evolution
             while (nextGen.size() < POPULATION_SIZE) {
+                timer.mark();
                 Individual p1 = selectParent(population);
                 Individual p2 = selectParent(population);
+                timer.selectionDone();
 
                 // Crossover 
-                Individual child = (Math.random() < 0.85) ? crossover(p1, p2, context) : p1;
+                Individual child = (random.nextDouble() < 0.85) ? crossover(p1, p2, context) : p1;
+                timer.crossoverDone();
 
                 // Mutation 
-                if (Math.random() < currentMutationRate) {
+                if (random.nextDouble() < currentMutationRate) {
                     child = mutate(child, context);
                 }
+                timer.mutationDone();
 
                 nextGen.add(child);
                 nodesExpanded++;
             }
             population = nextGen;
+            timer.commit(bestSolution.cost, population.size());
         }
 
         long duration = System.nanoTime() - startTime;
-        return new AlgorithmResult("Success", bestSolution.path, bestSolution.cost, duration, nodesExpanded);
+        return new AlgorithmResult(cancelled ? "Cancelled" : "Success", bestSolution.path, bestSolution.cost,
+            duration, nodesExpanded);
     }
 
     // ... (Rest of the class methods remain unchanged) ...
@@ -122,7 +174,8 @@ public class HybridGASolver implements MazeSolver {
         List<Individual> pop = new ArrayList<>();
         int attempts = 0;
         // Limit attempts to prevent infinite loop on impossible mazes
-        while (pop.size() < POPULATION_SIZE && attempts < POPULATION_SIZE * 20) {
+        while (pop.size() < POPULATION_SIZE && attempts < POPULATION_SIZE * 20
+                && !Thread.currentThread().isInterrupted()) {
             List<int[]> rawPath = generateRandomValidPath(ctx);
             if (rawPath != null) {
                 pop.add(encode(rawPath, ctx));
@@ -146,7 +199,7 @@ public class HybridGASolver implements MazeSolver {
         Individual best = null;
         int tournamentSize = 5;
         for (int i = 0; i < tournamentSize; i++) {
-            Individual ind = pop.get((int) (Math.random() * pop.size()));
+            Individual ind = pop.get((int) (random.nextDouble() * pop.size()));
             if (best == null || ind.fitness > best.fitness)
                 best = ind;
         }
@@ -166,7 +219,7 @@ public class HybridGASolver implements MazeSolver {
 
         if (intersections.isEmpty()) return p1;
 
-        int[] cut = intersections.get((int) (Math.random() * intersections.size()));
+        int[] cut = intersections.get((int) (random.nextDouble() * intersections.size()));
         List<int[]> newPath = new ArrayList<>();
 
         for (int[] p : p1.path) {
@@ -187,8 +240,8 @@ public class HybridGASolver implements MazeSolver {
         List<int[]> path = ind.path;
         if (path.size() < 5) return ind;
 
-        int idx1 = (int) (Math.random() * (path.size() - 2));
-        int idx2 = (int) (Math.random() * (path.size() - idx1 - 1)) + idx1 + 1;
+        int idx1 = (int) (random.nextDouble() * (path.size() - 2));
+        int idx2 = (int) (random.nextDouble() * (path.size() - idx1 - 1)) + idx1 + 1;
 
         Queue<List<int[]>> queue = new LinkedList<>();
         List<int[]> init = new ArrayList<>();
@@ -212,7 +265,7 @@ public class HybridGASolver implements MazeSolver {
             }
 
             List<Integer> dirs = Arrays.asList(0, 1, 2, 3);
-            Collections.shuffle(dirs);
+            Collections.shuffle(dirs, random);
 
             for (int d : dirs) {
                 int nr = currPos[0] + DR[d], nc = currPos[1] + DC[d];
@@ -243,7 +296,7 @@ public class HybridGASolver implements MazeSolver {
                 return reconstructPath(parentMap, curr);
 
             List<Integer> directions = Arrays.asList(0, 1, 2, 3);
-            Collections.shuffle(directions);
+            Collections.shuffle(directions, random);
 
             for (int dir : directions) {
                 int nr = curr[0] + DR[dir];
@@ -0,0 +1,122 @@
+package cpe231.maze.algorithms;
+import cpe231.maze.core.*;
+import cpe231.maze.index.MazeIndex;
+import cpe231.maze.index.MazeIndexStore;
+import cpe231.maze.jfr.SearchPhaseEvent;
+import cpe231.maze.jfr.SolveEvent;
+import java.util.*;
+
+/**
+ * A* with landmark (ALT) lower bounds from a {@link MazeIndex}.
+ *
+ * When the index was built for the query's goal, the heuristic is the exact
+ * remaining cost and only cells on an optimal path are expanded. For other
+ * goals on the same grid the landmark tables still give a bound at least as
+ * tight as the triangle inequality allows. Indexes come from
+ * {@link MazeIndexStore#shared()}; a maze without one gets an in-memory
+ * index on its first solve.
+ */
+public class LandmarkAStarSolver implements MazeSolver {
+    // Thread interrupts (cancellation) are checked once every 1024 expansions
+    private static final long CANCEL_CHECK_MASK = 1024 - 1;
+
+    private final MazeIndexStore store;
+
+    public LandmarkAStarSolver() {
+        this(MazeIndexStore.shared());
+    }
+
+    public LandmarkAStarSolver(MazeIndexStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(search(context));
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return true;
+    }
+
+    @Override
+    public String cacheKey() {
+        return "LandmarkAStar";
+    }
+
+    private AlgorithmResult search(MazeContext context) {
+        long startTime = System.nanoTime();
+        if (!context.isGoalReachable()) {
+            return AlgorithmResult.unreachable(System.nanoTime() - startTime);
+        }
+        MazeIndex index = store.findForGrid(context);
+        if (index == null) index = store.getOrBuild(context);
+        startTime = System.nanoTime(); // building the index is not part of the solve
+        SearchPhaseEvent searchPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.SEARCH);
+        int rows = context.rows, cols = context.cols;
+        int start = context.getStartIndex();
+        int end = context.getEndIndex();
+        int[][] grid = context.getGridDirect();
+
+        PriorityQueue<long[]> pq = new PriorityQueue<>(Comparator.comparingLong(a -> a[1]));
+        int[] dist = new int[rows * cols];
+        int[] parent = new int[rows * cols];
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+
+        dist[start] = 0;
+        pq.add(new long[]{start, index.lowerBound(start, end)});
+
+        long expanded = 0, staleSkips = 0, pushes = 1, peakQueue = 1, relaxations = 0;
+        int[] dr = {-1, 1, 0, 0};
+        int[] dc = {0, 0, -1, 1};
+
+        while (!pq.isEmpty()) {
+            long[] curr = pq.poll();
+            int u = (int)curr[0];
+
+            if (u == end) {
+                searchPhase.finish(expanded);
+                SearchPhaseEvent reconstructPhase = SearchPhaseEvent.start(this, SearchPhaseEvent.RECONSTRUCT);
+                List<int[]> path = PathUtils.reconstruct(parent, end, cols);
+                reconstructPhase.finish(path.size());
+                int finalCost = dist[end] - grid[context.endRow][context.endCol];
+                return new AlgorithmResult("Success", path, finalCost, System.nanoTime()-startTime, expanded,
+                    new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, path.size()));
+            }
+
+            if (curr[1] > (long) dist[u] + index.lowerBound(u, end)) {
+                staleSkips++;
+                continue;
+            }
+
+            expanded++;
+            if ((expanded & CANCEL_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                searchPhase.finish(expanded);
+                return new AlgorithmResult("Cancelled", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+                    new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, 0));
+            }
+            int r = u/cols, c = u%cols;
+            for(int i=0; i<4; i++) {
+                int nr = r+dr[i], nc = c+dc[i];
+                if(nr>=0 && nr<rows && nc>=0 && nc<cols && grid[nr][nc]!=-1) {
+                    relaxations++;
+                    int v = nr*cols+nc;
+                    int newDist = dist[u] + grid[nr][nc];
+                    if(newDist < dist[v]) {
+                        dist[v] = newDist;
+                        parent[v] = u;
+                        pq.add(new long[]{v, (long) newDist + index.lowerBound(v, end)});
+                        pushes++;
+                        if (pq.size() > peakQueue) peakQueue = pq.size();
+                    }
+                }
+            }
+        }
+        searchPhase.finish(expanded);
+        return new AlgorithmResult("Failed", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+            new SearchStats(expanded, staleSkips, pushes, peakQueue, relaxations, 0));
+    }
+}
@@ -0,0 +1,296 @@
+package cpe231.maze.algorithms;
+import cpe231.maze.core.*;
+import java.util.*;
+
+/**
+ * Incremental replanning with Lifelong Planning A* (Koenig and Likhachev).
+ *
+ * The planner keeps its search state (g, rhs and the open queue) between
+ * calls to {@link #plan()}. After cells of the {@link MutableMazeView}
+ * change, only cells whose cost-to-come is affected are re-expanded. For a
+ * few local edits that is a small fraction of a fresh
+ * {@link AStarSolver} search. The first call is a plain A* search.
+ *
+ * Entering a cell costs its value, as in the other solvers, so changing a
+ * cell only changes the edges into it. Start and goal are fixed by the
+ * view. The heuristic is Manhattan distance times the smallest cell cost
+ * seen. If an edit goes below that cost, the heuristic would overestimate,
+ * so the next plan starts over.
+ *
+ * Usage Example:
+ * <pre>
+ * LpaStarPlanner planner = new LpaStarPlanner(new MutableMazeView(context));
+ * AlgorithmResult first = planner.plan();
+ * planner.getView().setCell(5, 7, -1);
+ * AlgorithmResult repaired = planner.plan();
+ * </pre>
+ */
+public class LpaStarPlanner {
+    // Thread interrupts (cancellation) are checked once every 1024 expansions
+    private static final long CANCEL_CHECK_MASK = 1024 - 1;
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    private final MutableMazeView view;
+    private final int rows, cols, start, goal;
+    private final int[] g, rhs;
+    private final IndexedHeap open;
+    private int minCost;
+    private boolean initialized;
+
+    // Counters for the current plan() call
+    private long expanded, pushes, relaxations;
+
+    public LpaStarPlanner(MutableMazeView view) {
+        this.view = view;
+        this.rows = view.rows;
+        this.cols = view.cols;
+        this.start = view.startRow * cols + view.startCol;
+        this.goal = view.endRow * cols + view.endCol;
+        this.g = new int[rows * cols];
+        this.rhs = new int[rows * cols];
+        this.open = new IndexedHeap(rows * cols);
+    }
+
+    public MutableMazeView getView() {
+        return view;
+    }
+
+    /**
+     * The cheapest path for the view's current costs. Applies the edits made
+     * since the previous call; the first call searches from scratch. A
+     * cancelled (interrupted) plan keeps its progress for the next call.
+     */
+    public AlgorithmResult plan() {
+        long startTime = System.nanoTime();
+        expanded = 0;
+        pushes = 0;
+        relaxations = 0;
+        int[][] grid = view.getGridDirect();
+
+        int[] changes = view.drainChanges();
+        int lowest = minCost;
+        for (int cell : changes) {
+            int cost = grid[cell / cols][cell % cols];
+            if (cost != -1 && cost < lowest) lowest = cost;
+        }
+        if (!initialized || lowest < minCost) {
+            initialize(grid);
+        } else {
+            for (int cell : changes) updateVertex(cell, grid);
+        }
+
+        if (!computeShortestPath(grid)) {
+            return new AlgorithmResult("Cancelled", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+                stats(0));
+        }
+        if (g[goal] == INF) {
+            return new AlgorithmResult("Failed", new ArrayList<>(), -1, System.nanoTime()-startTime, expanded,
+                stats(0));
+        }
+        List<int[]> path = extractPath(grid);
+        int finalCost = g[goal] - grid[view.endRow][view.endCol];
+        return new AlgorithmResult("Success", path, finalCost, System.nanoTime()-startTime, expanded,
+            stats(path.size()));
+    }
+
+    // === LPA* ===
+
+    private void initialize(int[][] grid) {
+        minCost = INF;
+        for (int[] row : grid) {
+            for (int v : row) if (v != -1 && v < minCost) minCost = v;
+        }
+        if (minCost == INF) minCost = 0;
+        Arrays.fill(g, INF);
+        Arrays.fill(rhs, INF);
+        open.clear();
+        rhs[start] = 0;
+        open.put(start, key(start));
+        pushes++;
+        initialized = true;
+    }
+
+    private boolean computeShortestPath(int[][] grid) {
+        while (!open.isEmpty() && (open.peekKey() < key(goal) || rhs[goal] != g[goal])) {
+            int u = open.pop();
+            expanded++;
+            if ((expanded & CANCEL_CHECK_MASK) == 0 && Thread.currentThread().isInterrupted()) {
+                open.put(u, key(u)); // still inconsistent: keep it for the next plan
+                return false;
+            }
+            int r = u / cols, c = u % cols;
+            if (g[u] > rhs[u]) {
+                g[u] = rhs[u];
+            } else {
+                g[u] = INF;
+                updateVertex(u, grid);
+            }
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i], nc = c + DC[i];
+                if (nr >= 0 && nr < rows && nc >= 0 && nc < cols) updateVertex(nr * cols + nc, grid);
+            }
+        }
+        return true;
+    }
+
+    private void updateVertex(int u, int[][] grid) {
+        relaxations++;
+        int r = u / cols, c = u % cols;
+        if (u != start) {
+            int cost = grid[r][c];
+            int best = INF;
+            if (cost != -1) {
+                for (int i = 0; i < 4; i++) {
+                    int nr = r + DR[i], nc = c + DC[i];
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || grid[nr][nc] == -1) continue;
+                    int gp = g[nr * cols + nc];
+                    if (gp != INF && gp + cost < best) best = gp + cost;
+                }
+            }
+            rhs[u] = best;
+        }
+        if (g[u] != rhs[u]) {
+            open.put(u, key(u));
+            pushes++;
+        } else {
+            open.remove(u);
+        }
+    }
+
+    // [min(g, rhs) + h, min(g, rhs)] packed so that long order is lexicographic order
+    private long key(int u) {
+        int m = Math.min(g[u], rhs[u]);
+        if (m == INF) return Long.MAX_VALUE;
+        long h = (long) minCost * (Math.abs(u / cols - view.endRow) + Math.abs(u % cols - view.endCol));
+        return ((m + h) << 32) | m;
+    }
+
+    // Walks back from the goal through predecessors with g(p) + cost(u) == g(u)
+    private List<int[]> extractPath(int[][] grid) {
+        List<int[]> path = new ArrayList<>();
+        int u = goal;
+        path.add(new int[]{u / cols, u % cols});
+        for (int steps = 0; u != start && steps < rows * cols; steps++) {
+            int r = u / cols, c = u % cols, cost = grid[r][c];
+            int next = -1;
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i], nc = c + DC[i];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || grid[nr][nc] == -1) continue;
+                int p = nr * cols + nc;
+                if (g[p] != INF && g[p] + cost == g[u] && (next == -1 || g[p] < g[next])) next = p;
+            }
+            if (next == -1) break; // not reached for a consistent search
+            u = next;
+            path.add(new int[]{u / cols, u % cols});
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private SearchStats stats(int pathLength) {
+        return new SearchStats(expanded, 0, pushes, open.size(), relaxations, pathLength);
+    }
+
+    // === Queue ===
+
+    // Binary min-heap over cells with decrease/increase-key and removal
+    private static final class IndexedHeap {
+        private final int[] heap;
+        private final long[] keys;
+        private final int[] pos; // cell -> heap slot, -1 if absent
+        private int size;
+
+        IndexedHeap(int capacity) {
+            heap = new int[capacity];
+            keys = new long[capacity];
+            pos = new int[capacity];
+            Arrays.fill(pos, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long peekKey() {
+            return keys[heap[0]];
+        }
+
+        void clear() {
+            for (int i = 0; i < size; i++) pos[heap[i]] = -1;
+            size = 0;
+        }
+
+        void put(int cell, long key) {
+            int i = pos[cell];
+            if (i == -1) {
+                i = size++;
+                heap[i] = cell;
+                pos[cell] = i;
+                keys[cell] = key;
+                up(i);
+            } else {
+                long old = keys[cell];
+                keys[cell] = key;
+                if (key < old) up(i); else down(i);
+            }
+        }
+
+        int pop() {
+            int top = heap[0];
+            removeAt(0);
+            return top;
+        }
+
+        void remove(int cell) {
+            int i = pos[cell];
+            if (i != -1) removeAt(i);
+        }
+
+        private void removeAt(int i) {
+            int cell = heap[i];
+            pos[cell] = -1;
+            int last = heap[--size];
+            if (i == size) return;
+            heap[i] = last;
+            pos[last] = i;
+            up(i);
+            down(pos[last]);
+        }
+
+        private void up(int i) {
+            int cell = heap[i];
+            long key = keys[cell];
+            while (i > 0) {
+                int p = (i - 1) >>> 1;
+                if (keys[heap[p]] <= key) break;
+                heap[i] = heap[p];
+                pos[heap[i]] = i;
+                i = p;
+            }
+            heap[i] = cell;
+            pos[cell] = i;
+        }
+
+        private void down(int i) {
+            int cell = heap[i];
+            long key = keys[cell];
+            while (true) {
+                int l = 2 * i + 1;
+                if (l >= size) break;
+                int m = (l + 1 < size && keys[heap[l + 1]] < keys[heap[l]]) ? l + 1 : l;
+                if (keys[heap[m]] >= key) break;
+                heap[i] = heap[m];
+                pos[heap[i]] = i;
+                i = m;
+            }
+            heap[i] = cell;
+            pos[cell] = i;
+        }
+    }
+}
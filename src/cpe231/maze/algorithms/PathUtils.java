@@ -0,0 +1,25 @@
+package cpe231.maze.algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Path helpers shared by the graph-search solvers.
+ */
+public final class PathUtils {
+
+    private PathUtils() {}
+
+    /**
+     * Walks a parent array (cell index -> previous cell index, -1 at the
+     * start) back from {@code end} and returns the path start-first as
+     * {row, col} pairs.
+     */
+    public static List<int[]> reconstruct(int[] parent, int end, int cols) {
+        List<int[]> path = new ArrayList<>();
+        for (int c = end; c != -1; c = parent[c]) path.add(new int[]{c / cols, c % cols});
+        Collections.reverse(path);
+        return path;
+    }
+}
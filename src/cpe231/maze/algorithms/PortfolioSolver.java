@@ -0,0 +1,212 @@
+package cpe231.maze.algorithms;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import cpe231.maze.core.ProgressiveSolver;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Races several solvers on the same maze and returns the first acceptable
+ * result, cancelling the others.
+ *
+ * A result is accepted when its solver is exact ({@link MazeSolver#isOptimal()})
+ * or its cost is within {@code costBound}. Progressive solvers (the GAs) are
+ * watched through their progress callback, so a GA can win as soon as its
+ * best-so-far path meets the bound instead of running every generation.
+ * If nothing is accepted by the deadline, or every member finished without an
+ * acceptable answer, the cheapest path seen so far is returned.
+ *
+ * Without a cost bound or deadline only exact members can win, so a
+ * {@code "Success"} is always optimal ({@link #isOptimal()}). If no exact
+ * member succeeds (none in the list, or it failed), the race reports
+ * {@code "Failed"} instead of passing off a heuristic path. A race whose
+ * caller is interrupted before anything was accepted reports
+ * {@code "Cancelled"}.
+ *
+ * Losers are cancelled by interrupting their threads; the solvers check the
+ * interrupt flag between expansions / generations.
+ *
+ * Usage Example:
+ * <pre>
+ * PortfolioSolver portfolio = new PortfolioSolver(
+ *     List.of(AStarSolver::new, HybridGASolver::new), 1200, 50);
+ * PortfolioSolver.Race race = portfolio.race(context);
+ * System.out.println(race.winner() + " " + race.result().cost());
+ * </pre>
+ */
+public class PortfolioSolver implements MazeSolver {
+
+    /** No cost bound: only results from exact solvers are accepted early. */
+    public static final int NO_COST_BOUND = -1;
+
+    /** No deadline: wait until a result is accepted or every member finishes. */
+    public static final long NO_DEADLINE = 0;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "portfolio-" + THREAD_COUNTER.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Outcome of one race.
+     *
+     * @param result   the returned result; its duration is the race's wall time
+     * @param winner   short name of the solver that produced it, or null
+     * @param accepted true if it met the acceptance criterion, false if it is
+     *                 only the best available at the deadline / after all finished
+     */
+    public record Race(AlgorithmResult result, String winner, boolean accepted) {}
+
+    private final List<Supplier<MazeSolver>> members;
+    private final int costBound;
+    private final long deadlineMs;
+
+    /**
+     * @param members    solver factories; a fresh instance of each is raced per solve
+     * @param costBound  accept any path with cost &lt;= this, or {@link #NO_COST_BOUND}
+     * @param deadlineMs give up waiting after this long, or {@link #NO_DEADLINE}
+     */
+    public PortfolioSolver(List<Supplier<MazeSolver>> members, int costBound, long deadlineMs) {
+        if (members.isEmpty()) {
+            throw new IllegalArgumentException("Portfolio needs at least one solver");
+        }
+        if (deadlineMs < 0) {
+            throw new IllegalArgumentException("deadlineMs must be >= 0");
+        }
+        this.members = List.copyOf(members);
+        this.costBound = costBound;
+        this.deadlineMs = deadlineMs;
+    }
+
+    public PortfolioSolver(List<Supplier<MazeSolver>> members) {
+        this(members, NO_COST_BOUND, NO_DEADLINE);
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        return race(context).result();
+    }
+
+    @Override
+    public boolean isOptimal() {
+        // Nothing but an exact member's result can be accepted, and outcome() never passes off the rest
+        return costBound == NO_COST_BOUND && deadlineMs == NO_DEADLINE;
+    }
+
+    /**
+     * Runs the race and reports which member won.
+     */
+    public Race race(MazeContext context) {
+        long startTime = System.nanoTime();
+        // No member can succeed, so don't start any
+        if (!context.isGoalReachable()) {
+            return new Race(AlgorithmResult.unreachable(System.nanoTime() - startTime), null, false);
+        }
+        RaceState state = new RaceState(members.size());
+        List<Future<?>> futures = new ArrayList<>(members.size());
+        for (Supplier<MazeSolver> member : members) {
+            MazeSolver solver = member.get();
+            futures.add(POOL.submit(() -> runMember(solver, context, state)));
+        }
+
+        long deadlineNs = deadlineMs == NO_DEADLINE ? Long.MAX_VALUE : startTime + deadlineMs * 1_000_000L;
+        try {
+            state.await(deadlineNs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            for (Future<?> f : futures) f.cancel(true);
+        }
+        return state.outcome(System.nanoTime() - startTime, Thread.currentThread().isInterrupted());
+    }
+
+    private void runMember(MazeSolver solver, MazeContext context, RaceState state) {
+        String name = SolverFactory.shortName(solver);
+        boolean exact = solver.isOptimal();
+        try {
+            AlgorithmResult result;
+            if (solver instanceof ProgressiveSolver progressive) {
+                result = progressive.solveWithProgress(context,
+                    intermediate -> state.offer(name, intermediate, false, context), 1);
+            } else {
+                result = solver.solve(context);
+            }
+            if (result.isSuccess()) state.offer(name, result, exact, context);
+        } catch (RuntimeException e) {
+            System.err.println("Portfolio member " + name + " failed: " + e.getMessage());
+        } finally {
+            state.memberDone();
+        }
+    }
+
+    private boolean acceptable(AlgorithmResult result, boolean exact) {
+        return exact || (costBound != NO_COST_BOUND && result.cost() <= costBound);
+    }
+
+    // === Shared race state (guarded by its monitor) ===
+
+    private final class RaceState {
+        private int running;
+        private AlgorithmResult best;
+        private String bestName;
+        private boolean accepted;
+
+        RaceState(int members) {
+            this.running = members;
+        }
+
+        synchronized void offer(String name, AlgorithmResult result, boolean exact, MazeContext context) {
+            if (accepted || !reachesGoal(result, context)) return;
+            boolean accept = acceptable(result, exact);
+            if (accept || best == null || result.cost() < best.cost()) {
+                best = result;
+                bestName = name;
+            }
+            if (accept) {
+                accepted = true;
+                notifyAll();
+            }
+        }
+
+        synchronized void memberDone() {
+            running--;
+            notifyAll();
+        }
+
+        synchronized void await(long deadlineNs) throws InterruptedException {
+            while (!accepted && running > 0) {
+                long remainingNs = deadlineNs - System.nanoTime();
+                if (remainingNs <= 0) return;
+                TimeUnit.NANOSECONDS.timedWait(this, remainingNs);
+            }
+        }
+
+        synchronized Race outcome(long elapsedNs, boolean interrupted) {
+            if (!accepted && (interrupted || best == null || isOptimal())) {
+                String status = interrupted ? "Cancelled" : (running > 0 ? "Timeout" : "Failed");
+                return new Race(new AlgorithmResult(status, new ArrayList<>(), -1, elapsedNs, 0), null, false);
+            }
+            // Intermediate GA results carry a "Generation i/n" status
+            AlgorithmResult result = new AlgorithmResult("Success", best.path(), best.cost(), elapsedNs,
+                best.nodesExpanded(), best.searchStats());
+            return new Race(result, bestName, accepted);
+        }
+
+        private boolean reachesGoal(AlgorithmResult result, MazeContext context) {
+            List<int[]> path = result.path();
+            if (path == null || path.isEmpty() || result.cost() < 0) return false;
+            int[] last = path.get(path.size() - 1);
+            return last[0] == context.endRow && last[1] == context.endCol;
+        }
+    }
+}
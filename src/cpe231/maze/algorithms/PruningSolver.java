@@ -0,0 +1,55 @@
+package cpe231.maze.algorithms;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+
+/**
+ * Decorator that solves on the dead-end-filled maze ({@link MazeContext#pruned()},
+ * see {@link cpe231.maze.core.DeadEndPruner}).
+ *
+ * The optimal cost is unchanged and the returned path is valid in the
+ * original maze, so any solver can be wrapped. The pruned copy is cached
+ * on the context, so the O(rows * cols) pass is paid once per query
+ * context; it pays off for solvers that revisit the maze many times and
+ * for contexts that are solved repeatedly (registry mazes). The GA solvers
+ * already prune internally.
+ *
+ * Usage Example:
+ * <pre>
+ * MazeSolver solver = new PruningSolver(new DijkstraSolver());
+ * </pre>
+ */
+public class PruningSolver implements MazeSolver {
+
+    private final MazeSolver delegate;
+
+    public PruningSolver(MazeSolver delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        return delegate.solve(context.pruned());
+    }
+
+    public MazeSolver getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName() + " (pruned)";
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return delegate.isOptimal();
+    }
+
+    @Override
+    public String cacheKey() {
+        String key = delegate.cacheKey();
+        return key == null ? null : "Pruned:" + key;
+    }
+}
@@ -1,6 +1,8 @@
 package cpe231.maze.algorithms;
 
 import cpe231.maze.core.*;
+import cpe231.maze.jfr.GenerationTimer;
+import cpe231.maze.jfr.SolveEvent;
 import java.util.*;
 import java.util.function.Consumer;
 
@@ -19,7 +21,7 @@ import java.util.function.Consumer;
  * 
  * @version 2.0
  */
-public class PureGASolver implements MazeSolver {
+public class PureGASolver implements ProgressiveSolver {
 
     // === CONFIGURATION ===
     private static final int POPULATION_SIZE = 500;
@@ -38,6 +40,11 @@ public class PureGASolver implements MazeSolver {
     
     // Progress callback for real-time UI updates
     private Consumer<AlgorithmResult> progressCallback = null;
+    private int progressInterval = DEFAULT_PROGRESS_INTERVAL;
+
+    // Fixed seed for reproducible runs, or null; random is re-created per solve
+    private final Long seed;
+    private Random random = new Random();
 
     /**
      * Individual chromosome representing a candidate path solution.
@@ -61,18 +68,41 @@ public class PureGASolver implements MazeSolver {
 
     // === PUBLIC API ===
 
+    public PureGASolver() {
+        this.seed = null;
+    }
+
+    /**
+     * Seeded solver: every solve of the same maze returns the same path.
+     */
+    public PureGASolver(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Cacheable only when seeded; an unseeded GA returns a different path each run.
+     */
+    @Override
+    public String cacheKey() {
+        return seed == null ? null : "PureGA#seed=" + seed;
+    }
+
     @Override
     public AlgorithmResult solve(MazeContext context) {
-        return solveInternal(context, null);
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(solveInternal(context, null));
     }
 
     /**
      * Solve with progressive updates for real-time visualization.
-     * Publishes intermediate results every 10 generations.
+     * Publishes intermediate results every {@code interval} generations.
      */
+    @Override
     public AlgorithmResult solveWithProgress(MazeContext context, 
-                                            Consumer<AlgorithmResult> callback) {
-        return solveInternal(context, callback);
+                                            Consumer<AlgorithmResult> callback, int interval) {
+        this.progressInterval = Math.max(1, interval);
+        SolveEvent event = SolveEvent.start(this, context);
+        return event.finish(solveInternal(context, callback));
     }
 
     // === CORE ALGORITHM ===
@@ -82,6 +112,7 @@ public class PureGASolver implements MazeSolver {
         long startTime = System.nanoTime();
         long nodesExpanded = 0;
         this.progressCallback = callback;
+        this.random = seed == null ? new Random() : new Random(seed);
 
         // Validate input
         if (context.startRow == context.endRow && context.startCol == context.endCol) {
@@ -90,16 +121,25 @@ public class PureGASolver implements MazeSolver {
                 0, System.nanoTime() - startTime, 0);
         }
 
+        // Disconnected start and goal: no random walk can ever succeed
+        if (!context.isGoalReachable()) {
+            return AlgorithmResult.unreachable(System.nanoTime() - startTime);
+        }
+        // Random walks never enter dead-end branches, so far fewer steps are wasted backtracking
+        context = context.pruned();
+
         // Initialize population with biased random walks
         List<Individual> population = initializePopulation(context);
         if (population.isEmpty()) {
-            return new AlgorithmResult("Failed", new ArrayList<>(), -1, 
+            String status = Thread.currentThread().isInterrupted() ? "Cancelled" : "Failed";
+            return new AlgorithmResult(status, new ArrayList<>(), -1, 
                 System.nanoTime() - startTime, 0);
         }
 
         Individual bestSolution = population.get(0);
         Individual previousBest = bestSolution;
         int stallGenerations = 0;
+        boolean cancelled = false;
 
         System.out.println("\n=== GENETIC ALGORITHM EVOLUTION ===");
         System.out.println("Population: " + POPULATION_SIZE + " | Generations: " + MAX_GENERATIONS);
@@ -107,6 +147,12 @@ public class PureGASolver implements MazeSolver {
 
         // Main evolution loop
         for (int gen = 0; gen < MAX_GENERATIONS; gen++) {
+            // Cancelled by the caller: return the best path so far, but not as a finished (cacheable) run
+            if (Thread.currentThread().isInterrupted()) {
+                cancelled = true;
+                break;
+            }
+            GenerationTimer timer = GenerationTimer.start(this, gen);
             
             // Adaptive mutation rate
             double currentMutationRate = START_MUTATION - 
@@ -122,14 +168,15 @@ public class PureGASolver implements MazeSolver {
             } else {
                 stallGenerations++;
             }
+            timer.evaluationDone();
 
             // Log progress every 100 generations
             if (gen % 100 == 0 || gen == MAX_GENERATIONS - 1) {
                 logEvolutionMetrics(gen, population, bestSolution);
             }
 
-            // Publish progress for UI (every 10 generations)
-            if (progressCallback != null && (gen % 10 == 0 || gen == MAX_GENERATIONS - 1)) {
+            // Publish progress for UI (every progressInterval generations)
+            if (progressCallback != null && (gen % progressInterval == 0 || gen == MAX_GENERATIONS - 1)) {
                 publishProgress(context, bestSolution, gen, startTime, nodesExpanded);
             }
 
@@ -150,20 +197,24 @@ public class PureGASolver implements MazeSolver {
 
             // 2. Breed new individuals
             while (nextGen.size() < POPULATION_SIZE) {
+                timer.mark();
                 Individual parent1 = selectParent(population);
                 Individual parent2 = selectParent(population);
+                timer.selectionDone();
 
                 Individual child;
-                if (Math.random() < CROSSOVER_RATE) {
+                if (random.nextDouble() < CROSSOVER_RATE) {
                     child = crossover(parent1, parent2, context);
                 } else {
                     child = parent1; // Clone parent
                 }
+                timer.crossoverDone();
 
                 // Apply mutation
-                if (Math.random() < currentMutationRate) {
+                if (random.nextDouble() < currentMutationRate) {
                     child = mutate(child, context);
                 }
+                timer.mutationDone();
 
                 nextGen.add(child);
                 nodesExpanded++;
@@ -171,6 +222,7 @@ public class PureGASolver implements MazeSolver {
 
             population = nextGen;
             previousBest = bestSolution;
+            timer.commit(bestSolution.cost, population.size());
         }
 
         long duration = System.nanoTime() - startTime;
@@ -178,7 +230,7 @@ public class PureGASolver implements MazeSolver {
         System.out.printf("Final Cost: %d | Time: %.2f ms | Nodes: %,d%n", 
             bestSolution.cost, duration / 1_000_000.0, nodesExpanded);
 
-        return new AlgorithmResult("Success", bestSolution.path, 
+        return new AlgorithmResult(cancelled ? "Cancelled" : "Success", bestSolution.path, 
             bestSolution.cost, duration, nodesExpanded);
     }
 
@@ -193,7 +245,8 @@ public class PureGASolver implements MazeSolver {
         int attempts = 0;
         int maxAttempts = POPULATION_SIZE * 30;
 
-        while (population.size() < POPULATION_SIZE && attempts < maxAttempts) {
+        while (population.size() < POPULATION_SIZE && attempts < maxAttempts
+                && !Thread.currentThread().isInterrupted()) {
             List<int[]> path = generateBiasedRandomPath(ctx);
             if (path != null) {
                 population.add(encode(path, ctx));
@@ -201,7 +254,9 @@ public class PureGASolver implements MazeSolver {
             attempts++;
         }
 
-        if (population.isEmpty()) {
+        if (Thread.currentThread().isInterrupted()) {
+            return population;
+        } else if (population.isEmpty()) {
             System.err.println("ERROR: Failed to generate any valid paths!");
         } else if (population.size() < POPULATION_SIZE) {
             System.err.println("WARNING: Only generated " + population.size() + 
@@ -253,7 +308,7 @@ public class PureGASolver implements MazeSolver {
 
             // 70% bias toward goal, 30% random
             int[] nextMove;
-            if (Math.random() < 0.7) {
+            if (random.nextDouble() < 0.7) {
                 // Pick move that minimizes Manhattan distance to goal
                 nextMove = validMoves.get(0);
                 int minDist = manhattanDistance(nextMove, ctx.endRow, ctx.endCol);
@@ -267,7 +322,7 @@ public class PureGASolver implements MazeSolver {
                 }
             } else {
                 // Random move
-                nextMove = validMoves.get((int)(Math.random() * validMoves.size()));
+                nextMove = validMoves.get((int)(random.nextDouble() * validMoves.size()));
             }
 
             current = nextMove;
@@ -288,7 +343,7 @@ public class PureGASolver implements MazeSolver {
         int tournamentSize = 5;
 
         for (int i = 0; i < tournamentSize; i++) {
-            Individual candidate = population.get((int)(Math.random() * population.size()));
+            Individual candidate = population.get((int)(random.nextDouble() * population.size()));
             if (best == null || candidate.fitness > best.fitness) {
                 best = candidate;
             }
@@ -319,7 +374,7 @@ public class PureGASolver implements MazeSolver {
         }
 
         // Pick random intersection as crossover point
-        int[] crossoverPoint = intersections.get((int)(Math.random() * intersections.size()));
+        int[] crossoverPoint = intersections.get((int)(random.nextDouble() * intersections.size()));
 
         // Build child: p1 up to crossover point, then p2 after
         List<int[]> childPath = new ArrayList<>();
@@ -361,9 +416,9 @@ public class PureGASolver implements MazeSolver {
         if (path.size() < 5) return ind;
 
         // Select random segment to mutate
-        int startIdx = 1 + (int)(Math.random() * (path.size() - 3));
+        int startIdx = 1 + (int)(random.nextDouble() * (path.size() - 3));
         int segmentLength = Math.min(8, path.size() - startIdx - 1);
-        int endIdx = startIdx + (int)(Math.random() * segmentLength) + 1;
+        int endIdx = startIdx + (int)(random.nextDouble() * segmentLength) + 1;
 
         int[] startPos = path.get(startIdx);
         int[] endPos = path.get(endIdx);
@@ -424,7 +479,7 @@ public class PureGASolver implements MazeSolver {
                 }
             } else {
                 // Pick completely random direction (pure GA mutation)
-                current = validMoves.get((int)(Math.random() * validMoves.size()));
+                current = validMoves.get((int)(random.nextDouble() * validMoves.size()));
                 segment.add(current);
                 visited.add(key(current));
             }
@@ -0,0 +1,80 @@
+package cpe231.maze.algorithms;
+
+import cpe231.maze.core.MazeSolver;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Creates solvers by their short name ("AStar", "Dijkstra", "PureGA", "HybridGA", ...).
+ *
+ * Every call returns a fresh instance, so callers running solvers on
+ * several threads never share per-solve state (e.g. GA progress callbacks).
+ * Name lookup is case-insensitive.
+ */
+public final class SolverFactory {
+
+    private static final Map<String, Supplier<MazeSolver>> REGISTRY = new LinkedHashMap<>();
+    // Stochastic solvers that accept a fixed random seed
+    private static final Map<String, LongFunction<MazeSolver>> SEEDED = new LinkedHashMap<>();
+
+    static {
+        REGISTRY.put("AStar", AStarSolver::new);
+        REGISTRY.put("Dijkstra", DijkstraSolver::new);
+        REGISTRY.put("PureGA", PureGASolver::new);
+        REGISTRY.put("HybridGA", HybridGASolver::new);
+        REGISTRY.put("LandmarkAStar", LandmarkAStarSolver::new);
+        REGISTRY.put("HierarchicalAStar", HierarchicalAStarSolver::new);
+        REGISTRY.put("DeltaStepping", DeltaSteppingSolver::new);
+        REGISTRY.put("AraStar", AraStarSolver::new);
+
+        SEEDED.put("PureGA", PureGASolver::new);
+        SEEDED.put("HybridGA", HybridGASolver::new);
+    }
+
+    private SolverFactory() {}
+
+    /**
+     * @throws IllegalArgumentException if no solver has this name
+     */
+    public static MazeSolver create(String name) {
+        for (Map.Entry<String, Supplier<MazeSolver>> e : REGISTRY.entrySet()) {
+            if (e.getKey().equalsIgnoreCase(name.trim())) {
+                return e.getValue().get();
+            }
+        }
+        throw new IllegalArgumentException("Unknown solver '" + name + "'. Available: " + names());
+    }
+
+    /**
+     * Like {@link #create(String)}, but stochastic solvers use a fixed random
+     * seed so their results are reproducible (and cacheable). Deterministic
+     * solvers ignore the seed.
+     *
+     * @throws IllegalArgumentException if no solver has this name
+     */
+    public static MazeSolver create(String name, long seed) {
+        for (Map.Entry<String, LongFunction<MazeSolver>> e : SEEDED.entrySet()) {
+            if (e.getKey().equalsIgnoreCase(name.trim())) {
+                return e.getValue().apply(seed);
+            }
+        }
+        return create(name);
+    }
+
+    /**
+     * All registered names, in benchmark order.
+     */
+    public static List<String> names() {
+        return List.copyOf(REGISTRY.keySet());
+    }
+
+    /**
+     * Short name used in benchmark tables and CSV files (e.g. "AStar").
+     */
+    public static String shortName(MazeSolver solver) {
+        return solver.getClass().getSimpleName().replace("Solver", "");
+    }
+}
@@ -0,0 +1,388 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.DijkstraSolver;
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import cpe231.maze.core.ProgressiveSolver;
+import cpe231.maze.io.MazeCache;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Solution quality vs. time ("anytime") profile for progressive solvers.
+ *
+ * Each run of a {@link ProgressiveSolver} publishes its best cost after every
+ * generation; the trace is compared with the optimal cost from Dijkstra to
+ * find when the run first reached the optimum and when it first came within
+ * X% of it. Times are measured inside the solver, so they include the cost
+ * of copying the best path for each callback.
+ *
+ * Output: one trace CSV per map ({@code <out>/<map>_anytime.csv}, every
+ * (elapsed, generation, best cost) point of every run) and a summary CSV
+ * ({@code <out>/anytime_summary.csv}, one row per map, solver and run plus
+ * an aggregate row).
+ *
+ * Usage:
+ * <pre>
+ * java -cp bin cpe231.maze.benchmark.AnytimeProfiler \
+ *     [--maps data/m15_15.txt,data/m24_20.txt] [--solvers PureGA,HybridGA] [--runs 5] \
+ *     [--within 1,5,10] [--out output/results/anytime] [--verbose]
+ * </pre>
+ */
+public class AnytimeProfiler {
+
+    /** One progress callback: best cost known {@code elapsedNs} into the run. */
+    public record TracePoint(long elapsedNs, int generation, int bestCost) {}
+
+    /**
+     * One profiled run.
+     *
+     * @param timeToWithinNs   per threshold in {@code withinPct}: first elapsed ns with
+     *                         cost &lt;= optimal * (1 + pct/100), or -1 if never reached
+     * @param genToWithin      same, as a generation number (-1 if never reached)
+     */
+    public record Run(String map, String solver, int run, int optimalCost, int maxGenerations,
+                      AlgorithmResult finalResult, List<TracePoint> trace,
+                      double[] withinPct, long[] timeToWithinNs, int[] genToWithin) {
+
+        public boolean reachedOptimal() {
+            return finalResult.isSuccess() && finalResult.cost() == optimalCost;
+        }
+
+        public long timeToOptimalNs() {
+            for (TracePoint p : trace) {
+                if (p.bestCost() == optimalCost) return p.elapsedNs();
+            }
+            return -1;
+        }
+
+        public int generationToOptimal() {
+            for (TracePoint p : trace) {
+                if (p.bestCost() == optimalCost) return p.generation();
+            }
+            return -1;
+        }
+
+        public double finalGapPct() {
+            return finalResult.isSuccess() ? gapPct(finalResult.cost(), optimalCost) : Double.NaN;
+        }
+    }
+
+    private final double[] withinPct;
+    private final MazeSolver reference = new DijkstraSolver();
+
+    public AnytimeProfiler(double[] withinPct) {
+        for (double p : withinPct) {
+            if (p < 0) throw new IllegalArgumentException("Thresholds must be >= 0: " + p);
+        }
+        this.withinPct = withinPct.clone();
+        Arrays.sort(this.withinPct);
+    }
+
+    /**
+     * Optimal cost of {@code ctx} per Dijkstra, or -1 if unreachable.
+     */
+    public int optimalCost(MazeContext ctx) {
+        AlgorithmResult r = reference.solve(ctx);
+        return r.isSuccess() ? r.cost() : -1;
+    }
+
+    /**
+     * Runs {@code solver} once with a callback on every generation and
+     * derives the time/generation to each threshold.
+     */
+    public Run profile(String mapName, ProgressiveSolver solver, MazeContext ctx, int optimal, int runNumber) {
+        List<TracePoint> trace = new ArrayList<>();
+        int[] maxGenerations = {0};
+        AlgorithmResult result = solver.solveWithProgress(ctx, r -> {
+            int[] progress = ProgressiveSolver.parseProgress(r.status());
+            int generation = progress != null ? progress[0] : trace.size();
+            if (progress != null) maxGenerations[0] = progress[1];
+            trace.add(new TracePoint(r.durationNs(), generation, r.cost()));
+        }, 1);
+
+        long[] timeTo = new long[withinPct.length];
+        int[] genTo = new int[withinPct.length];
+        Arrays.fill(timeTo, -1);
+        Arrays.fill(genTo, -1);
+        for (int i = 0; i < withinPct.length; i++) {
+            double limit = optimal * (1 + withinPct[i] / 100.0);
+            for (TracePoint p : trace) {
+                if (p.bestCost() >= 0 && p.bestCost() <= limit) {
+                    timeTo[i] = p.elapsedNs();
+                    genTo[i] = p.generation();
+                    break;
+                }
+            }
+        }
+        return new Run(mapName, SolverFactory.shortName(solver), runNumber, optimal, maxGenerations[0],
+            result, trace, withinPct, timeTo, genTo);
+    }
+
+    static double gapPct(int cost, int optimal) {
+        return optimal > 0 ? 100.0 * (cost - optimal) / optimal : (cost == optimal ? 0 : Double.NaN);
+    }
+
+    // === Reporting ===
+
+    /**
+     * Writes every trace point of every run on one map.
+     */
+    public static void writeTraceCsv(List<Run> runs, Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("Map,Algorithm,Run,Elapsed_ms,Generation,Max_Generations,Best_Cost,Optimal_Cost,Gap_pct");
+            for (Run run : runs) {
+                for (TracePoint p : run.trace()) {
+                    writer.println(String.join(",",
+                        run.map(), run.solver(), Integer.toString(run.run()),
+                        ResultWriter.fmt("%.4f", p.elapsedNs() / 1e6),
+                        Integer.toString(p.generation()), Integer.toString(run.maxGenerations()),
+                        Integer.toString(p.bestCost()), Integer.toString(run.optimalCost()),
+                        ResultWriter.fmt("%.3f", gapPct(p.bestCost(), run.optimalCost()))));
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes one row per run and, per (map, solver), a "median" row with the
+     * median times over the runs that reached each threshold and the share of
+     * runs that did.
+     */
+    public void writeSummaryCsv(List<Run> runs, Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            StringBuilder header = new StringBuilder("Map,Algorithm,Run,Optimal_Cost,Final_Cost,Final_Gap_pct,"
+                + "Total_ms,Generations_Run,Max_Generations,Time_To_Optimal_ms,Gen_To_Optimal,Gen_To_Optimal_pct,"
+                + "Reached_Optimal_pct");
+            for (double p : withinPct) {
+                String label = ResultWriter.fmt("%.4g", p).replaceAll("\\.?0+$", "");
+                header.append(",Time_To_Within_").append(label).append("pct_ms")
+                    .append(",Gen_To_Within_").append(label).append("pct")
+                    .append(",Reached_Within_").append(label).append("pct_pct");
+            }
+            writer.println(header);
+
+            List<Run> group = new ArrayList<>();
+            for (int i = 0; i < runs.size(); i++) {
+                Run r = runs.get(i);
+                writer.println(runRow(r));
+                group.add(r);
+                boolean last = i == runs.size() - 1
+                    || !runs.get(i + 1).map().equals(r.map()) || !runs.get(i + 1).solver().equals(r.solver());
+                if (last) {
+                    writer.println(medianRow(group));
+                    group.clear();
+                }
+            }
+        }
+    }
+
+    private String runRow(Run r) {
+        List<String> f = new ArrayList<>(Arrays.asList(
+            r.map(), r.solver(), Integer.toString(r.run()), Integer.toString(r.optimalCost()),
+            r.finalResult().isSuccess() ? Integer.toString(r.finalResult().cost()) : "-",
+            fmtOrDash("%.3f", r.finalGapPct()),
+            ResultWriter.fmt("%.3f", r.finalResult().getDurationMs()),
+            Integer.toString(r.trace().isEmpty() ? 0 : r.trace().get(r.trace().size() - 1).generation() + 1),
+            Integer.toString(r.maxGenerations()),
+            msOrDash(r.timeToOptimalNs()),
+            r.generationToOptimal() < 0 ? "-" : Integer.toString(r.generationToOptimal()),
+            genPct(r.generationToOptimal(), r.maxGenerations()),
+            r.reachedOptimal() ? "100" : "0"));
+        for (int i = 0; i < withinPct.length; i++) {
+            f.add(msOrDash(r.timeToWithinNs()[i]));
+            f.add(r.genToWithin()[i] < 0 ? "-" : Integer.toString(r.genToWithin()[i]));
+            f.add(r.genToWithin()[i] < 0 ? "0" : "100");
+        }
+        return String.join(",", f);
+    }
+
+    private String medianRow(List<Run> group) {
+        Run first = group.get(0);
+        double[] finals = group.stream().mapToDouble(Run::finalGapPct).filter(v -> !Double.isNaN(v)).toArray();
+        double[] totals = group.stream().mapToDouble(r -> r.finalResult().getDurationMs()).toArray();
+        List<String> f = new ArrayList<>(Arrays.asList(
+            first.map(), first.solver(), "median", Integer.toString(first.optimalCost()), "-",
+            fmtOrDash("%.3f", median(finals)),
+            fmtOrDash("%.3f", median(totals)),
+            "-", Integer.toString(first.maxGenerations()),
+            fmtOrDash("%.3f", median(reached(group, r -> r.timeToOptimalNs() / 1e6, Run::timeToOptimalNs))),
+            fmtOrDash("%.0f", median(reached(group, r -> r.generationToOptimal(), r -> r.generationToOptimal()))),
+            fmtOrDash("%.2f", 100 * median(reached(group,
+                r -> (double) r.generationToOptimal() / Math.max(1, r.maxGenerations()), r -> r.generationToOptimal()))),
+            ResultWriter.fmt("%.0f", 100.0 * group.stream().filter(Run::reachedOptimal).count() / group.size())));
+        for (int i = 0; i < withinPct.length; i++) {
+            int k = i;
+            f.add(fmtOrDash("%.3f", median(reached(group, r -> r.timeToWithinNs()[k] / 1e6, r -> r.timeToWithinNs()[k]))));
+            f.add(fmtOrDash("%.0f", median(reached(group, r -> r.genToWithin()[k], r -> r.genToWithin()[k]))));
+            f.add(ResultWriter.fmt("%.0f", 100.0 * group.stream().filter(r -> r.genToWithin()[k] >= 0).count()
+                / group.size()));
+        }
+        return String.join(",", f);
+    }
+
+    // Values of the runs where marker(run) >= 0
+    private static double[] reached(List<Run> group, ToDoubleFunction<Run> value,
+                                     ToLongFunction<Run> marker) {
+        return group.stream().filter(r -> marker.applyAsLong(r) >= 0).mapToDouble(value).toArray();
+    }
+
+    private static double median(double[] values) {
+        if (values.length == 0) return Double.NaN;
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return Statistics.percentile(sorted, 50);
+    }
+
+    private static String msOrDash(long ns) {
+        return ns < 0 ? "-" : ResultWriter.fmt("%.3f", ns / 1e6);
+    }
+
+    private static String genPct(int generation, int max) {
+        return generation < 0 || max <= 0 ? "-" : ResultWriter.fmt("%.2f", 100.0 * generation / max);
+    }
+
+    private static String fmtOrDash(String pattern, double v) {
+        return Double.isNaN(v) ? "-" : ResultWriter.fmt(pattern, v);
+    }
+
+    private static void createParent(Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+    }
+
+    private void printRun(Run r) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < withinPct.length; i++) {
+            sb.append(String.format("  <=%s%%: %s", ResultWriter.fmt("%.4g", withinPct[i]).replaceAll("\\.?0+$", ""),
+                r.genToWithin()[i] < 0 ? "never" : "gen " + r.genToWithin()[i]));
+        }
+        System.out.printf("  %-9s run %d  final %5s (gap %6s%%)  optimal at %s%s%n", r.solver(), r.run(),
+            r.finalResult().isSuccess() ? Integer.toString(r.finalResult().cost()) : "-",
+            fmtOrDash("%.2f", r.finalGapPct()),
+            r.generationToOptimal() < 0 ? "never" : String.format("gen %d (%s ms)", r.generationToOptimal(),
+                msOrDash(r.timeToOptimalNs())),
+            sb);
+    }
+
+    public static void main(String[] args) {
+        List<String> maps = List.of("data/m15_15.txt", "data/m24_20.txt", "data/m33_35.txt");
+        List<String> solvers = List.of("PureGA", "HybridGA");
+        int runs = 5;
+        double[] within = {1, 5, 10};
+        String outDir = "output/results/anytime";
+        boolean verbose = false;
+        AnytimeProfiler profiler;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--maps": maps = Arrays.asList(value.split(",")); i++; break;
+                    case "--solvers": solvers = Arrays.asList(value.split(",")); i++; break;
+                    case "--runs": runs = Integer.parseInt(value); i++; break;
+                    case "--within":
+                        within = Arrays.stream(value.split(",")).mapToDouble(s -> Double.parseDouble(s.trim())).toArray();
+                        i++;
+                        break;
+                    case "--out": outDir = value; i++; break;
+                    case "--verbose": verbose = true; break;
+                    case "--help":
+                        printUsage();
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            if (runs < 1) throw new IllegalArgumentException("runs must be >= 1");
+            for (String s : solvers) {
+                if (!(SolverFactory.create(s) instanceof ProgressiveSolver)) {
+                    throw new IllegalArgumentException(s + " does not publish progress; anytime profiling needs "
+                        + "a progressive solver (e.g. PureGA, HybridGA)");
+                }
+            }
+            profiler = new AnytimeProfiler(within);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        System.out.println("\n=== ANYTIME PROFILE (" + runs + " run(s) per solver) ===");
+        List<Run> all = new ArrayList<>();
+        PrintStream console = System.out;
+        boolean failed = false;
+        for (String mapPath : maps) {
+            String mapName = new File(mapPath).getName();
+            MazeContext ctx;
+            try {
+                ctx = MazeCache.shared().load(mapPath);
+            } catch (Exception e) {
+                System.err.println("Error loading " + mapName + ": " + e.getMessage());
+                failed = true;
+                continue;
+            }
+            int optimal = profiler.optimalCost(ctx);
+            if (optimal < 0) {
+                System.err.println(mapName + ": goal unreachable, skipping");
+                continue;
+            }
+            System.out.println(mapName + " (optimal cost " + optimal + ")");
+            List<Run> mapRuns = new ArrayList<>();
+            for (String solverName : solvers) {
+                for (int run = 1; run <= runs; run++) {
+                    ProgressiveSolver solver = (ProgressiveSolver) SolverFactory.create(solverName);
+                    // GA evolution logging would drown the report
+                    if (!verbose) System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                    Run r;
+                    try {
+                        r = profiler.profile(mapName, solver, ctx, optimal, run);
+                    } finally {
+                        System.setOut(console);
+                    }
+                    profiler.printRun(r);
+                    mapRuns.add(r);
+                }
+            }
+            all.addAll(mapRuns);
+            Path tracePath = Paths.get(outDir, mapName.replaceFirst("\\.txt$", "") + "_anytime.csv");
+            try {
+                writeTraceCsv(mapRuns, tracePath);
+            } catch (IOException e) {
+                System.err.println("Error saving " + tracePath + ": " + e.getMessage());
+                failed = true;
+            }
+        }
+
+        Path summaryPath = Paths.get(outDir, "anytime_summary.csv");
+        try {
+            profiler.writeSummaryCsv(all, summaryPath);
+            System.out.println("\nTraces and summary written to " + summaryPath.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            System.err.println("Error saving file: " + e.getMessage());
+            failed = true;
+        }
+        System.exit(failed ? 1 : 0);
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: AnytimeProfiler [--maps a.txt,b.txt] [--solvers PureGA,HybridGA] [--runs N] "
+            + "[--within 1,5,10] [--out dir] [--verbose]");
+    }
+}
@@ -0,0 +1,424 @@
+package cpe231.maze.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Compares a benchmark run against a stored baseline run and flags regressions.
+ *
+ * Rows are matched by (Map, Algorithm). When both runs have per-run samples
+ * ({@code *_samples.csv}), each metric is checked with Welch's t-test and a
+ * change counts only if it is significant ({@code p < alpha}) and at least
+ * {@code minChangePct} large. Older baselines that only have the original
+ * seven summary columns fall back to a plain relative threshold on the averages.
+ *
+ * Usage:
+ * <pre>
+ * java -cp bin cpe231.maze.benchmark.BaselineComparator \
+ *     --baseline output/results/benchmark_avg_results_20251216_235204.csv \
+ *     --current output/results/nightly.csv [--alpha 0.01] [--min-change 5] \
+ *     [--threshold 20] [--report output/results/diff.csv]
+ * </pre>
+ * {@code --baseline latest} picks the newest run in {@code output/results/}.
+ * Exit status: 0 = no regressions, 2 = bad arguments or unreadable files,
+ * {@value #EXIT_REGRESSION} = regression found (the same code {@link HeadlessBenchmark} uses).
+ */
+public class BaselineComparator {
+
+    public static final String RESULTS_DIR = "output/results";
+    public static final double DEFAULT_ALPHA = 0.01;
+    public static final double DEFAULT_MIN_CHANGE_PCT = 5.0;
+    public static final double DEFAULT_THRESHOLD_PCT = 20.0;
+    /** Process exit status when a regression is found. */
+    public static final int EXIT_REGRESSION = 3;
+
+    public enum Metric {
+        SUCCESS("Success", false),
+        TIME("Time_ms", true),
+        NODES("Nodes", true),
+        COST("Cost", true),
+        ALLOC("Alloc_Bytes", true);
+
+        final String label;
+        final boolean higherIsWorse;
+
+        Metric(String label, boolean higherIsWorse) {
+            this.label = label;
+            this.higherIsWorse = higherIsWorse;
+        }
+    }
+
+    public enum Verdict { REGRESSION, IMPROVEMENT, UNCHANGED, NEW, MISSING }
+
+    /**
+     * One (Map, Algorithm) row of a stored run: summary averages plus, when
+     * available, the raw per-run values behind them.
+     */
+    public record Row(String map, String algorithm, boolean success,
+                      Map<Metric, Double> averages, Map<Metric, double[]> samples) {
+        String key() {
+            return map + "|" + algorithm;
+        }
+    }
+
+    /**
+     * One line of the diff report. {@code pValue} is NaN for threshold-only comparisons.
+     */
+    public record Diff(String map, String algorithm, Metric metric, double baseline, double current,
+                       double changePct, double pValue, Verdict verdict) {
+        public String method() {
+            if (verdict == Verdict.NEW || verdict == Verdict.MISSING) return "-";
+            return Double.isNaN(pValue) ? "threshold" : "welch";
+        }
+    }
+
+    private final double alpha;
+    private final double minChangePct;
+    private final double thresholdPct;
+
+    public BaselineComparator() {
+        this(DEFAULT_ALPHA, DEFAULT_MIN_CHANGE_PCT, DEFAULT_THRESHOLD_PCT);
+    }
+
+    public BaselineComparator(double alpha, double minChangePct, double thresholdPct) {
+        if (alpha <= 0 || alpha >= 1) throw new IllegalArgumentException("alpha must be in (0, 1)");
+        if (minChangePct < 0 || thresholdPct < 0) throw new IllegalArgumentException("Thresholds must be >= 0");
+        this.alpha = alpha;
+        this.minChangePct = minChangePct;
+        this.thresholdPct = thresholdPct;
+    }
+
+    // === Comparison ===
+
+    public List<Diff> compare(Map<String, Row> baseline, Map<String, Row> current) {
+        List<Diff> diffs = new ArrayList<>();
+        for (Row base : baseline.values()) {
+            Row cur = current.get(base.key());
+            if (cur == null) {
+                diffs.add(new Diff(base.map(), base.algorithm(), Metric.SUCCESS,
+                    base.success() ? 1 : 0, Double.NaN, Double.NaN, Double.NaN, Verdict.MISSING));
+                continue;
+            }
+            if (base.success() && !cur.success()) {
+                diffs.add(new Diff(base.map(), base.algorithm(), Metric.SUCCESS,
+                    1, 0, -100, Double.NaN, Verdict.REGRESSION));
+                continue;
+            }
+            if (!cur.success()) continue; // failed before and still failing: nothing to measure
+            for (Metric m : Metric.values()) {
+                Diff d = compareMetric(base, cur, m);
+                if (d != null) diffs.add(d);
+            }
+        }
+        for (Row cur : current.values()) {
+            if (!baseline.containsKey(cur.key())) {
+                diffs.add(new Diff(cur.map(), cur.algorithm(), Metric.SUCCESS,
+                    Double.NaN, cur.success() ? 1 : 0, Double.NaN, Double.NaN, Verdict.NEW));
+            }
+        }
+        return diffs;
+    }
+
+    private Diff compareMetric(Row base, Row cur, Metric m) {
+        double[] a = base.samples().get(m);
+        double[] b = cur.samples().get(m);
+        boolean useSamples = a != null && b != null && a.length >= 2 && b.length >= 2;
+
+        double before = useSamples ? Statistics.mean(a) : base.averages().getOrDefault(m, Double.NaN);
+        double after = useSamples ? Statistics.mean(b) : cur.averages().getOrDefault(m, Double.NaN);
+        if (Double.isNaN(before) || Double.isNaN(after)) return null;
+
+        double changePct = before == 0 ? (after == 0 ? 0 : Double.POSITIVE_INFINITY) : (after - before) / before * 100;
+        double pValue = Double.NaN;
+        boolean significant;
+        if (useSamples) {
+            boolean continuous = m == Metric.TIME || m == Metric.ALLOC;
+            // Latencies are right-skewed (JIT, GC pauses); test on the log scale
+            pValue = continuous && allPositive(a) && allPositive(b)
+                ? Statistics.welchTTestPValue(log(a), log(b))
+                : Statistics.welchTTestPValue(a, b);
+            // Cost, nodes and success are exact counts: any significant shift matters
+            double floor = continuous ? minChangePct : 0;
+            significant = pValue < alpha && Math.abs(changePct) >= floor && before != after;
+        } else {
+            significant = Math.abs(changePct) >= thresholdPct && before != after;
+        }
+
+        Verdict verdict = Verdict.UNCHANGED;
+        if (significant) {
+            boolean worse = m.higherIsWorse ? after > before : after < before;
+            verdict = worse ? Verdict.REGRESSION : Verdict.IMPROVEMENT;
+        }
+        return new Diff(base.map(), base.algorithm(), m, before, after, changePct, pValue, verdict);
+    }
+
+    private static boolean allPositive(double[] xs) {
+        return Arrays.stream(xs).allMatch(v -> v > 0);
+    }
+
+    private static double[] log(double[] xs) {
+        return Arrays.stream(xs).map(Math::log).toArray();
+    }
+
+    public static boolean hasRegression(List<Diff> diffs) {
+        return diffs.stream().anyMatch(d -> d.verdict() == Verdict.REGRESSION);
+    }
+
+    // === Loading stored runs ===
+
+    /**
+     * Loads a summary CSV (any version of the {@link ResultWriter} schema,
+     * including the original seven columns) and its {@code *_samples.csv} if present.
+     */
+    public static Map<String, Row> load(Path summaryCsv) throws IOException {
+        if (summaryCsv.toString().toLowerCase().endsWith(".json")) {
+            throw new IOException("JSON runs cannot be used as a baseline; write the run as CSV");
+        }
+        List<String> lines = Files.readAllLines(summaryCsv, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) throw new IOException("Empty results file: " + summaryCsv);
+        Map<String, Integer> cols = columns(lines.get(0));
+        for (String required : new String[] {"Map", "Algorithm", "Status", "Avg_Time_ms"}) {
+            if (!cols.containsKey(required)) {
+                throw new IOException(summaryCsv + ": missing column " + required);
+            }
+        }
+
+        Map<String, List<double[]>> samples = loadSamples(ResultWriter.samplesPathFor(summaryCsv));
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) continue;
+            String[] f = lines.get(i).split(",", -1);
+            String map = f[cols.get("Map")];
+            String algorithm = f[cols.get("Algorithm")];
+            boolean success = "SUCCESS".equals(f[cols.get("Status")]);
+
+            Map<Metric, Double> averages = new EnumMap<>(Metric.class);
+            averages.put(Metric.SUCCESS, cols.containsKey("Success_Rate")
+                ? number(f, cols.get("Success_Rate")) : (success ? 1.0 : 0.0));
+            averages.put(Metric.TIME, number(f, cols.get("Avg_Time_ms")));
+            averages.put(Metric.COST, number(f, cols.get("Avg_Cost")));
+            averages.put(Metric.NODES, number(f, cols.get("Avg_Nodes_Expanded")));
+            averages.put(Metric.ALLOC, number(f, cols.get("Avg_Alloc_Bytes")));
+
+            String key = map + "|" + algorithm;
+            rows.put(key, new Row(map, algorithm, success, averages,
+                toSampleArrays(samples.getOrDefault(key, Collections.emptyList()))));
+        }
+        return rows;
+    }
+
+    // Per key: {success 0/1, time, cost, nodes, alloc} for every run
+    private static Map<String, List<double[]>> loadSamples(Path samplesCsv) throws IOException {
+        Map<String, List<double[]>> byKey = new HashMap<>();
+        if (!Files.exists(samplesCsv)) return byKey;
+        List<String> lines = Files.readAllLines(samplesCsv, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) return byKey;
+        Map<String, Integer> cols = columns(lines.get(0));
+        for (int i = 1; i < lines.size(); i++) {
+            if (lines.get(i).isBlank()) continue;
+            String[] f = lines.get(i).split(",", -1);
+            String key = f[cols.get("Map")] + "|" + f[cols.get("Algorithm")];
+            byKey.computeIfAbsent(key, k -> new ArrayList<>()).add(new double[] {
+                "SUCCESS".equals(f[cols.get("Status")]) ? 1 : 0,
+                number(f, cols.get("Time_ms")),
+                number(f, cols.get("Cost")),
+                number(f, cols.get("Nodes_Expanded")),
+                number(f, cols.get("Alloc_Bytes"))
+            });
+        }
+        return byKey;
+    }
+
+    private static Map<Metric, double[]> toSampleArrays(List<double[]> runs) {
+        Map<Metric, double[]> out = new EnumMap<>(Metric.class);
+        if (runs.isEmpty()) return out;
+        out.put(Metric.SUCCESS, runs.stream().mapToDouble(r -> r[0]).toArray());
+        out.put(Metric.TIME, successful(runs, 1));
+        out.put(Metric.COST, successful(runs, 2));
+        out.put(Metric.NODES, successful(runs, 3));
+        double[] alloc = successful(runs, 4);
+        // -1 means the JVM could not measure allocation
+        if (alloc.length > 0 && Arrays.stream(alloc).allMatch(v -> v >= 0)) {
+            out.put(Metric.ALLOC, alloc);
+        }
+        return out;
+    }
+
+    private static double[] successful(List<double[]> runs, int column) {
+        return runs.stream().filter(r -> r[0] == 1).mapToDouble(r -> r[column]).filter(v -> !Double.isNaN(v)).toArray();
+    }
+
+    private static Map<String, Integer> columns(String header) {
+        Map<String, Integer> cols = new HashMap<>();
+        String[] names = header.trim().split(",");
+        for (int i = 0; i < names.length; i++) cols.put(names[i].trim(), i);
+        return cols;
+    }
+
+    // "-" (failed rows) and absent columns read as NaN
+    private static double number(String[] fields, Integer index) {
+        if (index == null || index >= fields.length) return Double.NaN;
+        try {
+            return Double.parseDouble(fields[index].trim());
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Newest {@code benchmark_avg_results_*.csv} in {@code dir}, skipping {@code exclude}.
+     * File names carry a sortable timestamp, so the lexically last one is the newest.
+     */
+    public static Optional<Path> latestRun(Path dir, Path exclude) throws IOException {
+        if (!Files.isDirectory(dir)) return Optional.empty();
+        Path skip = exclude == null ? null : exclude.toAbsolutePath().normalize();
+        try (Stream<Path> files = Files.list(dir)) {
+            return files
+                .filter(p -> {
+                    String name = p.getFileName().toString();
+                    return name.startsWith("benchmark_avg_results_") && name.endsWith(".csv")
+                        && !name.endsWith("_samples.csv");
+                })
+                .filter(p -> !p.toAbsolutePath().normalize().equals(skip))
+                .max((x, y) -> x.getFileName().toString().compareTo(y.getFileName().toString()));
+        }
+    }
+
+    // === Reporting ===
+
+    public static void printReport(List<Diff> diffs, PrintStream out) {
+        out.printf("%-14s %-10s %-11s %14s %14s %9s %9s  %s%n",
+            "Map", "Algorithm", "Metric", "Baseline", "Current", "Change", "p", "Verdict");
+        Map<Verdict, Integer> counts = new EnumMap<>(Verdict.class);
+        for (Diff d : diffs) {
+            counts.merge(d.verdict(), 1, Integer::sum);
+            // Unmatched rows are usually just a narrower --maps/--solvers selection
+            if (d.verdict() != Verdict.REGRESSION && d.verdict() != Verdict.IMPROVEMENT) continue;
+            out.printf("%-14s %-10s %-11s %14s %14s %9s %9s  %s%n",
+                d.map(), d.algorithm(), d.metric().label,
+                value(d.baseline()), value(d.current()),
+                Double.isNaN(d.changePct()) ? "-" : ResultWriter.fmt("%+.1f%%", d.changePct()),
+                Double.isNaN(d.pValue()) ? d.method() : ResultWriter.fmt("%.4f", d.pValue()),
+                d.verdict());
+        }
+        out.printf("%d regression(s), %d improvement(s), %d unchanged metric(s), "
+            + "%d row(s) only in baseline, %d row(s) only in current%n",
+            counts.getOrDefault(Verdict.REGRESSION, 0), counts.getOrDefault(Verdict.IMPROVEMENT, 0),
+            counts.getOrDefault(Verdict.UNCHANGED, 0), counts.getOrDefault(Verdict.MISSING, 0),
+            counts.getOrDefault(Verdict.NEW, 0));
+    }
+
+    public static void writeReport(List<Diff> diffs, Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("Map,Algorithm,Metric,Baseline,Current,Change_pct,P_Value,Method,Verdict");
+            for (Diff d : diffs) {
+                writer.println(String.join(",",
+                    d.map(), d.algorithm(), d.metric().label,
+                    value(d.baseline()), value(d.current()),
+                    Double.isNaN(d.changePct()) ? "-" : ResultWriter.fmt("%.2f", d.changePct()),
+                    Double.isNaN(d.pValue()) ? "-" : ResultWriter.fmt("%.6f", d.pValue()),
+                    d.method(), d.verdict().name()));
+            }
+        }
+    }
+
+    private static String value(double v) {
+        if (Double.isNaN(v)) return "-";
+        return ResultWriter.fmt(Math.abs(v) >= 10000 ? "%.0f" : "%.4f", v);
+    }
+
+    /**
+     * Loads both runs, prints the report (and writes it when {@code reportPath}
+     * is set) and returns whether any regression was found.
+     */
+    public boolean compareFiles(Path baselinePath, Path currentPath, Path reportPath) throws IOException {
+        List<Diff> diffs = compare(load(baselinePath), load(currentPath));
+        System.out.println("\n=== BASELINE COMPARISON ===");
+        System.out.println("Baseline: " + baselinePath);
+        System.out.println("Current:  " + currentPath);
+        printReport(diffs, System.out);
+        if (reportPath != null) {
+            writeReport(diffs, reportPath);
+            System.out.println("Diff report written to " + reportPath.toAbsolutePath());
+        }
+        return hasRegression(diffs);
+    }
+
+    /**
+     * Resolves {@code "latest"} to the newest stored run other than {@code current}.
+     */
+    public static Path resolveBaseline(String value, Path current) throws IOException {
+        if (!"latest".equalsIgnoreCase(value)) return Paths.get(value);
+        return latestRun(Paths.get(RESULTS_DIR), current)
+            .orElseThrow(() -> new IOException("No stored runs in " + RESULTS_DIR));
+    }
+
+    public static void main(String[] args) {
+        String baseline = null;
+        String current = null;
+        String report = null;
+        double alpha = DEFAULT_ALPHA;
+        double minChange = DEFAULT_MIN_CHANGE_PCT;
+        double threshold = DEFAULT_THRESHOLD_PCT;
+        BaselineComparator comparator;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--baseline": baseline = value; i++; break;
+                    case "--current": current = value; i++; break;
+                    case "--report": report = value; i++; break;
+                    case "--alpha": alpha = Double.parseDouble(value); i++; break;
+                    case "--min-change": minChange = Double.parseDouble(value); i++; break;
+                    case "--threshold": threshold = Double.parseDouble(value); i++; break;
+                    case "--help":
+                        printUsage();
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            if (baseline == null || current == null) {
+                throw new IllegalArgumentException("--baseline and --current are required");
+            }
+            comparator = new BaselineComparator(alpha, minChange, threshold);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        try {
+            Path currentPath = Paths.get(current);
+            boolean regressed = comparator.compareFiles(resolveBaseline(baseline, currentPath),
+                currentPath, report != null ? Paths.get(report) : null);
+            System.exit(regressed ? EXIT_REGRESSION : 0);
+        } catch (IOException e) {
+            System.err.println("Error reading results: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: BaselineComparator --baseline file.csv|latest --current file.csv "
+            + "[--alpha 0.01] [--min-change PCT] [--threshold PCT (no samples)] [--report diff.csv]");
+    }
+}
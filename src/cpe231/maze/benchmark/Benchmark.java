@@ -1,21 +1,22 @@
 package cpe231.maze.benchmark;
 
-import cpe231.maze.algorithms.*;
-import cpe231.maze.core.*;
-import cpe231.maze.io.MazeLoader;
+import cpe231.maze.algorithms.SolverFactory;
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import java.awt.*;
-import java.io.*;
-import java.text.SimpleDateFormat;
-import java.util.*;
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
 
 /**
  * Professional benchmark suite with averaged results over multiple runs.
  * Tests all algorithms across all maze files and exports CSV results.
+ * 
+ * This class is the Swing viewer; measurement lives in {@link BenchmarkEngine}
+ * and {@link HeadlessBenchmark} runs the same suite without a display.
  */
 public class Benchmark {
     
@@ -24,8 +25,10 @@ public class Benchmark {
     private static DefaultTableModel tableModel;
     private static JProgressBar progressBar;
     private static JButton exportButton;
+    private static List<BenchmarkResult> results = List.of();
     
     private static final int ITERATIONS = 10; // Average over 10 runs
+    private static final int WARMUP = BenchmarkConfig.DEFAULT_WARMUP; // Discarded JIT warmup runs
     
     private static final Color PRIMARY_BG = new Color(240, 242, 245);
     private static final Color ACCENT_COLOR = new Color(37, 99, 235);
@@ -33,6 +36,10 @@ public class Benchmark {
     private static final Color ERROR_COLOR = new Color(239, 68, 68);
 
     public static void main(String[] args) {
+        if (args.length > 0 || GraphicsEnvironment.isHeadless()) {
+            HeadlessBenchmark.main(args);
+            return;
+        }
         Benchmark.runBenchmarkSuite();
     }
     
@@ -48,7 +55,7 @@ public class Benchmark {
     private static void createBenchmarkDialog() {
         benchmarkDialog = new JDialog((Frame)null, "Benchmark Results (Average of " + ITERATIONS + " Runs)", false);
         benchmarkDialog.setLayout(new BorderLayout());
-        benchmarkDialog.setSize(1100, 700);
+        benchmarkDialog.setSize(1500, 700);
         benchmarkDialog.setLocationRelativeTo(null);
         benchmarkDialog.getContentPane().setBackground(PRIMARY_BG);
         
@@ -63,7 +70,8 @@ public class Benchmark {
         titleLabel.setFont(new Font("Segoe UI", Font.BOLD, 22));
         titleLabel.setForeground(Color.WHITE);
         
-        JLabel subtitleLabel = new JLabel("Average performance over " + ITERATIONS + " runs per map");
+        JLabel subtitleLabel = new JLabel("Average performance over " + ITERATIONS + " runs per map (after "
+            + WARMUP + " warmup runs)");
         subtitleLabel.setFont(new Font("Segoe UI", Font.PLAIN, 13));
         subtitleLabel.setForeground(new Color(156, 163, 175));
         
@@ -74,7 +82,7 @@ public class Benchmark {
         
         benchmarkDialog.add(headerPanel, BorderLayout.NORTH);
         
-        String[] columns = {"Map", "Algorithm", "Status", "Avg Time (ms)", "Avg Cost", "Avg Nodes", "Avg Path"};
+        String[] columns = BenchmarkResult.tableColumns();
         tableModel = new DefaultTableModel(columns, 0) {
             @Override
             public boolean isCellEditable(int row, int column) {
@@ -105,6 +113,9 @@ public class Benchmark {
         resultTable.getColumnModel().getColumn(4).setPreferredWidth(80);
         resultTable.getColumnModel().getColumn(5).setPreferredWidth(110);
         resultTable.getColumnModel().getColumn(6).setPreferredWidth(110);
+        for (int i = 7; i < columns.length; i++) {
+            resultTable.getColumnModel().getColumn(i).setPreferredWidth(i == columns.length - 1 ? 130 : 80);
+        }
         
         resultTable.getColumnModel().getColumn(2).setCellRenderer(new DefaultTableCellRenderer() {
             @Override
@@ -166,7 +177,7 @@ public class Benchmark {
             }
         };
         
-        for (int i = 0; i < 7; i++) {
+        for (int i = 0; i < columns.length; i++) {
             if (i != 2) {
                 resultTable.getColumnModel().getColumn(i).setCellRenderer(cellRenderer);
             }
@@ -213,6 +224,7 @@ public class Benchmark {
         JButton clearButton = createStyledButton("✕ Clear", new Color(107, 114, 128));
         clearButton.addActionListener(e -> {
             tableModel.setRowCount(0);
+            results = List.of();
             exportButton.setEnabled(false);
             progressBar.setValue(0);
             progressBar.setString("Ready to benchmark");
@@ -262,120 +274,42 @@ public class Benchmark {
             try {
                 System.out.println("\n=== BENCHMARK STARTED (Averaging " + ITERATIONS + " runs) ===");
                 
-                File folder = new File("data");
-                File[] files = folder.listFiles((d, name) -> name.endsWith(".txt"));
-                
-                if (files == null || files.length == 0) {
+                List<String> maps = BenchmarkEngine.listMazeFiles("data");
+                if (maps.isEmpty()) {
                     JOptionPane.showMessageDialog(benchmarkDialog, 
                         "No maze files found in 'data' folder", 
                         "Error", JOptionPane.ERROR_MESSAGE);
                     return;
                 }
                 
-                Arrays.sort(files, (f1, f2) -> {
-                    int n1 = extractNumber(f1.getName());
-                    int n2 = extractNumber(f2.getName());
-                    return Integer.compare(n1, n2);
-                });
-
-                MazeSolver[] solvers = {
-                    new AStarSolver(),
-                    new DijkstraSolver(),
-                    new PureGASolver(),
-                    new HybridGASolver()
-                };
-
-                int totalSteps = files.length * solvers.length;
-                int stepCount = 0;
-                
-                SwingUtilities.invokeLater(() -> {
-                    progressBar.setMaximum(totalSteps);
-                    progressBar.setValue(0);
-                    progressBar.setString("Starting average benchmark...");
-                    tableModel.setRowCount(0);
-                });
-
-                for (File file : files) {
-                    try {
-                        MazeLoader.loadMaze(file.getPath());
-                        
-                        System.out.println("Benchmarking: " + file.getName());
-                        
-                        for (MazeSolver solver : solvers) {
-                            
-                            double totalTime = 0;
-                            long totalCost = 0;
-                            long totalNodes = 0;
-                            long totalPathLen = 0;
-                            int successfulRuns = 0;
-                            
-                            String algoName = solver.getClass().getSimpleName()
-                                    .replace("Solver", "")
-                                    .replace("V10", "");
-
-                            for (int i = 0; i < ITERATIONS; i++) {
-                                MazeContext ctx = new MazeContext(
-                                    MazeLoader.maze, 
-                                    MazeLoader.startRow, MazeLoader.startCol, 
-                                    MazeLoader.endRow, MazeLoader.endCol
-                                );
-                                
-                                try {
-                                    AlgorithmResult result = solver.solve(ctx);
-                                    if (result.isSuccess()) {
-                                        totalTime += result.getDurationMs();
-                                        totalCost += result.cost();
-                                        totalNodes += result.nodesExpanded();
-                                        totalPathLen += result.path().size();
-                                        successfulRuns++;
-                                    }
-                                } catch (Exception e) {
-                                    System.err.println("  Run " + (i+1) + " failed: " + e.getMessage());
-                                }
-                            }
-                            
-                            final Object[] rowData;
-                            if (successfulRuns > 0) {
-                                double avgTime = totalTime / successfulRuns;
-                                double avgCost = (double) totalCost / successfulRuns;
-                                double avgNodes = (double) totalNodes / successfulRuns;
-                                double avgPath = (double) totalPathLen / successfulRuns;
-                                
-                                rowData = new Object[]{
-                                    file.getName(),
-                                    algoName,
-                                    "SUCCESS (" + successfulRuns + "/" + ITERATIONS + ")",
-                                    String.format("%.2f", avgTime),
-                                    String.format("%.1f", avgCost),
-                                    String.format("%,.0f", avgNodes),
-                                    String.format("%.1f", avgPath)
-                                };
-                            } else {
-                                rowData = new Object[]{
-                                    file.getName(),
-                                    algoName,
-                                    "FAILED",
-                                    "-", "-", "-", "-"
-                                };
-                            }
+                // Leave one core for the EDT so the table stays responsive while cells stream in
+                int workers = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+                BenchmarkConfig config = new BenchmarkConfig(maps, SolverFactory.names(), WARMUP, ITERATIONS,
+                    workers, BenchmarkScheduler.IsolationPolicy.ONE_JOB_PER_CORE);
+                List<BenchmarkResult> collected = new BenchmarkEngine().run(config, new BenchmarkListener() {
+                    @Override
+                    public void onStart(int totalSteps) {
+                        SwingUtilities.invokeLater(() -> {
+                            progressBar.setMaximum(totalSteps);
+                            progressBar.setValue(0);
+                            progressBar.setString("Starting average benchmark...");
+                            tableModel.setRowCount(0);
+                        });
+                    }
 
-                            final int currentStep = ++stepCount;
-                            SwingUtilities.invokeLater(() -> {
-                                tableModel.addRow(rowData);
-                                progressBar.setValue(currentStep);
-                                progressBar.setString(String.format("Processed %d/%d (Map: %s)", 
-                                    currentStep, totalSteps, file.getName()));
-                            });
-                            
-                            Thread.sleep(20);
-                        }
-                        
-                    } catch (Exception e) {
-                        System.err.println("Error loading " + file.getName() + ": " + e.getMessage());
+                    @Override
+                    public void onResult(BenchmarkResult result, int step, int totalSteps) {
+                        SwingUtilities.invokeLater(() -> {
+                            tableModel.addRow(result.toTableRow());
+                            progressBar.setValue(step);
+                            progressBar.setString(String.format("Processed %d/%d (Map: %s)", 
+                                step, totalSteps, result.map()));
+                        });
                     }
-                }
+                });
                 
                 SwingUtilities.invokeLater(() -> {
+                    results = collected;
                     progressBar.setString("✓ Average Benchmark Complete");
                     exportButton.setEnabled(true);
                     
@@ -401,35 +335,15 @@ public class Benchmark {
     private static void exportToCSV() {
         JFileChooser fileChooser = new JFileChooser();
         fileChooser.setDialogTitle("Save Averaged Benchmark Results");
-        
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-        fileChooser.setSelectedFile(new File("benchmark_avg_results_" + timestamp + ".csv"));
+        fileChooser.setSelectedFile(new File(ResultWriter.defaultFileName("csv")));
         
         int userSelection = fileChooser.showSaveDialog(benchmarkDialog);
         
         if (userSelection == JFileChooser.APPROVE_OPTION) {
             File fileToSave = fileChooser.getSelectedFile();
             
-            try (PrintWriter writer = new PrintWriter(fileToSave)) {
-                writer.println("Map,Algorithm,Status,Avg_Time_ms,Avg_Cost,Avg_Nodes_Expanded,Avg_Path_Length");
-                
-                for (int i = 0; i < tableModel.getRowCount(); i++) {
-                    for (int j = 0; j < tableModel.getColumnCount(); j++) {
-                        Object value = tableModel.getValueAt(i, j);
-                        String strValue = value != null ? value.toString() : "";
-                        strValue = strValue.replace(",", "");
-                        
-                        if (j == 2 && strValue.contains("SUCCESS")) {
-                            strValue = "SUCCESS";
-                        }
-                        
-                        writer.print(strValue);
-                        if (j < tableModel.getColumnCount() - 1) {
-                            writer.print(",");
-                        }
-                    }
-                    writer.println();
-                }
+            try {
+                ResultWriter.write(results, fileToSave.toPath());
                 
                 JOptionPane.showMessageDialog(benchmarkDialog, 
                     "Export Successful!\n" + fileToSave.getAbsolutePath(), 
@@ -444,9 +358,4 @@ public class Benchmark {
             }
         }
     }
-    
-    private static int extractNumber(String s) {
-        String num = s.replaceAll("\\D", "");
-        return num.isEmpty() ? 0 : Integer.parseInt(num);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package cpe231.maze.benchmark;
+
+import java.util.List;
+
+/**
+ * What to benchmark: maze files, solver names (see
+ * {@link cpe231.maze.algorithms.SolverFactory}), discarded warmup runs and
+ * measured runs per (map, solver) pair, plus how many (map, solver) cells may
+ * run at once (see {@link BenchmarkScheduler}).
+ */
+public record BenchmarkConfig(
+    List<String> mapPaths,
+    List<String> solverNames,
+    int warmupIterations,
+    int iterations,
+    int workers,
+    BenchmarkScheduler.IsolationPolicy isolation
+) {
+    /** Warmup runs used when none are specified (lets the JIT compile the solver). */
+    public static final int DEFAULT_WARMUP = 2;
+
+    public BenchmarkConfig(List<String> mapPaths, List<String> solverNames, int iterations) {
+        this(mapPaths, solverNames, DEFAULT_WARMUP, iterations);
+    }
+
+    /**
+     * Sequential configuration: one cell at a time on the calling thread.
+     */
+    public BenchmarkConfig(List<String> mapPaths, List<String> solverNames, int warmupIterations, int iterations) {
+        this(mapPaths, solverNames, warmupIterations, iterations, 1,
+            BenchmarkScheduler.IsolationPolicy.SERIALIZED_TIMING);
+    }
+
+    public BenchmarkConfig {
+        if (mapPaths == null || mapPaths.isEmpty()) {
+            throw new IllegalArgumentException("At least one map is required");
+        }
+        if (solverNames == null || solverNames.isEmpty()) {
+            throw new IllegalArgumentException("At least one solver is required");
+        }
+        if (warmupIterations < 0) {
+            throw new IllegalArgumentException("warmupIterations must be >= 0");
+        }
+        if (iterations < 1) {
+            throw new IllegalArgumentException("iterations must be >= 1");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be >= 1");
+        }
+        if (isolation == null) {
+            throw new IllegalArgumentException("isolation policy is required");
+        }
+        mapPaths = List.copyOf(mapPaths);
+        solverNames = List.copyOf(solverNames);
+    }
+}
@@ -0,0 +1,137 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.*;
+import cpe231.maze.io.MazeCache;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Measurement engine shared by the Swing dialog and the headless runner.
+ * Has no UI dependencies: results are returned and streamed to a
+ * {@link BenchmarkListener}.
+ */
+public class BenchmarkEngine {
+
+    /**
+     * Runs every solver on every map and returns the rows in (map, solver) order.
+     * With more than one worker the cells are handed to a {@link BenchmarkScheduler}
+     * and results reach the listener in completion order.
+     */
+    public List<BenchmarkResult> run(BenchmarkConfig config, BenchmarkListener listener) {
+        if (config.workers() > 1) {
+            return new BenchmarkScheduler(this, config).run(listener);
+        }
+        List<BenchmarkResult> results = new ArrayList<>();
+        int totalSteps = config.mapPaths().size() * config.solverNames().size();
+        int step = 0;
+        listener.onStart(totalSteps);
+
+        for (String mapPath : config.mapPaths()) {
+            String mapName = new File(mapPath).getName();
+            MazeContext ctx;
+            try {
+                ctx = MazeCache.shared().load(mapPath);
+            } catch (Exception e) {
+                System.err.println("Error loading " + mapName + ": " + e.getMessage());
+                listener.onError(mapName, e);
+                step += config.solverNames().size();
+                continue;
+            }
+
+            System.out.println("Benchmarking: " + mapName);
+            for (String solverName : config.solverNames()) {
+                BenchmarkResult result = measure(mapName, SolverFactory.create(solverName), ctx,
+                    config.warmupIterations(), config.iterations());
+                results.add(result);
+                listener.onResult(result, ++step, totalSteps);
+            }
+        }
+        listener.onComplete();
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Solves {@code ctx} {@code warmup} times (discarded), then
+     * {@code iterations} times, keeping every measured run as a raw sample.
+     */
+    public BenchmarkResult measure(String mapName, MazeSolver solver, MazeContext ctx,
+                                   int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            try {
+                solver.solve(ctx);
+            } catch (Exception e) {
+                System.err.println("  Warmup " + (i + 1) + " failed: " + e.getMessage());
+            }
+        }
+
+        List<RunSample> samples = new ArrayList<>(iterations);
+        double totalTime = 0;
+        long totalCost = 0;
+        long totalNodes = 0;
+        long totalPathLen = 0;
+        int successfulRuns = 0;
+        List<SearchStats> searchStats = new ArrayList<>();
+
+        for (int i = 0; i < iterations; i++) {
+            try {
+                AlgorithmResult result = SolveProfiler.profile(solver, ctx);
+                SolveMetrics m = result.metrics();
+                samples.add(new RunSample(i + 1, result.isSuccess(), result.durationNs(),
+                    result.cost(), result.nodesExpanded(), result.path().size(),
+                    m.allocatedBytes(), m.cpuTimeNs(), m.wallTimeNs(), m.gcCount(), m.gcTimeMs()));
+                if (result.isSuccess()) {
+                    totalTime += result.getDurationMs();
+                    totalCost += result.cost();
+                    totalNodes += result.nodesExpanded();
+                    totalPathLen += result.path().size();
+                    successfulRuns++;
+                    if (result.searchStats() != null) searchStats.add(result.searchStats());
+                }
+            } catch (Exception e) {
+                System.err.println("  Run " + (i + 1) + " failed: " + e.getMessage());
+                samples.add(new RunSample(i + 1, false, 0, -1, 0, 0, -1, -1, 0, 0, 0));
+            }
+        }
+
+        String algoName = SolverFactory.shortName(solver);
+        if (successfulRuns == 0) {
+            return new BenchmarkResult(mapName, algoName, warmup, iterations, 0, 0, 0, 0, 0,
+                LatencyStats.EMPTY, ResourceUsage.EMPTY, null, samples);
+        }
+        double[] times = samples.stream()
+            .filter(RunSample::success)
+            .mapToDouble(RunSample::durationMs)
+            .toArray();
+        return new BenchmarkResult(mapName, algoName, warmup, iterations, successfulRuns,
+            totalTime / successfulRuns,
+            (double) totalCost / successfulRuns,
+            (double) totalNodes / successfulRuns,
+            (double) totalPathLen / successfulRuns,
+            LatencyStats.of(times),
+            ResourceUsage.of(samples),
+            SearchStats.mean(searchStats),
+            samples);
+    }
+
+    /**
+     * All {@code .txt} mazes in a directory, sorted by the size encoded in
+     * their names (m15_15 before m100_100).
+     */
+    public static List<String> listMazeFiles(String directory) {
+        File[] files = new File(directory).listFiles((d, name) -> name.endsWith(".txt"));
+        if (files == null) return List.of();
+        Arrays.sort(files, (f1, f2) -> Integer.compare(extractNumber(f1.getName()), extractNumber(f2.getName())));
+        List<String> paths = new ArrayList<>();
+        for (File f : files) paths.add(f.getPath());
+        return paths;
+    }
+
+    static int extractNumber(String s) {
+        String num = s.replaceAll("\\D", "");
+        return num.isEmpty() ? 0 : Integer.parseInt(num);
+    }
+}
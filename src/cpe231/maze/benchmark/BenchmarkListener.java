@@ -0,0 +1,17 @@
+package cpe231.maze.benchmark;
+
+/**
+ * Receives benchmark progress. Callbacks arrive on a benchmark thread (a
+ * scheduler worker when running in parallel) but never concurrently, so
+ * implementations need no locking; UI listeners must hop to the EDT themselves.
+ */
+public interface BenchmarkListener {
+
+    default void onStart(int totalSteps) {}
+
+    default void onResult(BenchmarkResult result, int step, int totalSteps) {}
+
+    default void onError(String map, Exception e) {}
+
+    default void onComplete() {}
+}
@@ -0,0 +1,98 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.core.SearchStats;
+
+import java.util.List;
+
+/**
+ * Aggregated measurements for one (map, algorithm) pair.
+ * Averages and latency statistics cover successful measured runs only;
+ * warmup runs are excluded entirely and failures show up in the success rate.
+ * {@code searchStats} is null for solvers that do not report {@link SearchStats}.
+ */
+public record BenchmarkResult(
+    String map,
+    String algorithm,
+    int warmupIterations,
+    int iterations,
+    int successfulRuns,
+    double avgTimeMs,
+    double avgCost,
+    double avgNodes,
+    double avgPathLength,
+    LatencyStats latency,
+    ResourceUsage resources,
+    SearchStats searchStats,
+    List<RunSample> samples
+) {
+    public BenchmarkResult {
+        samples = List.copyOf(samples);
+    }
+
+    public boolean isSuccess() {
+        return successfulRuns > 0;
+    }
+
+    /**
+     * Fraction of measured runs that succeeded (0..1).
+     */
+    public double successRate() {
+        return iterations == 0 ? 0 : (double) successfulRuns / iterations;
+    }
+
+    /**
+     * Status as shown in the Swing table, e.g. "SUCCESS (10/10)".
+     */
+    public String statusLabel() {
+        return isSuccess() ? "SUCCESS (" + successfulRuns + "/" + iterations + ")" : "FAILED";
+    }
+
+    /**
+     * Column names matching {@link #toTableRow()}.
+     */
+    public static String[] tableColumns() {
+        return new String[]{"Map", "Algorithm", "Status", "Avg Time (ms)", "Avg Cost", "Avg Nodes", "Avg Path",
+            "Success %", "Median (ms)", "P90 (ms)", "P99 (ms)", "Min (ms)", "Max (ms)", "Std Dev", "95% CI (ms)",
+            "Alloc/Run (MB)", "Alloc MB/s", "CPU (ms)", "CPU/Wall", "GCs", "GC (ms)",
+            "Stale Skips", "Pushes", "Peak Queue", "Relaxations"};
+    }
+
+    /**
+     * Row values for the benchmark table (formatted for display).
+     */
+    public Object[] toTableRow() {
+        String successPct = String.format("%.0f%%", successRate() * 100);
+        if (!isSuccess()) {
+            return new Object[]{map, algorithm, statusLabel(), "-", "-", "-", "-",
+                successPct, "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-",
+                "-", "-", "-", "-"};
+        }
+        return new Object[]{
+            map,
+            algorithm,
+            statusLabel(),
+            String.format("%.2f", avgTimeMs),
+            String.format("%.1f", avgCost),
+            String.format("%,.0f", avgNodes),
+            String.format("%.1f", avgPathLength),
+            successPct,
+            String.format("%.2f", latency.medianMs()),
+            String.format("%.2f", latency.p90Ms()),
+            String.format("%.2f", latency.p99Ms()),
+            String.format("%.2f", latency.minMs()),
+            String.format("%.2f", latency.maxMs()),
+            String.format("%.2f", latency.stdDevMs()),
+            String.format("%.2f – %.2f", latency.ci95LowMs(), latency.ci95HighMs()),
+            String.format("%.2f", resources.avgAllocatedBytes() / (1024.0 * 1024.0)),
+            String.format("%,.0f", resources.allocRateMbPerSec()),
+            String.format("%.2f", resources.avgCpuTimeMs()),
+            String.format("%.2f", resources.cpuToWallRatio()),
+            resources.gcCount(),
+            resources.gcTimeMs(),
+            searchStats == null ? "-" : String.format("%,d", searchStats.staleSkips()),
+            searchStats == null ? "-" : String.format("%,d", searchStats.pushes()),
+            searchStats == null ? "-" : String.format("%,d", searchStats.peakQueue()),
+            searchStats == null ? "-" : String.format("%,d", searchStats.relaxations())
+        };
+    }
+}
@@ -0,0 +1,180 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import cpe231.maze.io.MazeCache;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs independent (map, solver) benchmark cells on a worker pool.
+ *
+ * Isolation policies:
+ * <ul>
+ *   <li>{@link IsolationPolicy#ONE_JOB_PER_CORE}: each worker runs whole cells
+ *       (warmup + measurement) concurrently, at most one per available core.
+ *       Fastest; numbers include some cross-job interference (shared caches,
+ *       memory bandwidth, JVM-wide GC).</li>
+ *   <li>{@link IsolationPolicy#SERIALIZED_TIMING}: map loading and solver
+ *       setup run in parallel, but warmup and measured runs hold a global
+ *       timing lock, so no two cells are ever timed at the same time.</li>
+ * </ul>
+ *
+ * Cells are started longest-first (GA solvers and bigger files first) to
+ * shorten the total makespan. Results stream to the listener as cells
+ * finish; listener calls are serialized. The returned list is in the same
+ * (map, solver) order as a sequential run.
+ */
+public class BenchmarkScheduler {
+
+    public enum IsolationPolicy {
+        ONE_JOB_PER_CORE,
+        SERIALIZED_TIMING
+    }
+
+    private record Cell(int order, String mapPath, String solverName, long weight) {}
+
+    private final BenchmarkEngine engine;
+    private final BenchmarkConfig config;
+    private final ReentrantLock timingLock = new ReentrantLock(true);
+    private final Object listenerLock = new Object();
+
+    public BenchmarkScheduler(BenchmarkEngine engine, BenchmarkConfig config) {
+        this.engine = engine;
+        this.config = config;
+    }
+
+    /**
+     * Effective pool size: the configured workers, capped at the core count
+     * for {@link IsolationPolicy#ONE_JOB_PER_CORE}.
+     */
+    public int poolSize() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        return config.isolation() == IsolationPolicy.ONE_JOB_PER_CORE
+            ? Math.max(1, Math.min(config.workers(), cores))
+            : config.workers();
+    }
+
+    public List<BenchmarkResult> run(BenchmarkListener listener) {
+        List<Cell> cells = new ArrayList<>();
+        for (String map : config.mapPaths()) {
+            long fileSize = new File(map).length();
+            for (String solver : config.solverNames()) {
+                long weight = fileSize * (solver.toUpperCase().contains("GA") ? 1000 : 1);
+                cells.add(new Cell(cells.size(), map, solver, weight));
+            }
+        }
+        int totalSteps = cells.size();
+        BenchmarkResult[] ordered = new BenchmarkResult[totalSteps];
+        AtomicInteger completed = new AtomicInteger();
+        Set<String> failedMaps = Collections.synchronizedSet(new HashSet<>());
+
+        listener.onStart(totalSteps);
+
+        List<Cell> launchOrder = new ArrayList<>(cells);
+        launchOrder.sort(Comparator.comparingLong(Cell::weight).reversed());
+
+        ExecutorService pool = Executors.newFixedThreadPool(poolSize(), workerThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Cell cell : launchOrder) {
+                futures.add(pool.submit(() -> {
+                    String mapName = new File(cell.mapPath()).getName();
+                    BenchmarkResult result = runCell(cell, mapName, failedMaps, listener);
+                    synchronized (listenerLock) {
+                        int step = completed.incrementAndGet();
+                        if (result != null) {
+                            ordered[cell.order()] = result;
+                            listener.onResult(result, step, totalSteps);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                try {
+                    f.get();
+                } catch (Exception e) {
+                    System.err.println("Benchmark cell failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        synchronized (listenerLock) {
+            listener.onComplete();
+        }
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (BenchmarkResult r : ordered) {
+            if (r != null) results.add(r);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private BenchmarkResult runCell(Cell cell, String mapName, Set<String> failedMaps,
+                                    BenchmarkListener listener) {
+        // Setup: always parallel
+        MazeContext ctx;
+        try {
+            ctx = MazeCache.shared().load(cell.mapPath());
+        } catch (Exception e) {
+            if (failedMaps.add(mapName)) {
+                System.err.println("Error loading " + mapName + ": " + e.getMessage());
+                synchronized (listenerLock) {
+                    listener.onError(mapName, e);
+                }
+            }
+            return null;
+        }
+        MazeSolver solver = SolverFactory.create(cell.solverName());
+
+        if (config.isolation() == IsolationPolicy.ONE_JOB_PER_CORE) {
+            return engine.measure(mapName, solver, ctx, config.warmupIterations(), config.iterations());
+        }
+        timingLock.lock();
+        try {
+            return engine.measure(mapName, solver, ctx, config.warmupIterations(), config.iterations());
+        } finally {
+            timingLock.unlock();
+        }
+    }
+
+    private static ThreadFactory workerThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, "benchmark-worker-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Parses "per-core" / "serialized" (or the enum names).
+     */
+    public static IsolationPolicy parsePolicy(String value) {
+        switch (value.trim().toLowerCase().replace('_', '-')) {
+            case "per-core":
+            case "one-job-per-core":
+                return IsolationPolicy.ONE_JOB_PER_CORE;
+            case "serialized":
+            case "serialized-timing":
+                return IsolationPolicy.SERIALIZED_TIMING;
+            default:
+                throw new IllegalArgumentException("Unknown isolation policy '" + value
+                    + "'. Available: per-core, serialized " + Arrays.toString(IsolationPolicy.values()));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package cpe231.maze.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factories for load-generator clients: platform threads, or virtual
+ * threads when the running JVM has them (Java 21+). Virtual threads are looked
+ * up reflectively so the project still compiles and runs on older JDKs.
+ */
+public final class ClientThreads {
+
+    public enum Mode { PLATFORM, VIRTUAL }
+
+    private ClientThreads() {}
+
+    public static boolean virtualThreadsAvailable() {
+        return virtualFactory("probe-") != null;
+    }
+
+    /**
+     * Factory for {@code mode}; VIRTUAL falls back to daemon platform threads
+     * (with a warning) when unsupported.
+     */
+    public static ThreadFactory factory(Mode mode, String namePrefix) {
+        if (mode == Mode.VIRTUAL) {
+            ThreadFactory virtual = virtualFactory(namePrefix);
+            if (virtual != null) return virtual;
+            System.err.println("Virtual threads need Java 21+ (running " + Runtime.version()
+                + "); using platform threads");
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, namePrefix + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+
+    /**
+     * Parses "platform" / "virtual".
+     */
+    public static Mode parseMode(String value) {
+        try {
+            return Mode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown thread mode '" + value + "'. Available: platform, virtual");
+        }
+    }
+
+    // Thread.ofVirtual().name(prefix, 1).factory(), or null before Java 21
+    private static ThreadFactory virtualFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Method name = builderType.getMethod("name", String.class, long.class);
+            builder = name.invoke(builder, namePrefix, 1L);
+            return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
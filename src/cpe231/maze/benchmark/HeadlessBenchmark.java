@@ -0,0 +1,157 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.SolverFactory;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Command-line benchmark runner (no display required).
+ *
+ * Usage:
+ * <pre>
+ * java -cp bin cpe231.maze.benchmark.HeadlessBenchmark \
+ *     [--data data] [--maps data/m15_15.txt,data/m24_20.txt] \
+ *     [--solvers AStar,Dijkstra,PureGA,HybridGA] [--warmup 2] [--iterations 10] \
+ *     [--workers 1] [--policy per-core|serialized] \
+ *     [--out output/results/benchmark_avg_results_&lt;timestamp&gt;.csv] \
+ *     [--baseline file.csv|latest] [--report diff.csv]
+ * </pre>
+ * A {@code .json} output path writes JSON instead of CSV; CSV output also
+ * writes per-run samples to {@code <out>_samples.csv}.
+ * {@code --workers 0} uses one worker per available core; see
+ * {@link BenchmarkScheduler} for the isolation policies.
+ * With {@code --baseline} the finished run is compared against a stored run
+ * by {@link BaselineComparator}; {@code latest} means the newest earlier run in
+ * {@code output/results/}.
+ * Exit status: 0 = ok, 1 = a map failed to load, 2 = bad arguments, 3 = regression against the baseline.
+ */
+public class HeadlessBenchmark {
+
+    public static void main(String[] args) {
+        String dataDir = "data";
+        List<String> maps = null;
+        List<String> solvers = SolverFactory.names();
+        int iterations = 10;
+        int warmup = BenchmarkConfig.DEFAULT_WARMUP;
+        int workers = 1;
+        BenchmarkScheduler.IsolationPolicy policy = BenchmarkScheduler.IsolationPolicy.ONE_JOB_PER_CORE;
+        String out = null;
+        String baseline = null;
+        String report = null;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--data": dataDir = value; i++; break;
+                    case "--maps": maps = splitList(value); i++; break;
+                    case "--solvers": solvers = splitList(value); i++; break;
+                    case "--warmup": warmup = Integer.parseInt(value); i++; break;
+                    case "--iterations": iterations = Integer.parseInt(value); i++; break;
+                    case "--out": out = value; i++; break;
+                    case "--workers": workers = Integer.parseInt(value); i++; break;
+                    case "--policy": policy = BenchmarkScheduler.parsePolicy(value); i++; break;
+                    case "--baseline": baseline = value; i++; break;
+                    case "--report": report = value; i++; break;
+                    case "--help":
+                        printUsage();
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            if (maps == null) maps = BenchmarkEngine.listMazeFiles(dataDir);
+            if (workers == 0) workers = Runtime.getRuntime().availableProcessors();
+            solvers.forEach(SolverFactory::create); // fail fast on unknown names
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        Path outPath = Paths.get(out != null ? out
+            : "output/results/" + ResultWriter.defaultFileName("csv"));
+
+        // Resolve "latest" before this run's file exists
+        Path baselinePath = null;
+        if (baseline != null) {
+            try {
+                baselinePath = BaselineComparator.resolveBaseline(baseline, outPath);
+            } catch (IOException e) {
+                System.err.println(e.getMessage());
+                System.exit(2);
+                return;
+            }
+        }
+
+        BenchmarkConfig config;
+        try {
+            config = new BenchmarkConfig(maps, solvers, warmup, iterations, workers, policy);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        int[] loadErrors = {0};
+        System.out.println("\n=== HEADLESS BENCHMARK (" + warmup + " warmup + " + iterations + " measured runs, "
+            + workers + " worker(s)" + (workers > 1 ? ", " + policy : "") + ") ===");
+        long suiteStart = System.nanoTime();
+        List<BenchmarkResult> results = new BenchmarkEngine().run(config, new BenchmarkListener() {
+            @Override
+            public void onResult(BenchmarkResult r, int step, int totalSteps) {
+                System.out.printf("[%d/%d] %-14s %-10s %s%n", step, totalSteps, r.map(), r.algorithm(),
+                    r.isSuccess()
+                        ? String.format("median %.2f ms, p90 %.2f ms, success %.0f%%",
+                            r.latency().medianMs(), r.latency().p90Ms(), r.successRate() * 100)
+                        : "FAILED");
+            }
+
+            @Override
+            public void onError(String map, Exception e) {
+                loadErrors[0]++;
+            }
+        });
+
+        try {
+            ResultWriter.write(results, outPath);
+            System.out.println("Results written to " + outPath.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error saving file: " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.printf("=== BENCHMARK COMPLETE (%.1f s) ===%n%n", (System.nanoTime() - suiteStart) / 1e9);
+
+        if (baselinePath != null) {
+            try {
+                boolean regressed = new BaselineComparator().compareFiles(baselinePath, outPath,
+                    report != null ? Paths.get(report) : null);
+                if (regressed) System.exit(BaselineComparator.EXIT_REGRESSION);
+            } catch (IOException e) {
+                System.err.println("Baseline comparison failed: " + e.getMessage());
+                System.exit(2);
+            }
+        }
+        System.exit(loadErrors[0] > 0 ? 1 : 0);
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String s : Arrays.asList(value.split(","))) {
+            if (!s.isBlank()) items.add(s.trim());
+        }
+        return items;
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: HeadlessBenchmark [--data dir] [--maps a.txt,b.txt] "
+            + "[--solvers " + String.join(",", SolverFactory.names()) + "] "
+            + "[--warmup N] [--iterations N] [--workers N (0 = all cores)] [--policy per-core|serialized] "
+            + "[--out file.csv|file.json] [--baseline file.csv|latest] [--report diff.csv]");
+    }
+}
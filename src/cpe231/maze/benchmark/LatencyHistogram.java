@@ -0,0 +1,175 @@
+package cpe231.maze.benchmark;
+
+/**
+ * Log-linear latency histogram in the style of HdrHistogram.
+ *
+ * Values (nanoseconds) are kept to a fixed number of significant decimal
+ * digits across the whole range: each power-of-two bucket is split into the
+ * same number of linear sub-buckets, so recording is O(1) with no allocation
+ * and memory does not grow with the sample count. Values above
+ * {@code highestTrackableValue} are clamped and counted in {@link #getClampedCount()}.
+ *
+ * Not thread-safe: give each client its own histogram and {@link #add} them afterwards.
+ */
+public final class LatencyHistogram {
+
+    private final long highestTrackableValue;
+    private final int significantDigits;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+    private final long[] counts;
+
+    private long totalCount;
+    private long clampedCount;
+    private long minValue = Long.MAX_VALUE;
+    private long maxValue;
+    private double sum;
+
+    /**
+     * @param highestTrackableValue largest value kept exactly (e.g. one hour in ns)
+     * @param significantDigits     1..5; 2 keeps every value within 1%
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+        if (significantDigits < 1 || significantDigits > 5) {
+            throw new IllegalArgumentException("significantDigits must be in 1..5");
+        }
+        if (highestTrackableValue < 2) {
+            throw new IllegalArgumentException("highestTrackableValue must be >= 2");
+        }
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+
+        long largestSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = (int) Math.ceil(Math.log(largestSingleUnitResolution) / Math.log(2));
+        this.subBucketHalfCountMagnitude = Math.max(subBucketCountMagnitude, 1) - 1;
+        int subBucketCount = 1 << (subBucketHalfCountMagnitude + 1);
+        this.subBucketHalfCount = subBucketCount / 2;
+        this.subBucketMask = subBucketCount - 1;
+        this.leadingZeroCountBase = 64 - subBucketHalfCountMagnitude - 1;
+
+        // Buckets double in range until the highest value fits
+        long smallestUntrackable = (long) subBucketCount;
+        int bucketCount = 1;
+        while (smallestUntrackable <= highestTrackableValue) {
+            if (smallestUntrackable > Long.MAX_VALUE / 2) {
+                bucketCount++;
+                break;
+            }
+            smallestUntrackable <<= 1;
+            bucketCount++;
+        }
+        this.counts = new long[(bucketCount + 1) * subBucketHalfCount];
+    }
+
+    public void recordValue(long value) {
+        recordValue(value, 1);
+    }
+
+    private void recordValue(long value, long count) {
+        if (value < 0) value = 0;
+        if (value > highestTrackableValue) {
+            value = highestTrackableValue;
+            clampedCount += count;
+        }
+        counts[countsIndex(value)] += count;
+        totalCount += count;
+        sum += (double) value * count;
+        if (value < minValue) minValue = value;
+        if (value > maxValue) maxValue = value;
+    }
+
+    /**
+     * Records {@code value} and, when it exceeds {@code expectedInterval}, the
+     * samples that a non-stalled closed-loop client would have produced while
+     * waiting (value - interval, value - 2 * interval, ...). This is
+     * HdrHistogram's correction for coordinated omission.
+     */
+    public void recordValueWithExpectedInterval(long value, long expectedInterval) {
+        recordValue(value);
+        if (expectedInterval <= 0 || value <= expectedInterval) return;
+        for (long missing = value - expectedInterval; missing >= expectedInterval; missing -= expectedInterval) {
+            recordValue(missing);
+        }
+    }
+
+    /**
+     * Adds every count of {@code other} into this histogram. Both must share
+     * the same range and precision.
+     */
+    public void add(LatencyHistogram other) {
+        if (other.counts.length != counts.length || other.significantDigits != significantDigits) {
+            throw new IllegalArgumentException("Histograms have different ranges or precision");
+        }
+        for (int i = 0; i < counts.length; i++) counts[i] += other.counts[i];
+        totalCount += other.totalCount;
+        clampedCount += other.clampedCount;
+        sum += other.sum;
+        if (other.totalCount > 0) {
+            minValue = Math.min(minValue, other.minValue);
+            maxValue = Math.max(maxValue, other.maxValue);
+        }
+    }
+
+    /**
+     * Smallest recorded value v such that {@code percentile}% of samples are &lt;= v
+     * (reported as the highest value equivalent to its bucket). 0 when empty.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        double p = Math.min(Math.max(percentile, 0), 100);
+        long target = Math.max(1, (long) Math.ceil(p / 100.0 * totalCount));
+        long running = 0;
+        for (int i = 0; i < counts.length; i++) {
+            running += counts[i];
+            if (running >= target) {
+                return Math.min(highestEquivalentValue(valueFromIndex(i)), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    public long getTotalCount() { return totalCount; }
+    public long getClampedCount() { return clampedCount; }
+    public long getMinValue() { return totalCount == 0 ? 0 : minValue; }
+    public long getMaxValue() { return maxValue; }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : sum / totalCount;
+    }
+
+    public LatencyHistogram copy() {
+        LatencyHistogram c = new LatencyHistogram(highestTrackableValue, significantDigits);
+        c.add(this);
+        return c;
+    }
+
+    // === Index arithmetic ===
+
+    private int bucketIndex(long value) {
+        return leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+    }
+
+    private int countsIndex(long value) {
+        int bucket = bucketIndex(value);
+        int subBucket = (int) (value >>> bucket);
+        return ((bucket + 1) << subBucketHalfCountMagnitude) + (subBucket - subBucketHalfCount);
+    }
+
+    private long valueFromIndex(int index) {
+        int bucket = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucket = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucket < 0) {
+            subBucket -= subBucketHalfCount;
+            bucket = 0;
+        }
+        return (long) subBucket << bucket;
+    }
+
+    private long highestEquivalentValue(long value) {
+        int bucket = bucketIndex(value);
+        long width = 1L << bucket;
+        return (value & -width) + width - 1;
+    }
+}
@@ -0,0 +1,44 @@
+package cpe231.maze.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of run times (milliseconds) over the successful measured runs.
+ */
+public record LatencyStats(
+    int count,
+    double meanMs,
+    double medianMs,
+    double p90Ms,
+    double p99Ms,
+    double minMs,
+    double maxMs,
+    double stdDevMs,
+    double ci95LowMs,
+    double ci95HighMs,
+    int outliers
+) {
+    public static final LatencyStats EMPTY = new LatencyStats(0,
+        Double.NaN, Double.NaN, Double.NaN, Double.NaN, Double.NaN,
+        Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0);
+
+    public static LatencyStats of(double[] samplesMs) {
+        if (samplesMs.length == 0) return EMPTY;
+        double[] sorted = samplesMs.clone();
+        Arrays.sort(sorted);
+        double mean = Statistics.mean(sorted);
+        double halfWidth = Statistics.ci95HalfWidth(sorted);
+        return new LatencyStats(
+            sorted.length,
+            mean,
+            Statistics.percentile(sorted, 50),
+            Statistics.percentile(sorted, 90),
+            Statistics.percentile(sorted, 99),
+            sorted[0],
+            sorted[sorted.length - 1],
+            Statistics.stdDev(sorted),
+            mean - halfWidth,
+            mean + halfWidth,
+            Statistics.countOutliers(sorted));
+    }
+}
@@ -0,0 +1,449 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import cpe231.maze.io.MazeCache;
+import cpe231.maze.io.MazeLoader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Concurrent load generator: N clients issue solve requests against shared
+ * {@link MazeContext}s and the run reports throughput and latency histograms.
+ *
+ * Arrival models:
+ * <ul>
+ *   <li>Closed loop ({@code --rate 0}, default): every client solves back to
+ *       back for the whole duration. Coordinated omission is corrected the
+ *       HdrHistogram way. The expected interval between requests is the client's
+ *       mean warmup service time for the same (map, solver) pair, so fast A*
+ *       requests are not corrected against GA-sized intervals. This needs a
+ *       warmup: {@code --warmup 0} is rejected in closed loop, and pairs a
+ *       client never ran during warmup are recorded uncorrected (and reported).</li>
+ *   <li>Open loop ({@code --rate R}): requests are scheduled at a fixed total
+ *       rate of R/s spread over the clients. Response time is measured from the
+ *       scheduled start, so a stalled client accumulates the queueing delay its
+ *       late requests would have seen. The run stops on the wall clock; requests
+ *       still queued at the end are reported as unsent, and their wait so far
+ *       is added to the overall response histogram as a lower bound.</li>
+ * </ul>
+ * Requests cycle through every (map, solver) pair. Each client owns its solver
+ * instances (and so its own GA random generators); the contexts are shared, so
+ * contention on shared state (the maze caches, lazily built per-context data,
+ * allocation and GC) shows up as poor throughput scaling. {@code --reload}
+ * parses the map through {@link MazeLoader} on every request to expose its
+ * static, synchronized state.
+ *
+ * Usage:
+ * <pre>
+ * java -cp bin cpe231.maze.benchmark.LoadTest \
+ *     [--maps data/m15_15.txt,data/m100_100.txt] [--solvers AStar,Dijkstra] \
+ *     [--clients 1,2,4,8] [--threads platform|virtual] [--duration 10] [--warmup 2] \
+ *     [--rate 0] [--reload] [--verbose] [--out output/results/loadtest_&lt;timestamp&gt;.csv]
+ * </pre>
+ */
+public class LoadTest {
+
+    /** One hour in ns: anything slower is clamped into the top bucket. */
+    private static final long HIGHEST_TRACKABLE_NS = 3_600_000_000_000L;
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final double[] REPORTED_PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_LABELS = {"P50", "P90", "P99", "P999"};
+
+    public record Config(
+        List<String> mapPaths,
+        List<String> solverNames,
+        int clients,
+        ClientThreads.Mode threads,
+        double durationSeconds,
+        double warmupSeconds,
+        double ratePerSecond,
+        boolean reloadMaps
+    ) {
+        public Config {
+            if (mapPaths.isEmpty() || solverNames.isEmpty()) {
+                throw new IllegalArgumentException("At least one map and one solver are required");
+            }
+            if (clients < 1) throw new IllegalArgumentException("clients must be >= 1");
+            if (durationSeconds <= 0 || warmupSeconds < 0) {
+                throw new IllegalArgumentException("duration must be > 0 and warmup >= 0");
+            }
+            if (ratePerSecond < 0) throw new IllegalArgumentException("rate must be >= 0");
+            if (ratePerSecond == 0 && warmupSeconds == 0) {
+                // The closed-loop correction takes its expected intervals from the warmup
+                throw new IllegalArgumentException("Closed loop needs warmup > 0 (or use --rate for open loop)");
+            }
+            mapPaths = List.copyOf(mapPaths);
+            solverNames = List.copyOf(solverNames);
+        }
+
+        public boolean openLoop() {
+            return ratePerSecond > 0;
+        }
+    }
+
+    /**
+     * Measured-phase totals for one solver (or "ALL").
+     *
+     * @param service  time inside {@code solve()}
+     * @param response service time plus the delay a request should not have had
+     *                 to wait (coordinated-omission corrected)
+     * @param unsent   open loop only: requests scheduled in the measured window
+     *                 that never started (only set on the "ALL" row)
+     */
+    public record Report(String solver, long solves, long errors, long unsent, double seconds,
+                         LatencyHistogram service, LatencyHistogram response) {
+        public double solvesPerSecond() {
+            return seconds > 0 ? solves / seconds : 0;
+        }
+    }
+
+    private static LatencyHistogram newHistogram() {
+        return new LatencyHistogram(HIGHEST_TRACKABLE_NS, SIGNIFICANT_DIGITS);
+    }
+
+    /** Per-client, per-solver tallies; merged after the clients finish. */
+    private static final class Tally {
+        final LatencyHistogram service = newHistogram();
+        final LatencyHistogram response = newHistogram();
+        long solves;
+        long errors;
+    }
+
+    /**
+     * Runs one load level and returns one report per solver followed by "ALL".
+     */
+    public List<Report> run(Config config) throws InterruptedException {
+        MazeContext[] contexts = new MazeContext[config.mapPaths().size()];
+        for (int i = 0; i < contexts.length; i++) {
+            try {
+                contexts[i] = MazeCache.shared().load(config.mapPaths().get(i));
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Cannot load " + config.mapPaths().get(i) + ": " + e.getMessage(), e);
+            }
+        }
+
+        int solverCount = config.solverNames().size();
+        int cellCount = contexts.length * solverCount;
+        AtomicLong requestCounter = new AtomicLong();
+        AtomicLong unsent = new AtomicLong();
+        AtomicLong uncorrected = new AtomicLong();
+        long warmupNs = (long) (config.warmupSeconds() * 1e9);
+        long durationNs = (long) (config.durationSeconds() * 1e9);
+        // Open loop: each client gets an equal share of the total rate
+        long intervalNs = config.openLoop() ? (long) (1e9 * config.clients() / config.ratePerSecond()) : 0;
+
+        List<Tally[]> tallies = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        ThreadFactory factory = ClientThreads.factory(config.threads(), "load-client-");
+        long phaseStart = System.nanoTime() + 50_000_000L; // let every client get scheduled first
+        long measureStart = phaseStart + warmupNs;
+        long end = measureStart + durationNs;
+
+        for (int c = 0; c < config.clients(); c++) {
+            // Last slot collects the backlog left when the run ends
+            Tally[] mine = new Tally[solverCount + 1];
+            for (int s = 0; s <= solverCount; s++) mine[s] = new Tally();
+            tallies.add(mine);
+            long offset = intervalNs * c / config.clients();
+            threads.add(factory.newThread(() -> runClient(config, contexts, mine, requestCounter, unsent,
+                uncorrected, cellCount, phaseStart + offset, measureStart, end, intervalNs)));
+        }
+        threads.forEach(Thread::start);
+        for (Thread t : threads) t.join();
+        if (uncorrected.get() > 0) {
+            System.err.printf("Warning: %d closed-loop sample(s) had no warmup run for their (map, solver) pair "
+                + "and were not corrected for coordinated omission; use a longer --warmup%n", uncorrected.get());
+        }
+
+        List<Report> reports = new ArrayList<>();
+        Tally all = new Tally();
+        for (int s = 0; s < solverCount; s++) {
+            Tally merged = new Tally();
+            for (Tally[] client : tallies) {
+                merged.service.add(client[s].service);
+                merged.response.add(client[s].response);
+                merged.solves += client[s].solves;
+                merged.errors += client[s].errors;
+            }
+            all.service.add(merged.service);
+            all.response.add(merged.response);
+            all.solves += merged.solves;
+            all.errors += merged.errors;
+            reports.add(new Report(SolverFactory.shortName(SolverFactory.create(config.solverNames().get(s))),
+                merged.solves, merged.errors, 0, durationNs / 1e9, merged.service, merged.response));
+        }
+        for (Tally[] client : tallies) all.response.add(client[solverCount].response);
+        reports.add(new Report("ALL", all.solves, all.errors, unsent.get(), durationNs / 1e9,
+            all.service, all.response));
+        return reports;
+    }
+
+    private static void runClient(Config config, MazeContext[] contexts, Tally[] tallies,
+                                  AtomicLong requestCounter, AtomicLong unsent, AtomicLong uncorrected,
+                                  int cellCount,
+                                  long firstStart, long measureStart, long end, long intervalNs) {
+        int solverCount = config.solverNames().size();
+        MazeSolver[] solvers = new MazeSolver[solverCount];
+        for (int s = 0; s < solverCount; s++) solvers[s] = SolverFactory.create(config.solverNames().get(s));
+
+        long nextStart = firstStart;
+        // Closed loop: per (map, solver) cell, mean warmup service time = expected interval
+        long[] warmupServiceNs = new long[cellCount];
+        long[] warmupSolves = new long[cellCount];
+
+        parkUntil(firstStart);
+        while (true) {
+            long intended;
+            if (intervalNs > 0) {
+                intended = nextStart;
+                nextStart += intervalNs;
+                if (intended >= end) break;
+                long now = System.nanoTime();
+                if (now >= end) {
+                    Tally backlog = tallies[solverCount];
+                    for (long t = Math.max(intended, measureStart); t < end; t += intervalNs) {
+                        backlog.response.recordValue(end - t);
+                        unsent.incrementAndGet();
+                    }
+                    break;
+                }
+                parkUntil(intended); // returns at once when behind schedule
+            } else {
+                intended = System.nanoTime();
+                if (intended >= end) break;
+            }
+
+            int cell = (int) (requestCounter.getAndIncrement() % cellCount);
+            int solverIndex = cell % solverCount;
+            int mapIndex = cell / solverCount;
+
+            boolean ok;
+            long serviceStart = System.nanoTime();
+            try {
+                MazeContext ctx = config.reloadMaps()
+                    ? MazeLoader.loadContext(config.mapPaths().get(mapIndex))
+                    : contexts[mapIndex];
+                AlgorithmResult result = solvers[solverIndex].solve(ctx);
+                ok = result.isSuccess();
+            } catch (Exception e) {
+                ok = false;
+            }
+            long done = System.nanoTime();
+            long serviceNs = done - serviceStart;
+
+            if (intended < measureStart) {
+                warmupServiceNs[cell] += serviceNs;
+                warmupSolves[cell]++;
+                continue;
+            }
+            Tally t = tallies[solverIndex];
+            t.service.recordValue(serviceNs);
+            if (intervalNs > 0) {
+                t.response.recordValue(done - intended);
+            } else if (warmupSolves[cell] > 0) {
+                t.response.recordValueWithExpectedInterval(serviceNs, warmupServiceNs[cell] / warmupSolves[cell]);
+            } else {
+                t.response.recordValue(serviceNs);
+                uncorrected.incrementAndGet();
+            }
+            if (ok) {
+                t.solves++;
+            } else {
+                t.errors++;
+            }
+        }
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    // === Reporting ===
+
+    public static void printReport(Config config, List<Report> reports) {
+        System.out.printf("%n--- %d client(s), %s threads, %s ---%n", config.clients(), config.threads(),
+            config.openLoop() ? String.format("open loop at %.1f req/s", config.ratePerSecond()) : "closed loop");
+        System.out.printf("%-10s %8s %6s %10s | %-44s | %s%n", "Solver", "Solves", "Errors", "Solves/s",
+            "service ms p50 / p90 / p99 / p99.9 / max", "response ms (CO-corrected) p50 / p99 / p99.9 / max");
+        for (Report r : reports) {
+            System.out.printf("%-10s %8d %6d %10.1f | %-44s | %s%n", r.solver(), r.solves(), r.errors(),
+                r.solvesPerSecond(),
+                String.format("%.3f / %.3f / %.3f / %.3f / %.3f",
+                    ms(r.service().getValueAtPercentile(50)), ms(r.service().getValueAtPercentile(90)),
+                    ms(r.service().getValueAtPercentile(99)), ms(r.service().getValueAtPercentile(99.9)),
+                    ms(r.service().getMaxValue())),
+                String.format("%.3f / %.3f / %.3f / %.3f",
+                    ms(r.response().getValueAtPercentile(50)), ms(r.response().getValueAtPercentile(99)),
+                    ms(r.response().getValueAtPercentile(99.9)), ms(r.response().getMaxValue())));
+        }
+        long unsent = reports.get(reports.size() - 1).unsent();
+        if (unsent > 0) {
+            System.out.printf("%d scheduled request(s) never started: the target rate exceeds capacity%n", unsent);
+        }
+    }
+
+    private static double ms(long ns) {
+        return ns / 1e6;
+    }
+
+    public static void writeCsv(Map<Config, List<Report>> levels, Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        StringBuilder header = new StringBuilder("Clients,Threads,Arrival,Rate_per_s,Solver,Duration_s,Solves,Errors,Unsent,Solves_per_s");
+        for (String kind : new String[] {"Service", "Response"}) {
+            for (String label : PERCENTILE_LABELS) {
+                header.append(',').append(kind).append('_').append(label).append("_ms");
+            }
+            header.append(',').append(kind).append("_Max_ms,").append(kind).append("_Mean_ms");
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println(header);
+            for (Map.Entry<Config, List<Report>> level : levels.entrySet()) {
+                Config c = level.getKey();
+                for (Report r : level.getValue()) {
+                    List<String> fields = new ArrayList<>(Arrays.asList(
+                        Integer.toString(c.clients()), c.threads().name(), c.openLoop() ? "open" : "closed",
+                        ResultWriter.fmt("%.2f", c.ratePerSecond()), r.solver(),
+                        ResultWriter.fmt("%.2f", r.seconds()), Long.toString(r.solves()), Long.toString(r.errors()),
+                        Long.toString(r.unsent()),
+                        ResultWriter.fmt("%.2f", r.solvesPerSecond())));
+                    for (LatencyHistogram h : new LatencyHistogram[] {r.service(), r.response()}) {
+                        for (double p : REPORTED_PERCENTILES) {
+                            fields.add(ResultWriter.fmt("%.4f", ms(h.getValueAtPercentile(p))));
+                        }
+                        fields.add(ResultWriter.fmt("%.4f", ms(h.getMaxValue())));
+                        fields.add(ResultWriter.fmt("%.4f", h.getMean() / 1e6));
+                    }
+                    writer.println(String.join(",", fields));
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        List<String> maps = List.of("data/m15_15.txt", "data/m100_100.txt");
+        List<String> solvers = List.of("AStar", "Dijkstra");
+        List<Integer> clientLevels = new ArrayList<>(List.of(Runtime.getRuntime().availableProcessors()));
+        ClientThreads.Mode threads = ClientThreads.Mode.PLATFORM;
+        double duration = 10, warmup = 2, rate = 0;
+        boolean reload = false, verbose = false;
+        String out = null;
+
+        List<Config> configs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--maps": maps = Arrays.asList(value.split(",")); i++; break;
+                    case "--solvers": solvers = Arrays.asList(value.split(",")); i++; break;
+                    case "--clients":
+                        clientLevels.clear();
+                        for (String s : value.split(",")) clientLevels.add(Integer.parseInt(s.trim()));
+                        i++;
+                        break;
+                    case "--threads": threads = ClientThreads.parseMode(value); i++; break;
+                    case "--duration": duration = Double.parseDouble(value); i++; break;
+                    case "--warmup": warmup = Double.parseDouble(value); i++; break;
+                    case "--rate": rate = Double.parseDouble(value); i++; break;
+                    case "--reload": reload = true; break;
+                    case "--verbose": verbose = true; break;
+                    case "--out": out = value; i++; break;
+                    case "--help":
+                        printUsage();
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            solvers.forEach(SolverFactory::create); // fail fast on unknown names
+            for (int clients : clientLevels) {
+                configs.add(new Config(maps, solvers, clients, threads, duration, warmup, rate, reload));
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        System.out.println("\n=== LOAD TEST (" + maps.size() + " map(s) x " + solvers.size() + " solver(s), "
+            + warmup + " s warmup + " + duration + " s measured per level) ===");
+        Map<Config, List<Report>> levels = new LinkedHashMap<>();
+        LoadTest test = new LoadTest();
+        PrintStream console = System.out;
+        for (Config config : configs) {
+            // Solver and loader logging would otherwise flood the console from every client
+            if (!verbose) System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            try {
+                levels.put(config, test.run(config));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IllegalArgumentException e) {
+                System.setOut(console);
+                System.err.println(e.getMessage());
+                System.exit(1);
+                return;
+            } finally {
+                System.setOut(console);
+            }
+            printReport(config, levels.get(config));
+        }
+
+        if (levels.size() > 1) {
+            System.out.println("\nThroughput scaling (ALL):");
+            double base = -1;
+            int baseClients = 0;
+            for (Map.Entry<Config, List<Report>> level : levels.entrySet()) {
+                List<Report> reports = level.getValue();
+                double throughput = reports.get(reports.size() - 1).solvesPerSecond();
+                int clients = level.getKey().clients();
+                if (base < 0) {
+                    base = throughput;
+                    baseClients = clients;
+                }
+                double speedup = base > 0 ? throughput / base : 0;
+                System.out.printf("  %3d client(s): %10.1f solves/s  speedup x%.2f  efficiency %.0f%%%n",
+                    clients, throughput, speedup, 100.0 * speedup * baseClients / clients);
+            }
+        }
+
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        Path outPath = Paths.get(out != null ? out : "output/results/loadtest_" + timestamp + ".csv");
+        try {
+            writeCsv(levels, outPath);
+            System.out.println("\nResults written to " + outPath.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error saving file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: LoadTest [--maps a.txt,b.txt] [--solvers " + String.join(",", SolverFactory.names())
+            + "] [--clients 1,2,4] [--threads platform|virtual] [--duration S] [--warmup S] "
+            + "[--rate REQ_PER_S (0 = closed loop)] [--reload] [--verbose] [--out file.csv]");
+    }
+}
@@ -0,0 +1,382 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.PathUtils;
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.*;
+import cpe231.maze.io.MazeCache;
+import cpe231.maze.io.MazeLoader;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * JMH-style microbenchmark harness for the solvers and core primitives.
+ *
+ * Each (benchmark, map) pair runs in a fresh forked JVM (like JMH forks) with
+ * timed warmup iterations followed by timed measurement iterations. Timing
+ * is taken around the call from outside, never from {@code durationNs}.
+ * For every pair it reports:
+ * <ul>
+ *   <li>throughput (ops/s, mean +- 95% CI over iterations) and ms/op</li>
+ *   <li>allocation: bytes/op and MB/s on the benchmark thread, plus GC
+ *       count/time during measurement (the numbers JMH's {@code -prof gc} gives)</li>
+ * </ul>
+ *
+ * Benchmarks: {@code solve.<Solver>} for every registered solver,
+ * {@code io.loadMaze}, {@code core.newMazeContext}, {@code core.pathReconstruction}.
+ * Every benchmark is parameterized by maze file (and thus size).
+ *
+ * Usage:
+ * <pre>
+ * java -cp bin cpe231.maze.benchmark.MicroBenchmark [--include regex] \
+ *     [--maps data/m15_15.txt,...] [--warmup 3] [--iterations 5] [--time 1000] \
+ *     [--forks 1|0] [--jvm-args "-Xmx2g"] [--out output/results/microbench.csv]
+ * </pre>
+ */
+public class MicroBenchmark {
+
+    private static final String RESULT_PREFIX = "MICROBENCH_RESULT\t";
+
+    /** One benchmark operation; the return value is consumed to defeat dead-code elimination. */
+    @FunctionalInterface
+    interface Op {
+        Object run() throws Exception;
+    }
+
+    public record Result(
+        String benchmark,
+        String map,
+        long cells,
+        long totalOps,
+        double opsPerSec,
+        double opsPerSecError,
+        double msPerOp,
+        double bytesPerOp,
+        double allocMbPerSec,
+        long gcCount,
+        long gcTimeMs
+    ) {
+        String serialize() {
+            return String.join("\t", benchmark, map, Long.toString(cells), Long.toString(totalOps),
+                Double.toString(opsPerSec), Double.toString(opsPerSecError), Double.toString(msPerOp),
+                Double.toString(bytesPerOp), Double.toString(allocMbPerSec),
+                Long.toString(gcCount), Long.toString(gcTimeMs));
+        }
+
+        static Result parse(String line) {
+            String[] f = line.split("\t");
+            return new Result(f[0], f[1], Long.parseLong(f[2]), Long.parseLong(f[3]),
+                Double.parseDouble(f[4]), Double.parseDouble(f[5]), Double.parseDouble(f[6]),
+                Double.parseDouble(f[7]), Double.parseDouble(f[8]),
+                Long.parseLong(f[9]), Long.parseLong(f[10]));
+        }
+    }
+
+    // Sink for benchmark results (volatile write keeps the JIT from eliding work)
+    private static volatile int blackhole;
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationTimeNs;
+
+    public MicroBenchmark(int warmupIterations, int measurementIterations, long iterationTimeMs) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationTimeNs = iterationTimeMs * 1_000_000L;
+    }
+
+    /**
+     * Names of every benchmark, in report order.
+     */
+    public static List<String> benchmarkNames() {
+        List<String> names = new ArrayList<>();
+        for (String solver : SolverFactory.names()) names.add("solve." + solver);
+        names.add("io.loadMaze");
+        names.add("core.newMazeContext");
+        names.add("core.pathReconstruction");
+        return names;
+    }
+
+    /**
+     * Runs one benchmark on one map in the current JVM.
+     */
+    public Result run(String benchmark, String mapPath) throws Exception {
+        MazeContext ctx = MazeCache.shared().load(mapPath);
+        Op op = createOp(benchmark, mapPath, ctx);
+
+        for (int i = 0; i < warmupIterations; i++) {
+            runIteration(op);
+        }
+
+        com.sun.management.ThreadMXBean threads = threadBean();
+        long gcCount0 = gcCount(), gcTime0 = gcTimeMs();
+        long alloc0 = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+
+        double[] opsPerSec = new double[measurementIterations];
+        long totalOps = 0, totalNs = 0;
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] it = runIteration(op);
+            totalOps += it[0];
+            totalNs += it[1];
+            opsPerSec[i] = it[0] * 1e9 / it[1];
+        }
+
+        long allocated = threads != null ? threads.getCurrentThreadAllocatedBytes() - alloc0 : -1;
+        double seconds = totalNs / 1e9;
+        return new Result(benchmark, new File(mapPath).getName(), (long) ctx.rows * ctx.cols, totalOps,
+            Statistics.mean(opsPerSec),
+            Statistics.ci95HalfWidth(opsPerSec),
+            totalNs / 1e6 / totalOps,
+            allocated < 0 ? Double.NaN : (double) allocated / totalOps,
+            allocated < 0 ? Double.NaN : allocated / seconds / (1024.0 * 1024.0),
+            gcCount() - gcCount0,
+            gcTimeMs() - gcTime0);
+    }
+
+    /**
+     * Runs the op until the iteration time has elapsed (at least once).
+     * Returns {ops, elapsedNs}.
+     */
+    private long[] runIteration(Op op) throws Exception {
+        long ops = 0;
+        long start = System.nanoTime();
+        long now;
+        int sink = 0;
+        do {
+            Object r = op.run();
+            sink += System.identityHashCode(r);
+            ops++;
+            now = System.nanoTime();
+        } while (now - start < iterationTimeNs);
+        blackhole = sink;
+        return new long[]{ops, now - start};
+    }
+
+    private Op createOp(String benchmark, String mapPath, MazeContext ctx) {
+        if (benchmark.startsWith("solve.")) {
+            MazeSolver solver = SolverFactory.create(benchmark.substring("solve.".length()));
+            return () -> solver.solve(ctx);
+        }
+        switch (benchmark) {
+            case "io.loadMaze":
+                return () -> {
+                    MazeLoader.loadMaze(mapPath);
+                    return MazeLoader.maze;
+                };
+            case "core.newMazeContext": {
+                int[][] grid = ctx.getGrid();
+                return () -> new MazeContext(grid, ctx.startRow, ctx.startCol, ctx.endRow, ctx.endCol);
+            }
+            case "core.pathReconstruction": {
+                // Parent array of the optimal path, as the graph searches leave it
+                AlgorithmResult solved = SolverFactory.create("Dijkstra").solve(ctx);
+                int[] parent = new int[ctx.rows * ctx.cols];
+                Arrays.fill(parent, -1);
+                List<int[]> path = solved.path();
+                for (int i = 1; i < path.size(); i++) {
+                    parent[path.get(i)[0] * ctx.cols + path.get(i)[1]] =
+                        path.get(i - 1)[0] * ctx.cols + path.get(i - 1)[1];
+                }
+                int end = ctx.getEndIndex();
+                return () -> PathUtils.reconstruct(parent, end, ctx.cols);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown benchmark: " + benchmark);
+        }
+    }
+
+    // === MEASUREMENT HELPERS ===
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean
+                && sunBean.isThreadAllocatedMemorySupported()) {
+            sunBean.setThreadAllocatedMemoryEnabled(true);
+            return sunBean;
+        }
+        return null;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    // === FORKING ===
+
+    private Result runForked(String benchmark, String mapPath, List<String> jvmArgs)
+            throws IOException, InterruptedException {
+        List<String> cmd = new ArrayList<>();
+        cmd.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        cmd.addAll(jvmArgs);
+        cmd.add("-cp");
+        cmd.add(System.getProperty("java.class.path"));
+        cmd.add(MicroBenchmark.class.getName());
+        cmd.addAll(List.of("--run", benchmark, "--maps", mapPath,
+            "--warmup", Integer.toString(warmupIterations),
+            "--iterations", Integer.toString(measurementIterations),
+            "--time", Long.toString(iterationTimeNs / 1_000_000L)));
+
+        Process process = new ProcessBuilder(cmd).redirectErrorStream(true).start();
+        Result result = null;
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Result.parse(line.substring(RESULT_PREFIX.length()));
+                } else {
+                    output.add(line);
+                }
+            }
+        }
+        int exit = process.waitFor();
+        if (exit != 0 || result == null) {
+            throw new IOException("Fork failed (exit " + exit + "): "
+                + String.join("\n", output.subList(Math.max(0, output.size() - 5), output.size())));
+        }
+        return result;
+    }
+
+    // === REPORTING ===
+
+    private static void printHeader() {
+        System.out.printf("%-26s %-14s %10s %10s %20s %12s %14s %10s %6s %7s%n",
+            "Benchmark", "Map", "Cells", "Ops", "Throughput (ops/s)", "ms/op",
+            "Alloc (B/op)", "MB/s", "GCs", "GC ms");
+    }
+
+    private static void printRow(Result r) {
+        System.out.printf(Locale.ROOT, "%-26s %-14s %10d %10d %11.2f +- %5.2f %12.4f %14.0f %10.1f %6d %7d%n",
+            r.benchmark(), r.map(), r.cells(), r.totalOps(), r.opsPerSec(), r.opsPerSecError(),
+            r.msPerOp(), r.bytesPerOp(), r.allocMbPerSec(), r.gcCount(), r.gcTimeMs());
+    }
+
+    private static void writeCsv(List<Result> results, Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("Benchmark,Map,Cells,Ops,Ops_per_s,Ops_per_s_Error,Ms_per_op,"
+                + "Alloc_Bytes_per_op,Alloc_MB_per_s,GC_Count,GC_Time_ms");
+            for (Result r : results) {
+                writer.println(String.format(Locale.ROOT, "%s,%s,%d,%d,%.4f,%.4f,%.6f,%.1f,%.2f,%d,%d",
+                    r.benchmark(), r.map(), r.cells(), r.totalOps(), r.opsPerSec(), r.opsPerSecError(),
+                    r.msPerOp(), r.bytesPerOp(), r.allocMbPerSec(), r.gcCount(), r.gcTimeMs()));
+            }
+        }
+    }
+
+    // === COMMAND LINE ===
+
+    public static void main(String[] args) throws Exception {
+        String include = ".*";
+        String run = null;
+        List<String> maps = null;
+        List<String> jvmArgs = new ArrayList<>();
+        int warmup = 3, iterations = 5, forks = 1;
+        long timeMs = 1000;
+        String out = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = (i + 1 < args.length) ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--include": include = value; i++; break;
+                case "--run": run = value; i++; break;
+                case "--maps": maps = Arrays.asList(value.split(",")); i++; break;
+                case "--warmup": warmup = Integer.parseInt(value); i++; break;
+                case "--iterations": iterations = Integer.parseInt(value); i++; break;
+                case "--time": timeMs = Long.parseLong(value); i++; break;
+                case "--forks": forks = Integer.parseInt(value); i++; break;
+                case "--jvm-args": jvmArgs.addAll(Arrays.asList(value.trim().split("\\s+"))); i++; break;
+                case "--out": out = value; i++; break;
+                default:
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (forks != 0 && forks != 1) {
+            // One fork per (benchmark, map) pair or none; repeated forks are not implemented
+            System.err.println("--forks must be 1 or 0: " + forks);
+            System.exit(2);
+        }
+        MicroBenchmark harness = new MicroBenchmark(warmup, iterations, timeMs);
+
+        if (run != null) {
+            // Forked child: silence solver logging, report one machine-readable line
+            PrintStream stdout = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            Result result = harness.run(run, maps.get(0));
+            stdout.println(RESULT_PREFIX + result.serialize());
+            stdout.flush();
+            return;
+        }
+
+        if (maps == null) maps = BenchmarkEngine.listMazeFiles("data");
+        Pattern filter = Pattern.compile(include);
+        Map<String, List<String>> plan = new LinkedHashMap<>();
+        for (String name : benchmarkNames()) {
+            if (filter.matcher(name).find()) plan.put(name, maps);
+        }
+
+        System.out.printf("# Warmup: %d x %d ms, Measurement: %d x %d ms, Forks: %d%n",
+            warmup, timeMs, iterations, timeMs, forks);
+        printHeader();
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> e : plan.entrySet()) {
+            for (String map : e.getValue()) {
+                try {
+                    Result r;
+                    if (forks > 0) {
+                        r = harness.runForked(e.getKey(), map, jvmArgs);
+                    } else {
+                        PrintStream stdout = System.out;
+                        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+                        try {
+                            r = harness.run(e.getKey(), map);
+                        } finally {
+                            System.setOut(stdout);
+                        }
+                    }
+                    results.add(r);
+                    printRow(r);
+                } catch (Exception ex) {
+                    System.err.println(e.getKey() + " on " + map + " failed: " + ex.getMessage());
+                }
+            }
+        }
+
+        Path outPath = Paths.get(out != null ? out : "output/results/"
+            + ResultWriter.defaultFileName("csv").replace("benchmark_avg_results", "microbench"));
+        writeCsv(results, outPath);
+        System.out.println("Results written to " + outPath.toAbsolutePath());
+    }
+}
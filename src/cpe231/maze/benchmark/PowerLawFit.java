@@ -0,0 +1,61 @@
+package cpe231.maze.benchmark;
+
+/**
+ * Least-squares fit of {@code y = coefficient * N^exponent} on log-log axes.
+ *
+ * @param exponent    slope of ln y against ln N (the empirical complexity exponent)
+ * @param coefficient e^intercept, in the units of y
+ * @param r2          coefficient of determination of the log-log fit
+ * @param points      number of (N, y) points used (non-positive y are skipped)
+ * @param minN        smallest N in the fit
+ * @param maxN        largest N in the fit
+ */
+public record PowerLawFit(double exponent, double coefficient, double r2,
+                          int points, double minN, double maxN) {
+
+    /**
+     * Fits the points; returns null when fewer than two distinct N values have y &gt; 0.
+     */
+    public static PowerLawFit of(double[] n, double[] y) {
+        int count = 0;
+        double sx = 0, sy = 0, minN = Double.POSITIVE_INFINITY, maxN = 0;
+        for (int i = 0; i < n.length; i++) {
+            if (n[i] <= 0 || !(y[i] > 0)) continue;
+            sx += Math.log(n[i]);
+            sy += Math.log(y[i]);
+            minN = Math.min(minN, n[i]);
+            maxN = Math.max(maxN, n[i]);
+            count++;
+        }
+        if (count < 2 || minN == maxN) return null;
+
+        double mx = sx / count, my = sy / count;
+        double sxx = 0, sxy = 0, syy = 0;
+        for (int i = 0; i < n.length; i++) {
+            if (n[i] <= 0 || !(y[i] > 0)) continue;
+            double dx = Math.log(n[i]) - mx, dy = Math.log(y[i]) - my;
+            sxx += dx * dx;
+            sxy += dx * dy;
+            syy += dy * dy;
+        }
+        double slope = sxy / sxx;
+        double intercept = my - slope * mx;
+        double r2 = syy == 0 ? 1.0 : (sxy * sxy) / (sxx * syy);
+        return new PowerLawFit(slope, Math.exp(intercept), r2, count, minN, maxN);
+    }
+
+    public double predict(double n) {
+        return coefficient * Math.pow(n, exponent);
+    }
+
+    /**
+     * N where this curve and {@code other} meet, or NaN if they are parallel
+     * or never cross for N &gt; 1.
+     */
+    public double crossover(PowerLawFit other) {
+        double slopeDiff = exponent - other.exponent;
+        if (Math.abs(slopeDiff) < 1e-9) return Double.NaN;
+        double lnN = (Math.log(other.coefficient) - Math.log(coefficient)) / slopeDiff;
+        return lnN > 0 && lnN < 700 ? Math.exp(lnN) : Double.NaN;
+    }
+}
@@ -0,0 +1,50 @@
+package cpe231.maze.benchmark;
+
+import java.util.List;
+
+/**
+ * Allocation, CPU and GC figures aggregated over successful measured runs.
+ *
+ * A high allocation rate with CPU time close to wall time means the solver
+ * is allocation-bound (the GA case); low allocation with CPU ~= wall means
+ * it is compute-bound.
+ *
+ * Rates and the CPU/wall ratio divide by the profiled wall time, which spans
+ * the same region as the CPU and allocation figures, not by the solver's
+ * reported duration.
+ */
+public record ResourceUsage(
+    double avgAllocatedBytes,
+    double avgCpuTimeMs,
+    double allocRateMbPerSec,
+    double cpuToWallRatio,
+    long gcCount,
+    long gcTimeMs
+) {
+    public static final ResourceUsage EMPTY =
+        new ResourceUsage(Double.NaN, Double.NaN, Double.NaN, Double.NaN, 0, 0);
+
+    public static ResourceUsage of(List<RunSample> samples) {
+        long allocated = 0, cpuNs = 0, wallNs = 0, gcCount = 0, gcTime = 0;
+        int n = 0;
+        boolean hasAlloc = true, hasCpu = true;
+        for (RunSample s : samples) {
+            if (!s.success()) continue;
+            n++;
+            wallNs += s.wallTimeNs();
+            gcCount += s.gcCount();
+            gcTime += s.gcTimeMs();
+            if (s.allocatedBytes() < 0) hasAlloc = false; else allocated += s.allocatedBytes();
+            if (s.cpuTimeNs() < 0) hasCpu = false; else cpuNs += s.cpuTimeNs();
+        }
+        if (n == 0) return EMPTY;
+        double wallSec = wallNs / 1e9;
+        return new ResourceUsage(
+            hasAlloc ? (double) allocated / n : Double.NaN,
+            hasCpu ? cpuNs / 1e6 / n : Double.NaN,
+            hasAlloc && wallSec > 0 ? allocated / wallSec / (1024.0 * 1024.0) : Double.NaN,
+            hasCpu && wallNs > 0 ? (double) cpuNs / wallNs : Double.NaN,
+            gcCount,
+            gcTime);
+    }
+}
@@ -0,0 +1,222 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.core.SearchStats;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes benchmark results as CSV (the {@code output/results/benchmark_avg_results_*.csv}
+ * schema) or JSON.
+ *
+ * The first seven CSV columns are the original schema; distribution columns
+ * are appended after them so older readers keep working. Per-run raw samples
+ * go to a sibling {@code *_samples.csv} file.
+ */
+public final class ResultWriter {
+
+    public static final String CSV_HEADER =
+        "Map,Algorithm,Status,Avg_Time_ms,Avg_Cost,Avg_Nodes_Expanded,Avg_Path_Length"
+        + ",Success_Rate,Warmup_Runs,Measured_Runs,Median_ms,P90_ms,P99_ms,Min_ms,Max_ms"
+        + ",StdDev_ms,CI95_Low_ms,CI95_High_ms,Outliers"
+        + ",Avg_Alloc_Bytes,Alloc_Rate_MB_per_s,Avg_CPU_ms,CPU_Wall_Ratio,GC_Count,GC_Time_ms"
+        + ",Stale_Skips,Pushes,Peak_Queue,Relaxations";
+
+    public static final String SAMPLES_HEADER =
+        "Map,Algorithm,Run,Status,Time_ms,Cost,Nodes_Expanded,Path_Length"
+        + ",Alloc_Bytes,CPU_ms,Wall_ms,GC_Count,GC_Time_ms";
+
+    private ResultWriter() {}
+
+    /**
+     * Default file name, e.g. {@code benchmark_avg_results_20251216_214359.csv}.
+     */
+    public static String defaultFileName(String extension) {
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        return "benchmark_avg_results_" + timestamp + "." + extension;
+    }
+
+    /**
+     * Picks CSV or JSON from the file extension.
+     */
+    public static void write(List<BenchmarkResult> results, Path out) throws IOException {
+        if (out.toString().toLowerCase(Locale.ROOT).endsWith(".json")) {
+            writeJson(results, out);
+        } else {
+            writeCsv(results, out);
+        }
+    }
+
+    /**
+     * Writes the summary CSV and, next to it, the raw per-run samples.
+     */
+    public static void writeCsv(List<BenchmarkResult> results, Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println(CSV_HEADER);
+            for (BenchmarkResult r : results) {
+                writer.println(toCsvLine(r));
+            }
+        }
+        writeSamplesCsv(results, samplesPathFor(out));
+    }
+
+    public static void writeSamplesCsv(List<BenchmarkResult> results, Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println(SAMPLES_HEADER);
+            for (BenchmarkResult r : results) {
+                for (RunSample s : r.samples()) {
+                    writer.println(String.join(",",
+                        r.map(),
+                        r.algorithm(),
+                        Integer.toString(s.run()),
+                        s.success() ? "SUCCESS" : "FAILED",
+                        fmt("%.4f", s.durationMs()),
+                        Integer.toString(s.cost()),
+                        Long.toString(s.nodesExpanded()),
+                        Integer.toString(s.pathLength()),
+                        Long.toString(s.allocatedBytes()),
+                        s.cpuTimeNs() < 0 ? "-1" : fmt("%.4f", s.cpuTimeNs() / 1e6),
+                        fmt("%.4f", s.wallTimeNs() / 1e6),
+                        Long.toString(s.gcCount()),
+                        Long.toString(s.gcTimeMs())));
+                }
+            }
+        }
+    }
+
+    /**
+     * {@code results.csv} -> {@code results_samples.csv} in the same directory.
+     */
+    public static Path samplesPathFor(Path summary) {
+        String name = summary.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        return summary.resolveSibling(base + "_samples.csv");
+    }
+
+    public static void writeJson(List<BenchmarkResult> results, Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                BenchmarkResult r = results.get(i);
+                writer.print("  {");
+                writer.print("\"Map\": " + quote(r.map()));
+                writer.print(", \"Algorithm\": " + quote(r.algorithm()));
+                writer.print(", \"Status\": " + quote(r.isSuccess() ? "SUCCESS" : "FAILED"));
+                writer.print(", \"Successful_Runs\": " + r.successfulRuns());
+                writer.print(", \"Iterations\": " + r.iterations());
+                writer.print(", \"Warmup_Runs\": " + r.warmupIterations());
+                writer.print(", \"Success_Rate\": " + fmt("%.4f", r.successRate()));
+                if (r.isSuccess()) {
+                    LatencyStats l = r.latency();
+                    writer.print(", \"Avg_Time_ms\": " + fmt("%.4f", r.avgTimeMs()));
+                    writer.print(", \"Avg_Cost\": " + fmt("%.1f", r.avgCost()));
+                    writer.print(", \"Avg_Nodes_Expanded\": " + fmt("%.0f", r.avgNodes()));
+                    writer.print(", \"Avg_Path_Length\": " + fmt("%.1f", r.avgPathLength()));
+                    writer.print(", \"Median_ms\": " + fmt("%.4f", l.medianMs()));
+                    writer.print(", \"P90_ms\": " + fmt("%.4f", l.p90Ms()));
+                    writer.print(", \"P99_ms\": " + fmt("%.4f", l.p99Ms()));
+                    writer.print(", \"Min_ms\": " + fmt("%.4f", l.minMs()));
+                    writer.print(", \"Max_ms\": " + fmt("%.4f", l.maxMs()));
+                    writer.print(", \"StdDev_ms\": " + fmt("%.4f", l.stdDevMs()));
+                    writer.print(", \"CI95_Low_ms\": " + fmt("%.4f", l.ci95LowMs()));
+                    writer.print(", \"CI95_High_ms\": " + fmt("%.4f", l.ci95HighMs()));
+                    writer.print(", \"Outliers\": " + l.outliers());
+                    ResourceUsage u = r.resources();
+                    writer.print(", \"Avg_Alloc_Bytes\": " + jsonNumber("%.0f", u.avgAllocatedBytes()));
+                    writer.print(", \"Alloc_Rate_MB_per_s\": " + jsonNumber("%.2f", u.allocRateMbPerSec()));
+                    writer.print(", \"Avg_CPU_ms\": " + jsonNumber("%.4f", u.avgCpuTimeMs()));
+                    writer.print(", \"CPU_Wall_Ratio\": " + jsonNumber("%.3f", u.cpuToWallRatio()));
+                    writer.print(", \"GC_Count\": " + u.gcCount());
+                    writer.print(", \"GC_Time_ms\": " + u.gcTimeMs());
+                    SearchStats st = r.searchStats();
+                    if (st != null) {
+                        writer.print(", \"Stale_Skips\": " + st.staleSkips());
+                        writer.print(", \"Pushes\": " + st.pushes());
+                        writer.print(", \"Peak_Queue\": " + st.peakQueue());
+                        writer.print(", \"Relaxations\": " + st.relaxations());
+                    }
+                }
+                writer.print(", \"Time_Samples_ms\": [");
+                for (int j = 0; j < r.samples().size(); j++) {
+                    RunSample sample = r.samples().get(j);
+                    if (j > 0) writer.print(", ");
+                    writer.print(sample.success() ? fmt("%.4f", sample.durationMs()) : "null");
+                }
+                writer.print("]");
+                writer.println(i < results.size() - 1 ? "}," : "}");
+            }
+            writer.println("]");
+        }
+    }
+
+    static String toCsvLine(BenchmarkResult r) {
+        String common = String.join(",",
+            fmt("%.4f", r.successRate()),
+            Integer.toString(r.warmupIterations()),
+            Integer.toString(r.iterations()));
+        if (!r.isSuccess()) {
+            return String.join(",", r.map(), r.algorithm(), "FAILED", "-", "-", "-", "-",
+                common, "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-", "-",
+                "-", "-", "-", "-");
+        }
+        LatencyStats l = r.latency();
+        SearchStats st = r.searchStats();
+        return String.join(",",
+            r.map(),
+            r.algorithm(),
+            "SUCCESS",
+            fmt("%.2f", r.avgTimeMs()),
+            fmt("%.1f", r.avgCost()),
+            fmt("%.0f", r.avgNodes()),
+            fmt("%.1f", r.avgPathLength()),
+            common,
+            fmt("%.4f", l.medianMs()),
+            fmt("%.4f", l.p90Ms()),
+            fmt("%.4f", l.p99Ms()),
+            fmt("%.4f", l.minMs()),
+            fmt("%.4f", l.maxMs()),
+            fmt("%.4f", l.stdDevMs()),
+            fmt("%.4f", l.ci95LowMs()),
+            fmt("%.4f", l.ci95HighMs()),
+            Integer.toString(l.outliers()),
+            fmt("%.0f", r.resources().avgAllocatedBytes()),
+            fmt("%.2f", r.resources().allocRateMbPerSec()),
+            fmt("%.4f", r.resources().avgCpuTimeMs()),
+            fmt("%.3f", r.resources().cpuToWallRatio()),
+            Long.toString(r.resources().gcCount()),
+            Long.toString(r.resources().gcTimeMs()),
+            st == null ? "-" : Long.toString(st.staleSkips()),
+            st == null ? "-" : Long.toString(st.pushes()),
+            st == null ? "-" : Long.toString(st.peakQueue()),
+            st == null ? "-" : Long.toString(st.relaxations()));
+    }
+
+    static String fmt(String pattern, double value) {
+        return String.format(Locale.ROOT, pattern, value);
+    }
+
+    // JSON has no NaN literal
+    private static String jsonNumber(String pattern, double value) {
+        return Double.isNaN(value) ? "null" : fmt(pattern, value);
+    }
+
+    private static String quote(String s) {
+        return "\"" + s.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    private static void createParent(Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+    }
+}
@@ -0,0 +1,29 @@
+package cpe231.maze.benchmark;
+
+/**
+ * Raw measurement of one measured (non-warmup) run.
+ * Failed runs are kept with {@code success = false} so they count against
+ * the success rate instead of disappearing.
+ *
+ * Resource fields come from {@link cpe231.maze.core.SolveMetrics};
+ * -1 means the JVM could not provide the value. {@code wallTimeNs} is the
+ * profiled span those figures cover; {@code durationNs} is the solver's own
+ * timing, which may leave out setup.
+ */
+public record RunSample(
+    int run,
+    boolean success,
+    long durationNs,
+    int cost,
+    long nodesExpanded,
+    int pathLength,
+    long allocatedBytes,
+    long cpuTimeNs,
+    long wallTimeNs,
+    long gcCount,
+    long gcTimeMs
+) {
+    public double durationMs() {
+        return durationNs / 1_000_000.0;
+    }
+}
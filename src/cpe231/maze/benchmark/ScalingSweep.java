@@ -0,0 +1,368 @@
+package cpe231.maze.benchmark;
+
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.io.MazeCache;
+import cpe231.maze.io.MazeGenerator;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scaling sweep: runs each solver over a geometric series of maze sizes and
+ * fits time, nodes expanded and allocation against N = rows * cols on
+ * log-log axes ({@link PowerLawFit}).
+ *
+ * The series is the {@code data/} maps followed by generated mazes whose
+ * side doubles from {@code --min-side} up to {@code --max-side}. Generated
+ * files go to {@code data/gen/} and are reused on the next sweep. A solver
+ * stops climbing once its median time passes {@code --budget-ms}.
+ *
+ * Usage:
+ * <pre>
+ * java -cp bin cpe231.maze.benchmark.ScalingSweep \
+ *     [--solvers AStar,Dijkstra] [--data data|none] [--min-side 128] [--max-side 1024] \
+ *     [--factor 2] [--algorithm braided] [--seed 42] [--warmup 1] [--iterations 3] \
+ *     [--budget-ms 5000] [--out output/results/scaling_&lt;timestamp&gt;.csv]
+ * </pre>
+ * Writes the measured points to {@code <out>} and the fits and crossovers to
+ * {@code <out>_fits.csv}.
+ */
+public class ScalingSweep {
+
+    public enum Metric {
+        TIME("Time_ms"),
+        NODES("Nodes"),
+        ALLOC("Alloc_Bytes");
+
+        final String label;
+
+        Metric(String label) {
+            this.label = label;
+        }
+    }
+
+    /** One measured (solver, maze) cell of the sweep. */
+    public record Point(String solver, String map, int rows, int cols, BenchmarkResult result) {
+        public long cells() {
+            return (long) rows * cols;
+        }
+
+        double value(Metric m) {
+            switch (m) {
+                case TIME: return result.latency().medianMs();
+                case NODES: return result.avgNodes();
+                default: return result.resources().avgAllocatedBytes();
+            }
+        }
+    }
+
+    /**
+     * N at which two solvers' time curves cross. {@code measured} is false when
+     * N lies outside the range both fits were measured over.
+     */
+    public record Crossover(String solverA, String solverB, double cells, String fasterBelow, String fasterAbove,
+                            boolean measured) {}
+
+    // Sizes to extrapolate to in the report
+    private static final double[] PROJECTED_CELLS = {1e6, 1e7, 1e8};
+
+    private final BenchmarkEngine engine = new BenchmarkEngine();
+    private final int warmup;
+    private final int iterations;
+    private final double budgetMs;
+
+    public ScalingSweep(int warmup, int iterations, double budgetMs) {
+        if (warmup < 0 || iterations < 1) throw new IllegalArgumentException("Need warmup >= 0 and iterations >= 1");
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.budgetMs = budgetMs;
+    }
+
+    /**
+     * Geometric series of generated mazes: side = minSide, minSide * factor, ... &lt;= maxSide.
+     * Existing files are reused; missing ones are generated.
+     */
+    public static List<String> generatedSeries(MazeGenerator.Algorithm algorithm, int minSide, int maxSide,
+                                               double factor, long seed) throws IOException {
+        if (factor <= 1) throw new IllegalArgumentException("factor must be > 1");
+        List<String> paths = new ArrayList<>();
+        for (double side = minSide; side <= maxSide; side *= factor) {
+            int s = (int) Math.round(side);
+            Path out = Paths.get(String.format("data/gen/sweep_%s_%d_s%d.txt",
+                algorithm.name().toLowerCase(), s, seed));
+            if (!Files.exists(out)) {
+                System.out.println("Generating " + out + " ...");
+                new MazeGenerator(new MazeGenerator.Spec(algorithm, s, s, seed)).writeText(out);
+            }
+            paths.add(out.toString());
+        }
+        return paths;
+    }
+
+    /**
+     * Measures every solver on every map in increasing N order.
+     */
+    public List<Point> run(List<String> mapPaths, List<String> solvers) {
+        List<MazeEntry> mazes = new ArrayList<>();
+        for (String path : mapPaths) {
+            try {
+                MazeContext ctx = MazeCache.shared().load(path);
+                mazes.add(new MazeEntry(path, ctx));
+            } catch (Exception e) {
+                System.err.println("Error loading " + path + ": " + e.getMessage());
+            }
+        }
+        mazes.sort(Comparator.comparingLong(m -> (long) m.ctx().rows * m.ctx().cols));
+
+        List<Point> points = new ArrayList<>();
+        for (String solverName : solvers) {
+            for (MazeEntry maze : mazes) {
+                MazeContext ctx = maze.ctx();
+                String mapName = new File(maze.path()).getName();
+                BenchmarkResult r = engine.measure(mapName, SolverFactory.create(solverName), ctx, warmup, iterations);
+                points.add(new Point(r.algorithm(), mapName, ctx.rows, ctx.cols, r));
+                System.out.printf("  %-10s %-28s N=%-9d %s%n", r.algorithm(), mapName, (long) ctx.rows * ctx.cols,
+                    r.isSuccess()
+                        ? String.format("median %.3f ms, %.0f nodes", r.latency().medianMs(), r.avgNodes())
+                        : "FAILED");
+                if (r.isSuccess() && r.latency().medianMs() > budgetMs) {
+                    System.out.printf("  %s exceeded %.0f ms; skipping larger mazes%n", r.algorithm(), budgetMs);
+                    break;
+                }
+            }
+        }
+        return points;
+    }
+
+    private record MazeEntry(String path, MazeContext ctx) {}
+
+    // === Analysis ===
+
+    /**
+     * Fits each metric per solver over the successful points. Missing entries
+     * mean there were too few usable points.
+     */
+    public static Map<String, Map<Metric, PowerLawFit>> fit(List<Point> points) {
+        Map<String, List<Point>> bySolver = new LinkedHashMap<>();
+        for (Point p : points) {
+            if (p.result().isSuccess()) bySolver.computeIfAbsent(p.solver(), k -> new ArrayList<>()).add(p);
+        }
+        Map<String, Map<Metric, PowerLawFit>> fits = new LinkedHashMap<>();
+        for (Map.Entry<String, List<Point>> e : bySolver.entrySet()) {
+            List<Point> ps = e.getValue();
+            double[] n = ps.stream().mapToDouble(Point::cells).toArray();
+            Map<Metric, PowerLawFit> perMetric = new LinkedHashMap<>();
+            for (Metric m : Metric.values()) {
+                double[] y = ps.stream().mapToDouble(p -> p.value(m)).toArray();
+                PowerLawFit f = PowerLawFit.of(n, y);
+                if (f != null) perMetric.put(m, f);
+            }
+            fits.put(e.getKey(), perMetric);
+        }
+        return fits;
+    }
+
+    /**
+     * Pairwise crossover points of the time curves, up to the largest maze the
+     * generator supports ({@link MazeGenerator#MAX_SIZE} squared).
+     */
+    public static List<Crossover> crossovers(Map<String, Map<Metric, PowerLawFit>> fits) {
+        List<String> solvers = new ArrayList<>(fits.keySet());
+        List<Crossover> out = new ArrayList<>();
+        for (int i = 0; i < solvers.size(); i++) {
+            for (int j = i + 1; j < solvers.size(); j++) {
+                PowerLawFit a = fits.get(solvers.get(i)).get(Metric.TIME);
+                PowerLawFit b = fits.get(solvers.get(j)).get(Metric.TIME);
+                if (a == null || b == null) continue;
+                double n = a.crossover(b);
+                if (Double.isNaN(n) || n > (double) MazeGenerator.MAX_SIZE * MazeGenerator.MAX_SIZE) continue;
+                boolean measured = n >= Math.max(a.minN(), b.minN()) && n <= Math.min(a.maxN(), b.maxN());
+                // The steeper curve wins below the crossover
+                boolean aSteeper = a.exponent() > b.exponent();
+                out.add(new Crossover(solvers.get(i), solvers.get(j), n,
+                    aSteeper ? solvers.get(i) : solvers.get(j),
+                    aSteeper ? solvers.get(j) : solvers.get(i), measured));
+            }
+        }
+        return out;
+    }
+
+    // === Reporting ===
+
+    public static void printReport(Map<String, Map<Metric, PowerLawFit>> fits, List<Crossover> crossovers) {
+        System.out.println("\n=== SCALING FITS (y = c * N^k, N = rows * cols) ===");
+        System.out.printf("%-10s %-12s %8s %12s %7s %6s %21s%n",
+            "Solver", "Metric", "k", "c", "R^2", "Pts", "N range");
+        for (Map.Entry<String, Map<Metric, PowerLawFit>> e : fits.entrySet()) {
+            for (Map.Entry<Metric, PowerLawFit> m : e.getValue().entrySet()) {
+                PowerLawFit f = m.getValue();
+                System.out.printf("%-10s %-12s %8.3f %12.4g %7.4f %6d %10.0f-%-10.0f%n",
+                    e.getKey(), m.getKey().label, f.exponent(), f.coefficient(), f.r2(), f.points(),
+                    f.minN(), f.maxN());
+            }
+        }
+
+        System.out.println("\nProjected median time:");
+        System.out.printf("%-10s", "Solver");
+        for (double n : PROJECTED_CELLS) System.out.printf(" %14s", String.format("N=%.0e", n));
+        System.out.println();
+        for (Map.Entry<String, Map<Metric, PowerLawFit>> e : fits.entrySet()) {
+            PowerLawFit t = e.getValue().get(Metric.TIME);
+            if (t == null) continue;
+            System.out.printf("%-10s", e.getKey());
+            for (double n : PROJECTED_CELLS) System.out.printf(" %11.1f ms", t.predict(n));
+            System.out.println(t.maxN() < PROJECTED_CELLS[0] ? "  (extrapolated)" : "");
+        }
+
+        System.out.println("\nTime crossovers:");
+        if (crossovers.isEmpty()) System.out.println("  none up to N = 1e8");
+        for (Crossover c : crossovers) {
+            System.out.printf("  %s vs %s at N ~ %.0f: %s faster below, %s faster above%s%n",
+                c.solverA(), c.solverB(), c.cells(), c.fasterBelow(), c.fasterAbove(),
+                c.measured() ? "" : " (extrapolated)");
+        }
+    }
+
+    public static void writePoints(List<Point> points, Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("Solver,Map,Rows,Cols,Cells,Status,Success_Rate,Median_ms,Avg_Time_ms,"
+                + "Avg_Nodes_Expanded,Avg_Alloc_Bytes,Avg_Cost");
+            for (Point p : points) {
+                BenchmarkResult r = p.result();
+                writer.println(String.join(",",
+                    p.solver(), p.map(), Integer.toString(p.rows()), Integer.toString(p.cols()),
+                    Long.toString(p.cells()), r.isSuccess() ? "SUCCESS" : "FAILED",
+                    ResultWriter.fmt("%.4f", r.successRate()),
+                    ResultWriter.fmt("%.4f", r.latency().medianMs()),
+                    ResultWriter.fmt("%.4f", r.avgTimeMs()),
+                    ResultWriter.fmt("%.0f", r.avgNodes()),
+                    ResultWriter.fmt("%.0f", r.resources().avgAllocatedBytes()),
+                    ResultWriter.fmt("%.1f", r.avgCost())));
+            }
+        }
+    }
+
+    public static void writeFits(Map<String, Map<Metric, PowerLawFit>> fits, List<Crossover> crossovers,
+                                 Path out) throws IOException {
+        createParent(out);
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(out, StandardCharsets.UTF_8))) {
+            writer.println("Kind,Solver,Metric,Exponent,Coefficient,R2,Points,Min_Cells,Max_Cells,"
+                + "Crossover_Cells,Faster_Below,Faster_Above,Extrapolated");
+            for (Map.Entry<String, Map<Metric, PowerLawFit>> e : fits.entrySet()) {
+                for (Map.Entry<Metric, PowerLawFit> m : e.getValue().entrySet()) {
+                    PowerLawFit f = m.getValue();
+                    writer.println(String.join(",", "fit", e.getKey(), m.getKey().label,
+                        ResultWriter.fmt("%.4f", f.exponent()), ResultWriter.fmt("%.6g", f.coefficient()),
+                        ResultWriter.fmt("%.4f", f.r2()), Integer.toString(f.points()),
+                        ResultWriter.fmt("%.0f", f.minN()), ResultWriter.fmt("%.0f", f.maxN()), "-", "-", "-", "-"));
+                }
+            }
+            for (Crossover c : crossovers) {
+                writer.println(String.join(",", "crossover", c.solverA() + "/" + c.solverB(), "Time_ms",
+                    "-", "-", "-", "-", "-", "-", ResultWriter.fmt("%.0f", c.cells()), c.fasterBelow(), c.fasterAbove(),
+                    Boolean.toString(!c.measured())));
+            }
+        }
+    }
+
+    private static void createParent(Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+    }
+
+    public static void main(String[] args) {
+        List<String> solvers = SolverFactory.names();
+        String dataDir = "data";
+        int minSide = 128, maxSide = 1024, warmup = 1, iterations = 3;
+        double factor = 2, budgetMs = 5000;
+        long seed = 42;
+        MazeGenerator.Algorithm algorithm = MazeGenerator.Algorithm.BRAIDED;
+        String out = null;
+        ScalingSweep sweep;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--solvers": solvers = Arrays.asList(value.split(",")); i++; break;
+                    case "--data": dataDir = value; i++; break;
+                    case "--min-side": minSide = Integer.parseInt(value); i++; break;
+                    case "--max-side": maxSide = Integer.parseInt(value); i++; break;
+                    case "--factor": factor = Double.parseDouble(value); i++; break;
+                    case "--algorithm":
+                        algorithm = MazeGenerator.Algorithm.valueOf(value.toUpperCase().replace('-', '_'));
+                        i++;
+                        break;
+                    case "--seed": seed = Long.parseLong(value); i++; break;
+                    case "--warmup": warmup = Integer.parseInt(value); i++; break;
+                    case "--iterations": iterations = Integer.parseInt(value); i++; break;
+                    case "--budget-ms": budgetMs = Double.parseDouble(value); i++; break;
+                    case "--out": out = value; i++; break;
+                    case "--help":
+                        printUsage();
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            solvers.forEach(SolverFactory::create); // fail fast on unknown names
+            sweep = new ScalingSweep(warmup, iterations, budgetMs);
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        List<String> maps = new ArrayList<>();
+        if (!"none".equalsIgnoreCase(dataDir)) maps.addAll(BenchmarkEngine.listMazeFiles(dataDir));
+        try {
+            if (minSide <= maxSide) maps.addAll(generatedSeries(algorithm, minSide, maxSide, factor, seed));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not generate sweep mazes: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        System.out.println("\n=== SCALING SWEEP (" + maps.size() + " mazes, " + warmup + " warmup + "
+            + iterations + " measured runs) ===");
+        List<Point> points = sweep.run(maps, solvers);
+        Map<String, Map<Metric, PowerLawFit>> fits = fit(points);
+        List<Crossover> crossovers = crossovers(fits);
+        printReport(fits, crossovers);
+
+        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
+        Path outPath = Paths.get(out != null ? out : "output/results/scaling_" + timestamp + ".csv");
+        String name = outPath.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        Path fitsPath = outPath.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + "_fits.csv");
+        try {
+            writePoints(points, outPath);
+            writeFits(fits, crossovers, fitsPath);
+            System.out.println("\nPoints written to " + outPath.toAbsolutePath());
+            System.out.println("Fits written to " + fitsPath.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Error saving file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: ScalingSweep [--solvers " + String.join(",", SolverFactory.names()) + "] "
+            + "[--data dir|none] [--min-side N] [--max-side N] [--factor F] [--algorithm braided|prim|...] "
+            + "[--seed N] [--warmup N] [--iterations N] [--budget-ms MS] [--out file.csv]");
+    }
+}
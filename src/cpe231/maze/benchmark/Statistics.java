@@ -0,0 +1,174 @@
+package cpe231.maze.benchmark;
+
+/**
+ * Small descriptive-statistics toolkit for benchmark samples.
+ */
+public final class Statistics {
+
+    // Two-sided 95% Student-t critical values for df = 1..30
+    private static final double[] T_975 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    private Statistics() {}
+
+    public static double mean(double[] xs) {
+        if (xs.length == 0) return Double.NaN;
+        double sum = 0;
+        for (double x : xs) sum += x;
+        return sum / xs.length;
+    }
+
+    /**
+     * Sample standard deviation (n - 1 denominator); 0 for fewer than two samples.
+     */
+    public static double stdDev(double[] xs) {
+        if (xs.length < 2) return 0;
+        double m = mean(xs);
+        double ss = 0;
+        for (double x : xs) ss += (x - m) * (x - m);
+        return Math.sqrt(ss / (xs.length - 1));
+    }
+
+    /**
+     * Half-width of the 95% confidence interval of the mean.
+     */
+    public static double ci95HalfWidth(double[] xs) {
+        if (xs.length < 2) return 0;
+        return tCritical95(xs.length - 1) * stdDev(xs) / Math.sqrt(xs.length);
+    }
+
+    /**
+     * Percentile of an ascending-sorted array with linear interpolation
+     * between closest ranks ({@code p} in 0..100).
+     */
+    public static double percentile(double[] sorted, double p) {
+        if (sorted.length == 0) return Double.NaN;
+        if (sorted.length == 1) return sorted[0];
+        double rank = (p / 100.0) * (sorted.length - 1);
+        int lo = (int) Math.floor(rank);
+        int hi = (int) Math.ceil(rank);
+        return sorted[lo] + (sorted[hi] - sorted[lo]) * (rank - lo);
+    }
+
+    /**
+     * Number of samples outside Tukey's fences (1.5 x IQR beyond the quartiles).
+     */
+    public static int countOutliers(double[] sorted) {
+        if (sorted.length < 4) return 0;
+        double q1 = percentile(sorted, 25), q3 = percentile(sorted, 75);
+        double fence = 1.5 * (q3 - q1);
+        int outliers = 0;
+        for (double x : sorted) {
+            if (x < q1 - fence || x > q3 + fence) outliers++;
+        }
+        return outliers;
+    }
+
+    /**
+     * Two-sided 95% Student-t critical value for the given degrees of freedom.
+     */
+    public static double tCritical95(int df) {
+        if (df < 1) return Double.NaN;
+        if (df <= T_975.length) return T_975[df - 1];
+        if (df <= 60) return 2.000 + (2.042 - 2.000) * (60 - df) / 30.0;
+        if (df <= 120) return 1.980 + (2.000 - 1.980) * (120 - df) / 60.0;
+        return 1.960;
+    }
+
+    /**
+     * Sample variance (n - 1 denominator); 0 for fewer than two samples.
+     */
+    public static double variance(double[] xs) {
+        double sd = stdDev(xs);
+        return sd * sd;
+    }
+
+    /**
+     * Two-sided p-value of Welch's unequal-variance t-test for a difference
+     * in means. Returns 1 when either side has fewer than two samples, and
+     * 0 or 1 when both sides have zero variance (means differ or not).
+     */
+    public static double welchTTestPValue(double[] a, double[] b) {
+        if (a.length < 2 || b.length < 2) return 1.0;
+        double va = variance(a) / a.length;
+        double vb = variance(b) / b.length;
+        double diff = mean(a) - mean(b);
+        if (va + vb == 0) return diff == 0 ? 1.0 : 0.0;
+        double t = diff / Math.sqrt(va + vb);
+        double df = (va + vb) * (va + vb)
+            / (va * va / (a.length - 1) + vb * vb / (b.length - 1));
+        return studentTTwoSidedP(t, df);
+    }
+
+    /**
+     * P(|T| >= |t|) for Student's t distribution with {@code df} degrees of freedom.
+     */
+    public static double studentTTwoSidedP(double t, double df) {
+        double x = df / (df + t * t);
+        return Math.min(1.0, Math.max(0.0, regularizedIncompleteBeta(x, df / 2.0, 0.5)));
+    }
+
+    /**
+     * Regularized incomplete beta I_x(a, b) (continued fraction, Lentz's method).
+     */
+    static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0) return 0;
+        if (x >= 1) return 1;
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+            + a * Math.log(x) + b * Math.log(1 - x));
+        // The continued fraction converges fastest for x < (a + 1) / (a + b + 2)
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    private static double betaContinuedFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1, d = 1 - (a + b) * x / (a + 1);
+        if (Math.abs(d) < tiny) d = tiny;
+        d = 1 / d;
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            h *= d * c;
+            aa = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1 / d;
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < 1e-12) break;
+        }
+        return h;
+    }
+
+    // Lanczos approximation (g = 7, n = 9)
+    private static final double[] LANCZOS = {
+        0.99999999999980993, 676.5203681218851, -1259.1392167224028,
+        771.32342877765313, -176.61502916214059, 12.507343278686905,
+        -0.13857109526572012, 9.9843695780195716e-6, 1.5056327351493116e-7
+    };
+
+    static double logGamma(double x) {
+        if (x < 0.5) {
+            return Math.log(Math.PI / Math.sin(Math.PI * x)) - logGamma(1 - x);
+        }
+        x -= 1;
+        double sum = LANCZOS[0];
+        for (int i = 1; i < LANCZOS.length; i++) sum += LANCZOS[i] / (x + i);
+        double t = x + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (x + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+}
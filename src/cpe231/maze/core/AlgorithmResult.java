@@ -1,18 +1,42 @@
 package cpe231.maze.core;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Immutable record to hold algorithm results.
  * Now includes helper methods for the UI and Benchmark.
+ * 
+ * {@code metrics} is only present when the solve was run through
+ * {@link SolveProfiler}; it is null otherwise. {@code searchStats} is filled
+ * by the graph-search solvers and null for the others.
  */
 public record AlgorithmResult(
     String status,
     List<int[]> path,
     int cost,
     long durationNs,
-    long nodesExpanded
+    long nodesExpanded,
+    SolveMetrics metrics,
+    SearchStats searchStats
 ) {
+    public AlgorithmResult(String status, List<int[]> path, int cost, long durationNs, long nodesExpanded) {
+        this(status, path, cost, durationNs, nodesExpanded, null, null);
+    }
+
+    public AlgorithmResult(String status, List<int[]> path, int cost, long durationNs, long nodesExpanded,
+                           SearchStats searchStats) {
+        this(status, path, cost, durationNs, nodesExpanded, null, searchStats);
+    }
+
+    /**
+     * Result for a query whose start and goal are in different components:
+     * no path exists, so nothing was searched.
+     */
+    public static AlgorithmResult unreachable(long durationNs) {
+        return new AlgorithmResult("Unreachable", new ArrayList<>(), -1, durationNs, 0);
+    }
+
     /**
      * Returns true if the algorithm successfully found the goal.
      */
@@ -26,4 +50,11 @@ public record AlgorithmResult(
     public double getDurationMs() {
         return durationNs / 1_000_000.0;
     }
-}
\ No newline at end of file
+
+    /**
+     * Returns a copy of this result with instrumentation attached.
+     */
+    public AlgorithmResult withMetrics(SolveMetrics metrics) {
+        return new AlgorithmResult(status, path, cost, durationNs, nodesExpanded, metrics, searchStats);
+    }
+}
@@ -0,0 +1,120 @@
+package cpe231.maze.core;
+
+import java.util.Arrays;
+
+/**
+ * 4-connected component labels of a maze's open cells.
+ *
+ * Two cells are connected iff some path of non-wall cells joins them, so a
+ * query whose start and goal carry different labels has no solution and can
+ * be rejected without searching. Labeling is one flood fill over the grid
+ * (O(rows * cols)); {@link MazeContext#components()} computes it once per
+ * grid and shares it with every {@link MazeContext#withEndpoints} view.
+ *
+ * Usage Example:
+ * <pre>
+ * if (!context.isGoalReachable()) return AlgorithmResult.unreachable(0);
+ * </pre>
+ */
+public final class ConnectedComponents {
+
+    /** Label of wall cells. */
+    public static final int WALL = -1;
+
+    private final int cols;
+    private final int[] labels;
+    private final int[] sizes;
+
+    private ConnectedComponents(int cols, int[] labels, int[] sizes) {
+        this.cols = cols;
+        this.labels = labels;
+        this.sizes = sizes;
+    }
+
+    /**
+     * Labels every open cell of {@code grid} (walls are -1).
+     */
+    public static ConnectedComponents of(int[][] grid) {
+        int rows = grid.length, cols = grid[0].length;
+        int cells = rows * cols;
+        int[] labels = new int[cells];
+        Arrays.fill(labels, WALL);
+        int[] queue = new int[cells];
+        int[] sizes = new int[16];
+        int count = 0;
+
+        for (int seed = 0; seed < cells; seed++) {
+            if (labels[seed] != WALL || grid[seed / cols][seed % cols] == -1) continue;
+            int label = count++;
+            labels[seed] = label;
+            int head = 0, tail = 0;
+            queue[tail++] = seed;
+            while (head < tail) {
+                int u = queue[head++];
+                int r = u / cols, c = u % cols;
+                if (r > 0 && labels[u - cols] == WALL && grid[r - 1][c] != -1) {
+                    labels[u - cols] = label;
+                    queue[tail++] = u - cols;
+                }
+                if (r < rows - 1 && labels[u + cols] == WALL && grid[r + 1][c] != -1) {
+                    labels[u + cols] = label;
+                    queue[tail++] = u + cols;
+                }
+                if (c > 0 && labels[u - 1] == WALL && grid[r][c - 1] != -1) {
+                    labels[u - 1] = label;
+                    queue[tail++] = u - 1;
+                }
+                if (c < cols - 1 && labels[u + 1] == WALL && grid[r][c + 1] != -1) {
+                    labels[u + 1] = label;
+                    queue[tail++] = u + 1;
+                }
+            }
+            if (label == sizes.length) sizes = Arrays.copyOf(sizes, sizes.length * 2);
+            sizes[label] = tail;
+        }
+        return new ConnectedComponents(cols, labels, Arrays.copyOf(sizes, count));
+    }
+
+    /**
+     * Component of the cell, or {@link #WALL}.
+     */
+    public int label(int row, int col) {
+        return labels[row * cols + col];
+    }
+
+    /**
+     * Component of the cell index ({@code row * cols + col}), or {@link #WALL}.
+     */
+    public int label(int cell) {
+        return labels[cell];
+    }
+
+    /**
+     * True if both cells are open and a path of open cells joins them.
+     */
+    public boolean connected(int cellA, int cellB) {
+        int a = labels[cellA];
+        return a != WALL && a == labels[cellB];
+    }
+
+    /**
+     * Number of components.
+     */
+    public int count() {
+        return sizes.length;
+    }
+
+    /**
+     * Number of open cells in component {@code label}.
+     */
+    public int size(int label) {
+        return sizes[label];
+    }
+
+    @Override
+    public String toString() {
+        int largest = 0;
+        for (int s : sizes) largest = Math.max(largest, s);
+        return String.format("ConnectedComponents[%d components, largest=%d cells]", sizes.length, largest);
+    }
+}
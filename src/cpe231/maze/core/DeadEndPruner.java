@@ -0,0 +1,98 @@
+package cpe231.maze.core;
+
+/**
+ * Dead-end filling: removes cells that can never lie on a start-goal path.
+ *
+ * An open cell other than start and goal with at most one open neighbour
+ * is a dead end: a simple path would have to enter and leave it through
+ * the same cell. Walling it off can turn its neighbour into a dead end, so
+ * the pass repeats until none is left, which removes whole dead-end
+ * branches. Since every cheapest path is simple (costs are non-negative),
+ * the pruned maze has the same optimal cost, and any path in it is a
+ * valid path in the original.
+ *
+ * Only tree-shaped branches are removed; a branch that contains a loop
+ * keeps its loop. On perfect mazes (no loops) only the start-goal
+ * corridor survives.
+ *
+ * Usage Example:
+ * <pre>
+ * MazeContext reduced = context.pruned();   // cached per context
+ * AlgorithmResult r = new PureGASolver().solve(reduced);
+ * </pre>
+ */
+public final class DeadEndPruner {
+
+    private DeadEndPruner() {}
+
+    /**
+     * Cells that survive dead-end filling, indexed {@code row * cols + col}
+     * (false for walls and pruned cells).
+     */
+    public static boolean[] mask(MazeContext context) {
+        int rows = context.rows, cols = context.cols;
+        int[][] grid = context.getGridDirect();
+        int cells = rows * cols;
+        int start = context.getStartIndex(), end = context.getEndIndex();
+
+        boolean[] open = new boolean[cells];
+        for (int i = 0; i < cells; i++) open[i] = grid[i / cols][i % cols] != -1;
+
+        int[] degree = new int[cells];
+        int[] stack = new int[cells];
+        int top = 0;
+        for (int u = 0; u < cells; u++) {
+            if (!open[u]) continue;
+            degree[u] = openNeighbours(open, u, rows, cols);
+            if (degree[u] <= 1 && u != start && u != end) stack[top++] = u;
+        }
+
+        // Each cell is pushed at most once: when its degree first drops to 1 (or it starts at <= 1)
+        while (top > 0) {
+            int u = stack[--top];
+            open[u] = false;
+            int r = u / cols, c = u % cols;
+            if (r > 0) top = release(open, degree, stack, top, u - cols, start, end);
+            if (r < rows - 1) top = release(open, degree, stack, top, u + cols, start, end);
+            if (c > 0) top = release(open, degree, stack, top, u - 1, start, end);
+            if (c < cols - 1) top = release(open, degree, stack, top, u + 1, start, end);
+        }
+        return open;
+    }
+
+    /**
+     * A copy of {@code context} with every pruned cell turned into a wall,
+     * or {@code context} itself if nothing was pruned.
+     */
+    public static MazeContext prune(MazeContext context) {
+        boolean[] keep = mask(context);
+        int cols = context.cols;
+        int[][] grid = context.getGrid();
+        int removed = 0;
+        for (int i = 0; i < keep.length; i++) {
+            int r = i / cols, c = i % cols;
+            if (!keep[i] && grid[r][c] != -1) {
+                grid[r][c] = -1;
+                removed++;
+            }
+        }
+        if (removed == 0) return context;
+        return new MazeContext(grid, context.startRow, context.startCol, context.endRow, context.endCol);
+    }
+
+    private static int release(boolean[] open, int[] degree, int[] stack, int top, int v, int start, int end) {
+        if (!open[v]) return top;
+        // Degree 1 -> 0 means v was already pushed at 2 -> 1
+        if (--degree[v] == 1 && v != start && v != end) stack[top++] = v;
+        return top;
+    }
+
+    private static int openNeighbours(boolean[] open, int u, int rows, int cols) {
+        int r = u / cols, c = u % cols, n = 0;
+        if (r > 0 && open[u - cols]) n++;
+        if (r < rows - 1 && open[u + cols]) n++;
+        if (c > 0 && open[u - 1]) n++;
+        if (c < cols - 1 && open[u + 1]) n++;
+        return n;
+    }
+}
@@ -16,6 +16,13 @@ public final class MazeContext {
     public final int startRow, startCol;
     public final int endRow, endCol;
 
+    // Lazily computed content hash (0 = not computed yet)
+    private volatile long fingerprint;
+    // Lazily computed component labels, shared with withEndpoints views
+    private volatile ConnectedComponents components;
+    // Lazily computed dead-end-filled copy (this if nothing was pruned)
+    private volatile MazeContext pruned;
+
     /**
      * Creates a new maze context with validation and defensive copying.
      * 
@@ -34,18 +41,7 @@ public final class MazeContext {
         this.cols = grid[0].length;
         
         // Validate start/end positions
-        if (startRow < 0 || startRow >= rows || startCol < 0 || startCol >= cols) {
-            throw new IllegalArgumentException("Start position out of bounds");
-        }
-        if (endRow < 0 || endRow >= rows || endCol < 0 || endCol >= cols) {
-            throw new IllegalArgumentException("End position out of bounds");
-        }
-        if (grid[startRow][startCol] == -1) {
-            throw new IllegalArgumentException("Start position is on a wall");
-        }
-        if (grid[endRow][endCol] == -1) {
-            throw new IllegalArgumentException("End position is on a wall");
-        }
+        validateEndpoints(grid, rows, cols, startRow, startCol, endRow, endCol);
         
         // Defensive copy with validation
         this.grid = new int[rows][];
@@ -62,6 +58,50 @@ public final class MazeContext {
         this.endCol = endCol;
     }
 
+    // Shares the (already validated, never mutated) grid of base
+    private MazeContext(MazeContext base, int startRow, int startCol, int endRow, int endCol) {
+        validateEndpoints(base.grid, base.rows, base.cols, startRow, startCol, endRow, endCol);
+        this.grid = base.grid;
+        this.rows = base.rows;
+        this.cols = base.cols;
+        this.startRow = startRow;
+        this.startCol = startCol;
+        this.endRow = endRow;
+        this.endCol = endCol;
+        this.fingerprint = base.fingerprint;
+        this.components = base.components();
+    }
+
+    private static void validateEndpoints(int[][] grid, int rows, int cols,
+                                          int startRow, int startCol, int endRow, int endCol) {
+        if (startRow < 0 || startRow >= rows || startCol < 0 || startCol >= cols) {
+            throw new IllegalArgumentException("Start position out of bounds");
+        }
+        if (endRow < 0 || endRow >= rows || endCol < 0 || endCol >= cols) {
+            throw new IllegalArgumentException("End position out of bounds");
+        }
+        if (grid[startRow][startCol] == -1) {
+            throw new IllegalArgumentException("Start position is on a wall");
+        }
+        if (grid[endRow][endCol] == -1) {
+            throw new IllegalArgumentException("End position is on a wall");
+        }
+    }
+
+    /**
+     * The same maze with a different start and goal. The grid is shared, not
+     * copied, so this is cheap enough to call per query.
+     *
+     * @throws IllegalArgumentException if an endpoint is out of bounds or on a wall
+     */
+    public MazeContext withEndpoints(int startRow, int startCol, int endRow, int endCol) {
+        if (startRow == this.startRow && startCol == this.startCol
+                && endRow == this.endRow && endCol == this.endCol) {
+            return this;
+        }
+        return new MazeContext(this, startRow, startCol, endRow, endCol);
+    }
+
     /**
      * Returns defensive copy of grid (use sparingly - expensive operation)
      */
@@ -125,6 +165,63 @@ public final class MazeContext {
         return Math.abs(row - endRow) + Math.abs(col - endCol);
     }
     
+    /**
+     * 64-bit content fingerprint of the grid (see {@link MazeFingerprint}).
+     * Computed on first use and cached; safe to call from any thread.
+     */
+    public long fingerprint() {
+        long h = fingerprint;
+        if (h == 0) {
+            h = MazeFingerprint.of(grid);
+            fingerprint = h;
+        }
+        return h;
+    }
+    
+    /**
+     * Connected components of the open cells (see {@link ConnectedComponents}).
+     * Computed on first use and cached; safe to call from any thread.
+     */
+    public ConnectedComponents components() {
+        ConnectedComponents cc = components;
+        if (cc == null) {
+            cc = ConnectedComponents.of(grid);
+            components = cc;
+        }
+        return cc;
+    }
+    
+    /**
+     * True if some path of open cells joins start and goal. O(1) once
+     * {@link #components()} has been computed.
+     */
+    public boolean isGoalReachable() {
+        return components().connected(getStartIndex(), getEndIndex());
+    }
+    
+    /**
+     * This maze with its dead ends filled for this start and goal (see
+     * {@link DeadEndPruner}). Computed on first use and cached; safe to call
+     * from any thread.
+     */
+    public MazeContext pruned() {
+        MazeContext p = pruned;
+        if (p == null) {
+            p = DeadEndPruner.prune(this);
+            p.pruned = p;
+            pruned = p;
+        }
+        return p;
+    }
+    
+    /**
+     * Approximate heap footprint of the grid in bytes (used for cache weighing).
+     */
+    public long estimatedSizeBytes() {
+        // int[] header (16) + payload per row, plus the outer array and this object
+        return (long) rows * (16L + 4L * cols) + 16L + 8L * rows + 64L;
+    }
+    
     /**
      * Calculates minimum possible cost (for heuristic scaling)
      */
@@ -0,0 +1,55 @@
+package cpe231.maze.core;
+
+/**
+ * 64-bit content fingerprint of a maze grid.
+ *
+ * The hash covers the dimensions and every cell value (FNV-1a over the
+ * cells, finished with a SplitMix64 mix), so two grids with the same layout
+ * and costs always share a fingerprint regardless of which file they were
+ * parsed from. Start and goal are NOT part of the fingerprint; caches that
+ * depend on them key on the endpoints separately.
+ */
+public final class MazeFingerprint {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private MazeFingerprint() {}
+
+    /**
+     * Computes the fingerprint of a rectangular grid.
+     */
+    public static long of(int[][] grid) {
+        long h = FNV_OFFSET;
+        h = mixInt(h, grid.length);
+        h = mixInt(h, grid.length == 0 ? 0 : grid[0].length);
+        for (int[] row : grid) {
+            for (int cell : row) {
+                h = mixInt(h, cell);
+            }
+        }
+        return finish(h);
+    }
+
+    /**
+     * Formats a fingerprint as a fixed-width hex string (for logs and file headers).
+     */
+    public static String toHex(long fingerprint) {
+        return String.format("%016x", fingerprint);
+    }
+
+    private static long mixInt(long h, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            h ^= (value >>> shift) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+
+    private static long finish(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return z == 0 ? 1 : z; // 0 is reserved for "not yet computed"
+    }
+}
@@ -24,6 +24,24 @@ public interface MazeSolver {
      * @return Result containing path, cost, and performance metrics
      */
     AlgorithmResult solve(MazeContext context);
+
+    /**
+     * True if every successful result is a minimum-cost path (exact graph
+     * searches), false for heuristics such as the GAs.
+     */
+    default boolean isOptimal() {
+        return false;
+    }
+
+    /**
+     * Identifies this solver and its configuration for result caching, or
+     * null if results must not be cached (e.g. an unseeded GA, whose path
+     * differs between runs). Two solvers with the same key must return the
+     * same result for the same maze, start and goal.
+     */
+    default String cacheKey() {
+        return null;
+    }
     
     /**
      * Returns a human-readable name for this algorithm.
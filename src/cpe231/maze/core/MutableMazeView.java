@@ -0,0 +1,132 @@
+package cpe231.maze.core;
+
+import java.util.Arrays;
+
+/**
+ * A maze whose cell costs and walls can change between queries.
+ *
+ * {@link MazeContext} is immutable, so editing it means a full grid copy
+ * and a search from scratch. This view owns one private copy of the grid,
+ * edited in place with {@link #setCell}. It remembers which cells changed,
+ * so an incremental planner can repair only those
+ * ({@link cpe231.maze.algorithms.LpaStarPlanner}). {@link #snapshot()}
+ * still yields an immutable context for the other solvers.
+ *
+ * Start and goal are fixed. A view is meant for one owner thread and is
+ * not thread-safe.
+ *
+ * Usage Example:
+ * <pre>
+ * MutableMazeView view = new MutableMazeView(context);
+ * LpaStarPlanner planner = new LpaStarPlanner(view);
+ * planner.plan();              // full search
+ * view.setCell(10, 12, -1);    // a door closes
+ * view.setCell(40, 3, 9);      // congestion
+ * planner.plan();              // repairs the previous search
+ * </pre>
+ */
+public final class MutableMazeView {
+
+    private final int[][] grid;
+    public final int rows;
+    public final int cols;
+    public final int startRow, startCol;
+    public final int endRow, endCol;
+
+    // Cells changed since the last drain (each listed once)
+    private int[] changed = new int[16];
+    private int changedCount;
+    private final boolean[] dirty;
+    private long version;
+
+    public MutableMazeView(MazeContext base) {
+        this.grid = base.getGrid();
+        this.rows = base.rows;
+        this.cols = base.cols;
+        this.startRow = base.startRow;
+        this.startCol = base.startCol;
+        this.endRow = base.endRow;
+        this.endCol = base.endCol;
+        this.dirty = new boolean[rows * cols];
+    }
+
+    /**
+     * Sets a cell's cost; -1 makes it a wall.
+     *
+     * @throws IllegalArgumentException if the cell is out of bounds, the cost
+     *         is below -1, or start/goal would become a wall
+     */
+    public void setCell(int row, int col, int cost) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IllegalArgumentException("Cell (" + row + "," + col + ") out of bounds");
+        }
+        if (cost < -1) {
+            throw new IllegalArgumentException("Cost must be >= 0, or -1 for a wall");
+        }
+        if (cost == -1 && ((row == startRow && col == startCol) || (row == endRow && col == endCol))) {
+            throw new IllegalArgumentException("Start and goal cannot be walls");
+        }
+        if (grid[row][col] == cost) return;
+        grid[row][col] = cost;
+        version++;
+        int cell = row * cols + col;
+        if (!dirty[cell]) {
+            dirty[cell] = true;
+            if (changedCount == changed.length) changed = Arrays.copyOf(changed, changedCount * 2);
+            changed[changedCount++] = cell;
+        }
+    }
+
+    /**
+     * Cost of a cell, -1 for walls and out-of-bounds cells.
+     */
+    public int getCost(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) return -1;
+        return grid[row][col];
+    }
+
+    /**
+     * Direct read-only access for planners.
+     * CALLERS MUST NOT MODIFY THE RETURNED ARRAY!
+     */
+    public int[][] getGridDirect() {
+        return grid;
+    }
+
+    /**
+     * Cells ({@code row * cols + col}) changed since the previous call, each once.
+     */
+    public int[] drainChanges() {
+        int[] out = Arrays.copyOf(changed, changedCount);
+        for (int cell : out) dirty[cell] = false;
+        changedCount = 0;
+        return out;
+    }
+
+    /**
+     * Number of cells changed and not yet drained.
+     */
+    public int pendingChanges() {
+        return changedCount;
+    }
+
+    /**
+     * Incremented by every effective {@link #setCell}.
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * An immutable copy of the current maze.
+     */
+    public MazeContext snapshot() {
+        return new MazeContext(grid, startRow, startCol, endRow, endCol);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MutableMazeView[%dx%d, start=(%d,%d), end=(%d,%d), version=%d, pending=%d]",
+            rows, cols, startRow, startCol, endRow, endCol, version, changedCount);
+    }
+}
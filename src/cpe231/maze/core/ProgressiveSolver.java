@@ -0,0 +1,55 @@
+package cpe231.maze.core;
+
+import java.util.function.Consumer;
+
+/**
+ * A solver that improves its answer while it runs (an anytime algorithm)
+ * and can publish the best solution found so far.
+ *
+ * Intermediate results passed to the callback carry the current best path
+ * and cost, {@code durationNs} measured from the start of the solve, and a
+ * status of the form {@code "Generation 120/1000"} (see {@link #parseProgress}).
+ *
+ * Usage Example:
+ * <pre>
+ * ProgressiveSolver solver = new PureGASolver();
+ * solver.solveWithProgress(context, r -&gt; System.out.println(r.status() + " " + r.cost()), 1);
+ * </pre>
+ */
+public interface ProgressiveSolver extends MazeSolver {
+
+    /** Default number of steps (generations) between progress callbacks. */
+    int DEFAULT_PROGRESS_INTERVAL = 10;
+
+    /**
+     * Solves the maze, publishing the best-so-far result every
+     * {@link #DEFAULT_PROGRESS_INTERVAL} steps and on the last step.
+     */
+    default AlgorithmResult solveWithProgress(MazeContext context, Consumer<AlgorithmResult> callback) {
+        return solveWithProgress(context, callback, DEFAULT_PROGRESS_INTERVAL);
+    }
+
+    /**
+     * Solves the maze, publishing the best-so-far result every {@code interval}
+     * steps (1 = every step) and on the last step.
+     */
+    AlgorithmResult solveWithProgress(MazeContext context, Consumer<AlgorithmResult> callback, int interval);
+
+    /**
+     * Extracts {step, maxSteps} from an intermediate status such as
+     * "Generation 120/1000"; returns null for other statuses.
+     */
+    static int[] parseProgress(String status) {
+        if (status == null) return null;
+        String s = status.trim();
+        int slash = s.lastIndexOf('/');
+        if (slash <= 0 || slash == s.length() - 1) return null;
+        int from = slash;
+        while (from > 0 && Character.isDigit(s.charAt(from - 1))) from--;
+        try {
+            return new int[] {Integer.parseInt(s.substring(from, slash)), Integer.parseInt(s.substring(slash + 1))};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package cpe231.maze.core;
+
+import java.util.List;
+
+/**
+ * Hot-path counters from a priority-queue search (Dijkstra, A*).
+ *
+ * Solvers count into local {@code long}s and build this record once, when
+ * the search returns.
+ *
+ * @param expanded    nodes popped and expanded (same as {@code nodesExpanded})
+ * @param staleSkips  popped entries ignored because a shorter distance was
+ *                    already settled (lazy deletion instead of decrease-key)
+ * @param pushes      queue insertions, including the start node
+ * @param peakQueue   largest queue size reached
+ * @param relaxations edges examined from expanded nodes (in-bounds, non-wall neighbours)
+ * @param pathLength  cells on the returned path, 0 when no path was found
+ */
+public record SearchStats(
+    long expanded,
+    long staleSkips,
+    long pushes,
+    long peakQueue,
+    long relaxations,
+    long pathLength
+) {
+    /**
+     * Component-wise mean (rounded), or null when {@code stats} is empty.
+     */
+    public static SearchStats mean(List<SearchStats> stats) {
+        if (stats.isEmpty()) return null;
+        long expanded = 0, stale = 0, pushes = 0, peak = 0, relax = 0, path = 0;
+        for (SearchStats s : stats) {
+            expanded += s.expanded;
+            stale += s.staleSkips;
+            pushes += s.pushes;
+            peak += s.peakQueue;
+            relax += s.relaxations;
+            path += s.pathLength;
+        }
+        int n = stats.size();
+        return new SearchStats(Math.round((double) expanded / n), Math.round((double) stale / n),
+            Math.round((double) pushes / n), Math.round((double) peak / n),
+            Math.round((double) relax / n), Math.round((double) path / n));
+    }
+}
@@ -0,0 +1,31 @@
+package cpe231.maze.core;
+
+/**
+ * Resource usage captured around a single {@link MazeSolver#solve} call
+ * by {@link SolveProfiler}.
+ *
+ * Allocation and CPU time are measured on the solving thread only, and
+ * {@code wallTimeNs} spans the same call. It can differ from the result's
+ * {@code durationNs}, which some solvers start after one-off setup such as
+ * building an index. GC
+ * counters are JVM-wide deltas, so they include collections triggered by
+ * other threads running at the same time. Values the JVM cannot provide
+ * are {@link #UNSUPPORTED}.
+ */
+public record SolveMetrics(
+    long allocatedBytes,
+    long cpuTimeNs,
+    long wallTimeNs,
+    long gcCount,
+    long gcTimeMs
+) {
+    public static final long UNSUPPORTED = -1;
+
+    public boolean hasAllocation() {
+        return allocatedBytes != UNSUPPORTED;
+    }
+
+    public boolean hasCpuTime() {
+        return cpuTimeNs != UNSUPPORTED;
+    }
+}
@@ -0,0 +1,98 @@
+package cpe231.maze.core;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Runs a solver and attaches {@link SolveMetrics} to its result.
+ *
+ * Uses {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes} for
+ * per-thread allocation, {@link ThreadMXBean#getCurrentThreadCpuTime()} for
+ * CPU time and the GC MXBeans for collection count/time. Overhead is a
+ * handful of MXBean reads per solve, so it is cheap enough for every
+ * benchmark run, but plain {@link MazeSolver#solve} stays uninstrumented.
+ *
+ * Usage Example:
+ * <pre>
+ * AlgorithmResult result = SolveProfiler.profile(new PureGASolver(), context);
+ * long bytes = result.metrics().allocatedBytes();
+ * </pre>
+ */
+public final class SolveProfiler {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean SUN_THREADS = initSunThreads();
+    private static final boolean CPU_TIME = initCpuTime();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+
+    private SolveProfiler() {}
+
+    /**
+     * Solves {@code context} with {@code solver} on the calling thread and
+     * returns the solver's result with metrics attached.
+     */
+    public static AlgorithmResult profile(MazeSolver solver, MazeContext context) {
+        long alloc0 = allocatedBytes();
+        long cpu0 = cpuTimeNs();
+        long gcCount0 = gcCount();
+        long gcTime0 = gcTimeMs();
+        long wall0 = System.nanoTime();
+
+        AlgorithmResult result = solver.solve(context);
+
+        long wall1 = System.nanoTime();
+        long alloc1 = allocatedBytes();
+        long cpu1 = cpuTimeNs();
+        SolveMetrics metrics = new SolveMetrics(
+            alloc0 == SolveMetrics.UNSUPPORTED ? SolveMetrics.UNSUPPORTED : alloc1 - alloc0,
+            cpu0 == SolveMetrics.UNSUPPORTED ? SolveMetrics.UNSUPPORTED : cpu1 - cpu0,
+            wall1 - wall0,
+            gcCount() - gcCount0,
+            gcTimeMs() - gcTime0);
+        return result.withMetrics(metrics);
+    }
+
+    public static boolean isAllocationSupported() {
+        return SUN_THREADS != null;
+    }
+
+    public static boolean isCpuTimeSupported() {
+        return CPU_TIME;
+    }
+
+    private static long allocatedBytes() {
+        return SUN_THREADS != null ? SUN_THREADS.getCurrentThreadAllocatedBytes() : SolveMetrics.UNSUPPORTED;
+    }
+
+    private static long cpuTimeNs() {
+        return CPU_TIME ? THREADS.getCurrentThreadCpuTime() : SolveMetrics.UNSUPPORTED;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) total += Math.max(0, gc.getCollectionCount());
+        return total;
+    }
+
+    private static long gcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : COLLECTORS) total += Math.max(0, gc.getCollectionTime());
+        return total;
+    }
+
+    private static com.sun.management.ThreadMXBean initSunThreads() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean sun && sun.isThreadAllocatedMemorySupported()) {
+            sun.setThreadAllocatedMemoryEnabled(true);
+            return sun;
+        }
+        return null;
+    }
+
+    private static boolean initCpuTime() {
+        if (!THREADS.isCurrentThreadCpuTimeSupported()) return false;
+        if (!THREADS.isThreadCpuTimeEnabled()) THREADS.setThreadCpuTimeEnabled(true);
+        return true;
+    }
+}
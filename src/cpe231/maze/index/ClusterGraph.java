@@ -0,0 +1,601 @@
+package cpe231.maze.index;
+
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.SearchStats;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Abstract graph for hierarchical path finding (HPA*).
+ *
+ * The grid is cut into square clusters of {@code clusterSize} cells. Every
+ * open cell with an open neighbour in another cluster is an abstract node.
+ * Nodes are joined by two kinds of edges:
+ * <ul>
+ *   <li>inter edges between the two sides of a cluster border (cost: the
+ *       cell entered), and</li>
+ *   <li>intra edges between every pair of nodes of one cluster, weighted by
+ *       the cheapest path that stays inside the cluster.</li>
+ * </ul>
+ * Unlike textbook HPA*, which keeps one transition per border segment,
+ * every border crossing is a node. The abstract graph is then exact: any
+ * grid path splits at its border crossings into pieces that are abstract
+ * edges, so {@link #route} returns an optimal path. The price is memory,
+ * which grows with the number of open border cells. That is small in
+ * corridor mazes and at most about 4/clusterSize of the open cells.
+ *
+ * A query connects start and goal to the nodes of their clusters with one
+ * cluster-local search each, runs A* over the abstract graph, then refines
+ * only the clusters on the abstract path. Query work is proportional to the
+ * abstract nodes visited plus clusterSize^2 per refined cluster, not to the
+ * grid size.
+ *
+ * On disk (little-endian, see {@link #write} and {@link #read}):
+ * <pre>
+ * int magic 'MZHG', int version, long fingerprint, int rows, int cols,
+ * int clusterSize, int minCost, int nodeCount, int edgeCount,
+ * int[clusters + 1] clusterFirst, int[nodeCount] nodeCell,
+ * int[nodeCount + 1] edgeFirst, int[edgeCount] edgeTarget, int[edgeCount] edgeCost
+ * </pre>
+ * Like {@link MazeIndex}, the fingerprint and dimensions are checked on
+ * load. The grid itself is not stored: it comes from the maze.
+ *
+ * Usage Example:
+ * <pre>
+ * ClusterGraph graph = ClusterGraph.build(context, 16);   // once per maze
+ * ClusterGraph.Route route = graph.route(context);          // per query
+ * </pre>
+ */
+public final class ClusterGraph {
+
+    public static final int DEFAULT_CLUSTER_SIZE = 16;
+
+    static final int MAGIC = 0x47485A4D; // "MZHG" read as little-endian
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+
+    private static final int INF = Integer.MAX_VALUE;
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    /**
+     * An optimal path. {@code cost} counts every cell entered (the goal
+     * included), like the solvers' dist arrays. Without a path (none exists,
+     * or the thread was interrupted) {@code path} is empty and {@code cost} is -1.
+     *
+     * @param abstractExpanded abstract nodes expanded
+     * @param localExpanded    cells expanded by cluster-local searches
+     * @param stats            abstract and local search counters combined
+     */
+    public record Route(List<int[]> path, int cost, long abstractExpanded, long localExpanded,
+                        SearchStats stats) {
+        public boolean found() {
+            return !path.isEmpty();
+        }
+    }
+
+    private final long fingerprint;
+    private final int[][] grid;
+    private final int rows;
+    private final int cols;
+    private final int clusterSize;
+    private final int clusterCols;
+    private final int minCost;
+
+    // Nodes sorted by cluster, then by cell: cluster k owns [clusterFirst[k], clusterFirst[k + 1])
+    private final int[] clusterFirst;
+    private final int[] nodeCell;
+    // Edges of node n: [edgeFirst[n], edgeFirst[n + 1])
+    private final int[] edgeFirst;
+    private final int[] edgeTarget;
+    private final int[] edgeCost;
+
+    // Per-thread abstract search state, reused across queries
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private ClusterGraph(MazeContext context, int clusterSize, int clusterCols, int minCost, int[] clusterFirst,
+                         int[] nodeCell, int[] edgeFirst, int[] edgeTarget, int[] edgeCost) {
+        this.fingerprint = context.fingerprint();
+        this.grid = context.getGridDirect();
+        this.rows = context.rows;
+        this.cols = context.cols;
+        this.clusterSize = clusterSize;
+        this.clusterCols = clusterCols;
+        this.minCost = minCost;
+        this.clusterFirst = clusterFirst;
+        this.nodeCell = nodeCell;
+        this.edgeFirst = edgeFirst;
+        this.edgeTarget = edgeTarget;
+        this.edgeCost = edgeCost;
+    }
+
+    // === Build ===
+
+    /**
+     * Builds the abstract graph of {@code context}'s grid.
+     */
+    public static ClusterGraph build(MazeContext context, int clusterSize) {
+        if (clusterSize < 2) {
+            throw new IllegalArgumentException("clusterSize must be >= 2");
+        }
+        int[][] grid = context.getGridDirect();
+        int rows = context.rows, cols = context.cols;
+        int clusterRows = (rows + clusterSize - 1) / clusterSize;
+        int clusterCols = (cols + clusterSize - 1) / clusterSize;
+        int clusters = clusterRows * clusterCols;
+
+        int minCost = INF;
+        for (int[] row : grid) {
+            for (int v : row) if (v != -1 && v < minCost) minCost = v;
+        }
+
+        IntList nodes = new IntList(64);
+        int[] clusterFirst = new int[clusters + 1];
+        for (int k = 0; k < clusters; k++) {
+            int r0 = (k / clusterCols) * clusterSize, c0 = (k % clusterCols) * clusterSize;
+            int r1 = Math.min(r0 + clusterSize, rows), c1 = Math.min(c0 + clusterSize, cols);
+            for (int r = r0; r < r1; r++) {
+                for (int c = c0; c < c1; c++) {
+                    if (grid[r][c] != -1 && crossesBorder(grid, r, c, r0, c0, r1, c1)) nodes.add(r * cols + c);
+                }
+            }
+            clusterFirst[k + 1] = nodes.size();
+        }
+        int[] nodeCell = nodes.toArray();
+
+        int[] edgeFirst = new int[nodeCell.length + 1];
+        IntList targets = new IntList(nodeCell.length * 4);
+        IntList costs = new IntList(nodeCell.length * 4);
+        Local local = new Local(grid, clusterSize);
+        for (int k = 0; k < clusters; k++) {
+            local.setCluster(k, clusterCols);
+            for (int n = clusterFirst[k]; n < clusterFirst[k + 1]; n++) {
+                edgeFirst[n] = targets.size();
+                int cell = nodeCell[n];
+                int r = cell / cols, c = cell % cols;
+                for (int i = 0; i < 4; i++) {
+                    int nr = r + DR[i], nc = c + DC[i];
+                    if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || grid[nr][nc] == -1) continue;
+                    if (local.contains(nr, nc)) continue;
+                    int v = nr * cols + nc;
+                    targets.add(find(nodeCell, clusterFirst, clusterOf(v, cols, clusterSize, clusterCols), v));
+                    costs.add(grid[nr][nc]);
+                }
+                local.run(cell, false);
+                for (int m = clusterFirst[k]; m < clusterFirst[k + 1]; m++) {
+                    int d = local.dist(nodeCell[m]);
+                    if (m != n && d != INF) {
+                        targets.add(m);
+                        costs.add(d);
+                    }
+                }
+            }
+        }
+        edgeFirst[nodeCell.length] = targets.size();
+        return new ClusterGraph(context, clusterSize, clusterCols, minCost == INF ? 0 : minCost,
+            clusterFirst, nodeCell, edgeFirst, targets.toArray(), costs.toArray());
+    }
+
+    private static boolean crossesBorder(int[][] grid, int r, int c, int r0, int c0, int r1, int c1) {
+        for (int i = 0; i < 4; i++) {
+            int nr = r + DR[i], nc = c + DC[i];
+            if (nr < 0 || nr >= grid.length || nc < 0 || nc >= grid[0].length || grid[nr][nc] == -1) continue;
+            if (nr < r0 || nr >= r1 || nc < c0 || nc >= c1) return true;
+        }
+        return false;
+    }
+
+    private static int clusterOf(int cell, int cols, int clusterSize, int clusterCols) {
+        return (cell / cols / clusterSize) * clusterCols + (cell % cols) / clusterSize;
+    }
+
+    // Node of a cell in cluster k, or -1 if the cell is not a node
+    private static int find(int[] nodeCell, int[] clusterFirst, int k, int cell) {
+        int i = Arrays.binarySearch(nodeCell, clusterFirst[k], clusterFirst[k + 1], cell);
+        return i >= 0 ? i : -1;
+    }
+
+    // === Persistence ===
+
+    /**
+     * Writes the graph to {@code file} (via a temporary file and a move, like
+     * {@link MazeIndex#write}).
+     */
+    public void write(Path file) throws IOException {
+        long bytes = HEADER_BYTES + 4L * (clusterFirst.length + nodeCell.length + edgeFirst.length
+            + 2L * edgeTarget.length);
+        if (bytes > Integer.MAX_VALUE) throw new IOException("Graph too large to write: " + bytes + " bytes");
+        ByteBuffer buf = ByteBuffer.allocate((int) bytes).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putInt(MAGIC).putInt(VERSION).putLong(fingerprint).putInt(rows).putInt(cols)
+           .putInt(clusterSize).putInt(minCost).putInt(nodeCell.length).putInt(edgeTarget.length);
+        IntBuffer ints = buf.asIntBuffer();
+        ints.put(clusterFirst).put(nodeCell).put(edgeFirst).put(edgeTarget).put(edgeCost);
+        buf.position(0);
+
+        Path parent = file.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining()) ch.write(buf);
+            ch.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads a graph file written for {@code context}'s grid.
+     *
+     * @return the graph, or null if the file belongs to another grid or cluster size
+     * @throws IOException if the file is truncated or not a graph of this version
+     */
+    public static ClusterGraph read(Path file, MazeContext context, int clusterSize) throws IOException {
+        ByteBuffer buf;
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) throw new IOException("Corrupt maze graph: " + file);
+            buf = ByteBuffer.allocate((int) size).order(ByteOrder.LITTLE_ENDIAN);
+            while (buf.hasRemaining()) {
+                if (ch.read(buf) < 0) throw new IOException("Truncated maze graph: " + file);
+            }
+        }
+        buf.flip();
+        if (buf.getInt(0) != MAGIC) throw new IOException("Not a maze graph: " + file);
+        if (buf.getInt(4) != VERSION) throw new IOException("Unsupported graph version " + buf.getInt(4));
+        long fingerprint = buf.getLong(8);
+        int rows = buf.getInt(16), cols = buf.getInt(20), size = buf.getInt(24);
+        if (fingerprint != context.fingerprint() || rows != context.rows || cols != context.cols
+                || size != clusterSize) {
+            return null;
+        }
+        int minCost = buf.getInt(28), nodes = buf.getInt(32), edges = buf.getInt(36);
+        int clusterCols = (cols + size - 1) / size;
+        long clusters = (long) ((rows + size - 1) / size) * clusterCols;
+        if (size < 2 || nodes < 0 || edges < 0
+                || buf.limit() != HEADER_BYTES + 4L * (clusters + 1 + nodes + nodes + 1 + 2L * edges)) {
+            throw new IOException("Corrupt maze graph: " + file);
+        }
+        IntBuffer ints = buf.position(HEADER_BYTES).slice().order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        int[] clusterFirst = new int[(int) clusters + 1];
+        int[] nodeCell = new int[nodes];
+        int[] edgeFirst = new int[nodes + 1];
+        int[] edgeTarget = new int[edges];
+        int[] edgeCost = new int[edges];
+        ints.get(clusterFirst).get(nodeCell).get(edgeFirst).get(edgeTarget).get(edgeCost);
+        return new ClusterGraph(context, size, clusterCols, minCost, clusterFirst, nodeCell, edgeFirst,
+            edgeTarget, edgeCost);
+    }
+
+    // === Query ===
+
+    /**
+     * An optimal path from {@code context}'s start to its goal; see
+     * {@link Route} for the result when there is none.
+     *
+     * @throws IllegalArgumentException if {@code context} is not this graph's maze
+     */
+    public Route route(MazeContext context) {
+        if (!sameGrid(context)) {
+            throw new IllegalArgumentException("Context is not the maze this graph was built for");
+        }
+        int s = context.getStartIndex(), g = context.getEndIndex();
+        if (s == g) {
+            return new Route(new ArrayList<>(List.of(new int[]{s / cols, s % cols})), 0, 0, 0,
+                new SearchStats(0, 0, 0, 0, 0, 1));
+        }
+        int ks = clusterOf(s), kg = clusterOf(g);
+        Local local = new Local(grid, clusterSize);
+
+        // Goal side: cost from each node of the goal cluster to the goal
+        local.setCluster(kg, clusterCols);
+        local.run(g, true);
+        int[] toGoal = new int[clusterFirst[kg + 1] - clusterFirst[kg]];
+        for (int n = clusterFirst[kg]; n < clusterFirst[kg + 1]; n++) toGoal[n - clusterFirst[kg]] = local.dist(nodeCell[n]);
+
+        // Start side: the direct in-cluster path, then seed the abstract search
+        local.setCluster(ks, clusterCols);
+        local.run(s, false);
+        int best = ks == kg ? local.dist(g) : INF;
+        int bestVia = -1;
+
+        Scratch scratch = SCRATCH.get();
+        scratch.begin(nodeCell.length);
+        int goalRow = context.endRow, goalCol = context.endCol;
+        Counters abs = new Counters();
+        LongHeap heap = scratch.heap;
+        for (int n = clusterFirst[ks]; n < clusterFirst[ks + 1]; n++) {
+            int d = local.dist(nodeCell[n]);
+            if (d != INF) {
+                scratch.relax(n, d, -1, d + heuristic(n, goalRow, goalCol));
+                abs.pushed(heap);
+            }
+        }
+
+        while (!heap.isEmpty()) {
+            // A consistent heuristic makes f non-decreasing, so nothing left can beat best
+            if ((int) (heap.peek() >>> 32) >= best) break;
+            long top = heap.pop();
+            int n = (int) top;
+            int d = scratch.dist(n);
+            if ((int) (top >>> 32) > d + heuristic(n, goalRow, goalCol)) { // stale entry
+                abs.staleSkips++;
+                continue;
+            }
+            abs.expanded++;
+            if ((abs.expanded & 1023) == 0 && Thread.currentThread().isInterrupted()) return noRoute(abs, local);
+
+            if (n >= clusterFirst[kg] && n < clusterFirst[kg + 1]) {
+                int dg = toGoal[n - clusterFirst[kg]];
+                if (dg != INF && d + dg < best) {
+                    best = d + dg;
+                    bestVia = n;
+                }
+            }
+            for (int e = edgeFirst[n]; e < edgeFirst[n + 1]; e++) {
+                abs.relaxations++;
+                int m = edgeTarget[e];
+                int nd = d + edgeCost[e];
+                if (nd < scratch.dist(m)) {
+                    scratch.relax(m, nd, n, nd + heuristic(m, goalRow, goalCol));
+                    abs.pushed(heap);
+                }
+            }
+        }
+        if (best == INF) return noRoute(abs, local);
+
+        // === Refinement ===
+        List<int[]> path = new ArrayList<>();
+        if (bestVia == -1) {
+            local.appendPath(g, path); // local still holds the search from s
+            return new Route(path, best, abs.expanded, local.counters.expanded, stats(abs, local, path.size()));
+        }
+        int[] chain = scratch.chain(bestVia);
+        local.appendPath(nodeCell[chain[0]], path);
+        for (int i = 1; i < chain.length; i++) {
+            int from = nodeCell[chain[i - 1]], to = nodeCell[chain[i]];
+            int k = clusterOf(from);
+            if (k != clusterOf(to)) {
+                path.add(new int[]{to / cols, to % cols}); // inter edge: adjacent cells
+            } else {
+                local.setCluster(k, clusterCols);
+                local.run(from, false);
+                local.appendPath(to, path);
+            }
+        }
+        local.setCluster(kg, clusterCols);
+        local.run(nodeCell[bestVia], false);
+        local.appendPath(g, path);
+        return new Route(path, best, abs.expanded, local.counters.expanded, stats(abs, local, path.size()));
+    }
+
+    private static Route noRoute(Counters abs, Local local) {
+        return new Route(new ArrayList<>(), -1, abs.expanded, local.counters.expanded, stats(abs, local, 0));
+    }
+
+    private static SearchStats stats(Counters abs, Local local, int pathLength) {
+        Counters loc = local.counters;
+        return new SearchStats(abs.expanded + loc.expanded, abs.staleSkips + loc.staleSkips,
+            abs.pushes + loc.pushes, Math.max(abs.peakQueue, loc.peakQueue),
+            abs.relaxations + loc.relaxations, pathLength);
+    }
+
+    /**
+     * True if {@code context} has the grid this graph was built from.
+     */
+    public boolean sameGrid(MazeContext context) {
+        return context.fingerprint() == fingerprint && context.rows == rows && context.cols == cols;
+    }
+
+    public int clusterSize() {
+        return clusterSize;
+    }
+
+    public int nodeCount() {
+        return nodeCell.length;
+    }
+
+    public int edgeCount() {
+        return edgeTarget.length;
+    }
+
+    /**
+     * Heap footprint of the abstract graph (the grid itself is shared).
+     */
+    public long sizeBytes() {
+        return 4L * (clusterFirst.length + nodeCell.length + edgeFirst.length + 2L * edgeTarget.length);
+    }
+
+    private int clusterOf(int cell) {
+        return clusterOf(cell, cols, clusterSize, clusterCols);
+    }
+
+    private int heuristic(int node, int goalRow, int goalCol) {
+        int cell = nodeCell[node];
+        return minCost * (Math.abs(cell / cols - goalRow) + Math.abs(cell % cols - goalCol));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ClusterGraph[%dx%d, cluster=%d, %d nodes, %d edges, %d KB]",
+            rows, cols, clusterSize, nodeCell.length, edgeTarget.length, sizeBytes() / 1024);
+    }
+
+    // === Helpers ===
+
+    // Search counters, summed over every search of one query
+    private static final class Counters {
+        long expanded, staleSkips, pushes, peakQueue, relaxations;
+
+        void pushed(LongHeap heap) {
+            pushes++;
+            if (heap.size() > peakQueue) peakQueue = heap.size();
+        }
+    }
+
+    // Dijkstra confined to one cluster, on clusterSize^2 local arrays
+    private static final class Local {
+        final int[][] grid;
+        final int rows, cols, size;
+        final int[] dist, parent;
+        final LongHeap heap = new LongHeap(64);
+        final Counters counters = new Counters();
+        int r0, c0, r1, c1;
+
+        Local(int[][] grid, int size) {
+            this.grid = grid;
+            this.rows = grid.length;
+            this.cols = grid[0].length;
+            this.size = size;
+            this.dist = new int[size * size];
+            this.parent = new int[size * size];
+        }
+
+        void setCluster(int k, int clusterCols) {
+            r0 = (k / clusterCols) * size;
+            c0 = (k % clusterCols) * size;
+            r1 = Math.min(r0 + size, rows);
+            c1 = Math.min(c0 + size, cols);
+        }
+
+        boolean contains(int r, int c) {
+            return r >= r0 && r < r1 && c >= c0 && c < c1;
+        }
+
+        int local(int cell) {
+            return (cell / cols - r0) * size + (cell % cols - c0);
+        }
+
+        int dist(int cell) {
+            return dist[local(cell)];
+        }
+
+        // Forward: costs from source (entering v costs grid[v]); reverse: costs to source
+        void run(int sourceCell, boolean reverse) {
+            Arrays.fill(dist, INF);
+            Arrays.fill(parent, -1);
+            heap.clear();
+            int ls = local(sourceCell);
+            dist[ls] = 0;
+            heap.push(ls);
+            counters.pushed(heap);
+            while (!heap.isEmpty()) {
+                long top = heap.pop();
+                int u = (int) top;
+                int d = (int) (top >>> 32);
+                if (d > dist[u]) {
+                    counters.staleSkips++;
+                    continue;
+                }
+                counters.expanded++;
+                int r = r0 + u / size, c = c0 + u % size;
+                int stepIn = reverse ? grid[r][c] : 0;
+                for (int i = 0; i < 4; i++) {
+                    int nr = r + DR[i], nc = c + DC[i];
+                    if (!contains(nr, nc) || grid[nr][nc] == -1) continue;
+                    counters.relaxations++;
+                    int v = (nr - r0) * size + (nc - c0);
+                    int nd = d + (reverse ? stepIn : grid[nr][nc]);
+                    if (nd < dist[v]) {
+                        dist[v] = nd;
+                        parent[v] = u;
+                        heap.push(((long) nd << 32) | v);
+                        counters.pushed(heap);
+                    }
+                }
+            }
+        }
+
+        // Appends the path from the last forward run's source to target; skips the
+        // source cell when path already ends there
+        void appendPath(int targetCell, List<int[]> path) {
+            List<int[]> piece = new ArrayList<>();
+            for (int u = local(targetCell); u != -1; u = parent[u]) {
+                piece.add(new int[]{r0 + u / size, c0 + u % size});
+            }
+            int from = path.isEmpty() ? piece.size() - 1 : piece.size() - 2;
+            for (int i = from; i >= 0; i--) path.add(piece.get(i));
+        }
+    }
+
+    // Abstract A* state; stamps make reuse O(1) instead of clearing nodeCount entries
+    private static final class Scratch {
+        int[] dist = new int[0], parent = new int[0], stamp = new int[0];
+        int generation;
+        final LongHeap heap = new LongHeap(64);
+
+        void begin(int nodes) {
+            if (stamp.length < nodes) {
+                dist = new int[nodes];
+                parent = new int[nodes];
+                stamp = new int[nodes];
+                generation = 0;
+            }
+            if (++generation == 0) {
+                Arrays.fill(stamp, 0);
+                generation = 1;
+            }
+            heap.clear();
+        }
+
+        int dist(int n) {
+            return stamp[n] == generation ? dist[n] : INF;
+        }
+
+        void relax(int n, int d, int from, int f) {
+            stamp[n] = generation;
+            dist[n] = d;
+            parent[n] = from;
+            heap.push(((long) f << 32) | n);
+        }
+
+        // Nodes from the first (seeded) one to last
+        int[] chain(int last) {
+            IntList nodes = new IntList(16);
+            for (int n = last; n != -1; n = parent[n]) nodes.add(n);
+            int[] a = nodes.toArray();
+            for (int i = 0, j = a.length - 1; i < j; i++, j--) {
+                int t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+            return a;
+        }
+    }
+
+    private static final class IntList {
+        int[] a;
+        int size;
+
+        IntList(int capacity) {
+            a = new int[Math.max(4, capacity)];
+        }
+
+        void add(int v) {
+            if (size == a.length) a = Arrays.copyOf(a, size * 2);
+            a[size++] = v;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(a, size);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package cpe231.maze.index;
+
+import java.util.Arrays;
+
+/**
+ * Min-heap of longs, used as (priority &lt;&lt; 32 | item) so a queue entry
+ * is one long rather than an array per push.
+ */
+final class LongHeap {
+    private long[] a;
+    private int size;
+
+    LongHeap(int capacity) {
+        a = new long[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void push(long x) {
+        if (size == a.length) a = Arrays.copyOf(a, size * 2);
+        int i = size++;
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (a[p] <= x) break;
+            a[i] = a[p];
+            i = p;
+        }
+        a[i] = x;
+    }
+
+    long peek() {
+        return a[0];
+    }
+
+    long pop() {
+        long top = a[0];
+        long x = a[--size];
+        int i = 0;
+        while (true) {
+            int l = 2 * i + 1;
+            if (l >= size) break;
+            int m = (l + 1 < size && a[l + 1] < a[l]) ? l + 1 : l;
+            if (a[m] >= x) break;
+            a[i] = a[m];
+            i = m;
+        }
+        a[i] = x;
+        return top;
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
@@ -0,0 +1,317 @@
+package cpe231.maze.index;
+
+import cpe231.maze.core.MazeContext;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Precomputed search tables for one maze and goal.
+ *
+ * <ul>
+ *   <li>Goal distance field: the cheapest cost from every cell to the goal.
+ *       With it the goal's optimal path from any start is a greedy walk.</li>
+ *   <li>Landmark tables: for K landmark cells L, the costs L -&gt; v and
+ *       v -&gt; L for every cell v. They give an admissible A* heuristic for
+ *       any goal by the triangle inequality (ALT).</li>
+ * </ul>
+ *
+ * Costs follow the solvers' convention: a step costs the value of the cell
+ * it enters. Unreachable cells hold {@link #UNREACHABLE}.
+ *
+ * On disk (little-endian, see {@link #write} and {@link #map}):
+ * <pre>
+ * int magic 'MZIX', int version, long fingerprint,
+ * int rows, int cols, int goalCell, int landmarkCount,
+ * int[landmarkCount] landmark cells, padding to 8 bytes,
+ * int[cells] goal distances, then per landmark int[cells] from L, int[cells] to L
+ * </pre>
+ * The fingerprint, dimensions and goal are checked on load, so an index
+ * left over from an edited maze is rebuilt rather than trusted.
+ */
+public final class MazeIndex {
+
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    static final int MAGIC = 0x58495A4D; // "MZIX" read as little-endian
+    static final int VERSION = 1;
+    private static final int FIXED_HEADER_BYTES = 32;
+
+    private final long fingerprint;
+    private final int rows;
+    private final int cols;
+    private final int goalCell;
+    private final int[] landmarks;
+    private final IntBuffer goalDistance;
+    private final IntBuffer[] fromLandmark;
+    private final IntBuffer[] toLandmark;
+    private final boolean mapped;
+
+    private MazeIndex(long fingerprint, int rows, int cols, int goalCell, int[] landmarks,
+                      IntBuffer goalDistance, IntBuffer[] fromLandmark, IntBuffer[] toLandmark, boolean mapped) {
+        this.fingerprint = fingerprint;
+        this.rows = rows;
+        this.cols = cols;
+        this.goalCell = goalCell;
+        this.landmarks = landmarks;
+        this.goalDistance = goalDistance;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+        this.mapped = mapped;
+    }
+
+    // === Building ===
+
+    /**
+     * Computes the tables for {@code context}'s grid and goal.
+     * Cost: 2 + 3 * {@code landmarkCount} Dijkstra runs over the whole grid
+     * (the goal table, 1 + {@code landmarkCount} to pick the landmarks, and
+     * their from/to tables).
+     */
+    public static MazeIndex build(MazeContext context, int landmarkCount) {
+        if (landmarkCount < 0) {
+            throw new IllegalArgumentException("landmarkCount must be >= 0");
+        }
+        int[][] grid = context.getGridDirect();
+        int goal = context.getEndIndex();
+        int[] goalDist = dijkstra(grid, goal, true);
+
+        int[] chosen = pickLandmarks(grid, context.getStartIndex(), landmarkCount);
+        IntBuffer[] from = new IntBuffer[chosen.length];
+        IntBuffer[] to = new IntBuffer[chosen.length];
+        for (int k = 0; k < chosen.length; k++) {
+            from[k] = IntBuffer.wrap(dijkstra(grid, chosen[k], false));
+            to[k] = IntBuffer.wrap(dijkstra(grid, chosen[k], true));
+        }
+        return new MazeIndex(context.fingerprint(), context.rows, context.cols, goal, chosen,
+            IntBuffer.wrap(goalDist), from, to, false);
+    }
+
+    /**
+     * Farthest-point landmarks: the first is the cell farthest from
+     * {@code seed}, each next one the cell farthest from all chosen so far.
+     * Landmarks on the far side of the maze give the tightest bounds.
+     */
+    static int[] pickLandmarks(int[][] grid, int seed, int count) {
+        int cells = grid.length * grid[0].length;
+        int[] nearest = dijkstra(grid, seed, false);
+        int[] chosen = new int[count];
+        int n = 0;
+        for (; n < count; n++) {
+            int best = -1;
+            for (int v = 0; v < cells; v++) {
+                if (nearest[v] == UNREACHABLE) continue;
+                if (best < 0 || nearest[v] > nearest[best]) best = v;
+            }
+            if (best < 0 || (n > 0 && nearest[best] == 0)) break; // fewer distinct cells than landmarks
+            chosen[n] = best;
+            int[] d = dijkstra(grid, best, false);
+            for (int v = 0; v < cells; v++) {
+                nearest[v] = (n == 0) ? d[v] : Math.min(nearest[v], d[v]);
+            }
+        }
+        return Arrays.copyOf(chosen, n);
+    }
+
+    /**
+     * Single-source (or, with {@code reverse}, single-target) shortest path
+     * costs over the whole grid, where entering cell v costs grid[v].
+     */
+    static int[] dijkstra(int[][] grid, int source, boolean reverse) {
+        int rows = grid.length, cols = grid[0].length;
+        int[] dist = new int[rows * cols];
+        Arrays.fill(dist, UNREACHABLE);
+        dist[source] = 0;
+        LongHeap heap = new LongHeap(64);
+        heap.push(source);
+        while (!heap.isEmpty()) {
+            long top = heap.pop();
+            int u = (int) top;
+            int d = (int) (top >>> 32);
+            if (d > dist[u]) continue;
+            int r = u / cols, c = u % cols;
+            // Forward: u -> v costs grid[v]; reverse: v -> u costs grid[u]
+            int stepIn = reverse ? grid[r][c] : 0;
+            for (int i = 0; i < 4; i++) {
+                int nr = r + DR[i], nc = c + DC[i];
+                if (nr < 0 || nr >= rows || nc < 0 || nc >= cols || grid[nr][nc] == -1) continue;
+                int v = nr * cols + nc;
+                int nd = d + (reverse ? stepIn : grid[nr][nc]);
+                if (nd < dist[v]) {
+                    dist[v] = nd;
+                    heap.push(((long) nd << 32) | v);
+                }
+            }
+        }
+        return dist;
+    }
+
+    private static final int[] DR = {-1, 1, 0, 0};
+    private static final int[] DC = {0, 0, -1, 1};
+
+    // === Persistence ===
+
+    /**
+     * Writes the index to {@code file} (via a temporary file and a move, so a
+     * crash never leaves a half-written index behind).
+     */
+    public void write(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(headerBytes(landmarks.length)).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(VERSION).putLong(fingerprint)
+                  .putInt(rows).putInt(cols).putInt(goalCell).putInt(landmarks.length);
+            for (int l : landmarks) header.putInt(l);
+            header.position(0);
+            writeFully(ch, header);
+            writeTable(ch, goalDistance);
+            for (int k = 0; k < landmarks.length; k++) {
+                writeTable(ch, fromLandmark[k]);
+                writeTable(ch, toLandmark[k]);
+            }
+            ch.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        try {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Memory-maps an index file. Tables are read straight from the page
+     * cache, so opening costs the same for any maze size.
+     *
+     * @throws IOException if the file is truncated or not an index of this version
+     */
+    public static MazeIndex map(Path file) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            if (size < FIXED_HEADER_BYTES) throw new IOException("Index too small: " + file);
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buf.order(ByteOrder.LITTLE_ENDIAN);
+            if (buf.getInt(0) != MAGIC) throw new IOException("Not a maze index: " + file);
+            if (buf.getInt(4) != VERSION) throw new IOException("Unsupported index version " + buf.getInt(4));
+            long fingerprint = buf.getLong(8);
+            int rows = buf.getInt(16), cols = buf.getInt(20), goal = buf.getInt(24), k = buf.getInt(28);
+            long cells = (long) rows * cols;
+            if (rows <= 0 || cols <= 0 || k < 0 || goal < 0 || goal >= cells
+                    || size != headerBytes(k) + 4L * cells * (1 + 2L * k)) {
+                throw new IOException("Corrupt maze index: " + file);
+            }
+            int[] landmarks = new int[k];
+            for (int i = 0; i < k; i++) landmarks[i] = buf.getInt(FIXED_HEADER_BYTES + 4 * i);
+
+            int offset = headerBytes(k);
+            IntBuffer goalDist = table(buf, offset, (int) cells);
+            offset += 4 * (int) cells;
+            IntBuffer[] from = new IntBuffer[k];
+            IntBuffer[] to = new IntBuffer[k];
+            for (int i = 0; i < k; i++) {
+                from[i] = table(buf, offset, (int) cells);
+                offset += 4 * (int) cells;
+                to[i] = table(buf, offset, (int) cells);
+                offset += 4 * (int) cells;
+            }
+            return new MazeIndex(fingerprint, rows, cols, goal, landmarks, goalDist, from, to, true);
+        }
+    }
+
+    private static int headerBytes(int landmarkCount) {
+        int bytes = FIXED_HEADER_BYTES + 4 * landmarkCount;
+        return (bytes + 7) & ~7;
+    }
+
+    private static IntBuffer table(MappedByteBuffer buf, int offset, int cells) {
+        ByteBuffer slice = buf.duplicate().position(offset).limit(offset + 4 * cells).slice();
+        return slice.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    }
+
+    private static void writeTable(FileChannel ch, IntBuffer table) throws IOException {
+        ByteBuffer chunk = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer view = chunk.asIntBuffer();
+        for (int i = 0; i < table.limit(); ) {
+            int n = Math.min(view.capacity(), table.limit() - i);
+            view.clear();
+            for (int j = 0; j < n; j++) view.put(table.get(i + j));
+            chunk.clear().limit(4 * n);
+            writeFully(ch, chunk);
+            i += n;
+        }
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) ch.write(buf);
+    }
+
+    // === Queries ===
+
+    /**
+     * True if this index was built for {@code context}'s grid and goal.
+     */
+    public boolean matches(MazeContext context) {
+        return fingerprint == context.fingerprint() && rows == context.rows && cols == context.cols
+            && goalCell == context.getEndIndex();
+    }
+
+    /**
+     * True if this index was built for {@code context}'s grid (any goal).
+     */
+    public boolean sameGrid(MazeContext context) {
+        return fingerprint == context.fingerprint() && rows == context.rows && cols == context.cols;
+    }
+
+    /**
+     * Cheapest cost from {@code cell} to the index's goal, or {@link #UNREACHABLE}.
+     */
+    public int goalDistance(int cell) {
+        return goalDistance.get(cell);
+    }
+
+    /**
+     * ALT lower bound on the cost from {@code cell} to {@code target}:
+     * max over landmarks L of d(L,target) - d(L,cell) and d(cell,L) - d(target,L).
+     */
+    public int lowerBound(int cell, int target) {
+        if (target == goalCell) {
+            int d = goalDistance.get(cell);
+            return d == UNREACHABLE ? 0 : d;
+        }
+        long best = 0;
+        for (int k = 0; k < landmarks.length; k++) {
+            int lt = fromLandmark[k].get(target), lv = fromLandmark[k].get(cell);
+            if (lt != UNREACHABLE && lv != UNREACHABLE) best = Math.max(best, (long) lt - lv);
+            int vl = toLandmark[k].get(cell), tl = toLandmark[k].get(target);
+            if (vl != UNREACHABLE && tl != UNREACHABLE) best = Math.max(best, (long) vl - tl);
+        }
+        return (int) best;
+    }
+
+    public long fingerprint() { return fingerprint; }
+    public int rows() { return rows; }
+    public int cols() { return cols; }
+    public int goalCell() { return goalCell; }
+    public int landmarkCount() { return landmarks.length; }
+
+    /** True if the tables are memory-mapped from a file rather than on the heap. */
+    public boolean isMapped() { return mapped; }
+
+    /**
+     * Size of the tables in bytes (heap or mapped).
+     */
+    public long sizeBytes() {
+        return 4L * rows * cols * (1 + 2L * landmarks.length);
+    }
+}
@@ -0,0 +1,354 @@
+package cpe231.maze.index;
+
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeFingerprint;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds, builds and persists {@link MazeIndex}es and the {@link ClusterGraph}s
+ * used by hierarchical search.
+ *
+ * Indexes are kept in memory by (grid fingerprint, goal). {@link #open}
+ * additionally persists them next to the maze file as {@code <maze>.idx}:
+ * the first startup builds and writes the file, later startups memory-map
+ * it, so queries are fast from the first request. {@link #openGraph} does
+ * the same for the abstract graph, in {@code <maze>.hpa}. Opened indexes
+ * and graphs stay for the life of the store. Solvers look indexes up with {@link #find} /
+ * {@link #findForGrid}; {@link #getOrBuild} and {@link #getOrBuildGraph}
+ * build in memory for a grid that was never opened (e.g. a grid sent with
+ * a request). Those are kept in an LRU bounded by entry count and bytes,
+ * like {@link cpe231.maze.service.ResultCache}, so a stream of distinct
+ * grids cannot grow the store without bound.
+ *
+ * The landmark count defaults to 4 and can be set with
+ * {@code -Dmaze.index.landmarks=<k>}; each landmark adds 8 bytes per cell.
+ * The LRU defaults to 64 entries and 256 MB, settable with
+ * {@code -Dmaze.index.cacheEntries=<n>} and {@code -Dmaze.index.cacheBytes=<bytes>}.
+ *
+ * Solvers leave building out of their own timing; the time spent building
+ * is summed here instead ({@link #getBuildNanos}, {@link #getGraphBuildNanos}).
+ *
+ * Usage Example:
+ * <pre>
+ * MazeContext ctx = MazeLoader.loadContext("data/m100_100.txt");
+ * MazeIndexStore.shared().open("data/m100_100.txt", ctx);   // build or map
+ * new LandmarkAStarSolver().solve(ctx);                     // uses the index
+ * </pre>
+ */
+public final class MazeIndexStore {
+
+    public static final String EXTENSION = ".idx";
+    public static final String GRAPH_EXTENSION = ".hpa";
+    public static final int DEFAULT_LANDMARKS = Integer.getInteger("maze.index.landmarks", 4);
+
+    private static final int DEFAULT_CACHE_ENTRIES = 64;
+    private static final long DEFAULT_CACHE_BYTES = 256L * 1024 * 1024;
+
+    private static final MazeIndexStore SHARED = new MazeIndexStore(DEFAULT_LANDMARKS,
+        Integer.getInteger("maze.index.cacheEntries", DEFAULT_CACHE_ENTRIES),
+        Long.getLong("maze.index.cacheBytes", DEFAULT_CACHE_BYTES));
+
+    private record Key(long fingerprint, int rows, int cols, int goal) {
+        static Key of(MazeContext ctx) {
+            return new Key(ctx.fingerprint(), ctx.rows, ctx.cols, ctx.getEndIndex());
+        }
+    }
+
+    private record GraphKey(long fingerprint, int rows, int cols, int clusterSize) {
+        static GraphKey of(MazeContext ctx, int clusterSize) {
+            return new GraphKey(ctx.fingerprint(), ctx.rows, ctx.cols, clusterSize);
+        }
+    }
+
+    // Index or graph built on demand, with its heap footprint
+    private record Built(Object value, long sizeBytes) {}
+
+    private final int landmarks;
+    // Opened indexes, one per registered maze
+    private final Map<Key, MazeIndex> indexes = new ConcurrentHashMap<>();
+    // Latest opened index per grid (any goal), for landmark bounds towards other goals
+    private final Map<Long, MazeIndex> byGrid = new ConcurrentHashMap<>();
+    // Opened abstract graphs
+    private final Map<GraphKey, ClusterGraph> graphs = new ConcurrentHashMap<>();
+
+    // Access-ordered map = LRU iteration order (eldest first); keys are Key or GraphKey
+    private final LinkedHashMap<Object, Built> built = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private long currentBytes;
+
+    private long builds;
+    private long graphBuilds;
+    private long loads;
+    private long graphLoads;
+    private long buildNanos;
+    private long graphBuildNanos;
+    private long evictions;
+
+    public MazeIndexStore(int landmarks) {
+        this(landmarks, DEFAULT_CACHE_ENTRIES, DEFAULT_CACHE_BYTES);
+    }
+
+    /**
+     * @param maxEntries indexes and graphs built on demand that are kept
+     * @param maxBytes   their total footprint
+     */
+    public MazeIndexStore(int landmarks, int maxEntries, long maxBytes) {
+        if (landmarks < 0) {
+            throw new IllegalArgumentException("landmarks must be >= 0");
+        }
+        if (maxEntries < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must be >= 0");
+        }
+        this.landmarks = landmarks;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    public static MazeIndexStore shared() {
+        return SHARED;
+    }
+
+    /**
+     * Index file for a maze file ({@code data/m15_15.txt -> data/m15_15.txt.idx}).
+     */
+    public static Path indexPath(String mazeFile) {
+        return Paths.get(mazeFile + EXTENSION);
+    }
+
+    /**
+     * Graph file for a maze file ({@code data/m15_15.txt -> data/m15_15.txt.hpa}).
+     */
+    public static Path graphPath(String mazeFile) {
+        return Paths.get(mazeFile + GRAPH_EXTENSION);
+    }
+
+    /**
+     * Maps the maze's index file if it is valid for {@code context}, otherwise
+     * builds the index and writes the file. An unwritable directory only
+     * costs the persistence: the built index is still used.
+     */
+    public MazeIndex open(String mazeFile, MazeContext context) {
+        Key key = Key.of(context);
+        MazeIndex cached = indexes.get(key);
+        if (cached != null) return cached;
+
+        Path file = indexPath(mazeFile);
+        MazeIndex index = null;
+        if (Files.isRegularFile(file)) {
+            try {
+                MazeIndex mapped = MazeIndex.map(file);
+                if (mapped.matches(context)) {
+                    index = mapped;
+                    synchronized (this) { loads++; }
+                } else {
+                    System.err.println("Index " + file + " is stale (maze "
+                        + MazeFingerprint.toHex(context.fingerprint()) + "), rebuilding");
+                }
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable index " + file + ": " + e.getMessage());
+            }
+        }
+        if (index == null) {
+            index = buildIndex(context);
+            try {
+                index.write(file);
+            } catch (IOException e) {
+                System.err.println("Could not write index " + file + ": " + e.getMessage());
+            }
+        }
+        register(key, index);
+        return index;
+    }
+
+    /**
+     * Reads the maze's graph file if it is valid for {@code context} and
+     * {@code clusterSize}, otherwise builds the graph and writes the file.
+     * Like {@link #open}, an unwritable directory only costs the persistence.
+     */
+    public ClusterGraph openGraph(String mazeFile, MazeContext context, int clusterSize) {
+        GraphKey key = GraphKey.of(context, clusterSize);
+        ClusterGraph cached = graphs.get(key);
+        if (cached != null) return cached;
+
+        Path file = graphPath(mazeFile);
+        ClusterGraph graph = null;
+        if (Files.isRegularFile(file)) {
+            try {
+                graph = ClusterGraph.read(file, context, clusterSize);
+                if (graph != null) {
+                    synchronized (this) { graphLoads++; }
+                } else {
+                    System.err.println("Graph " + file + " is stale (maze "
+                        + MazeFingerprint.toHex(context.fingerprint()) + ", cluster size " + clusterSize
+                        + "), rebuilding");
+                }
+            } catch (IOException e) {
+                System.err.println("Ignoring unreadable graph " + file + ": " + e.getMessage());
+            }
+        }
+        if (graph == null) {
+            graph = buildGraph(context, clusterSize);
+            try {
+                graph.write(file);
+            } catch (IOException e) {
+                System.err.println("Could not write graph " + file + ": " + e.getMessage());
+            }
+        }
+        graphs.put(key, graph);
+        return graph;
+    }
+
+    /**
+     * The index for {@code context}'s grid and goal, or null if none was
+     * opened or built.
+     */
+    public MazeIndex find(MazeContext context) {
+        Key key = Key.of(context);
+        MazeIndex opened = indexes.get(key);
+        if (opened != null) return opened;
+        synchronized (this) {
+            Built b = built.get(key);
+            return b != null ? (MazeIndex) b.value() : null;
+        }
+    }
+
+    /**
+     * An index for {@code context}'s grid with any goal (its landmark tables
+     * still bound costs to other goals), or null.
+     */
+    public MazeIndex findForGrid(MazeContext context) {
+        MazeIndex exact = find(context);
+        if (exact != null) return exact;
+        MazeIndex any = byGrid.get(context.fingerprint());
+        if (any != null && any.sameGrid(context)) return any;
+        synchronized (this) {
+            for (Built b : built.values()) {
+                if (b.value() instanceof MazeIndex index && index.sameGrid(context)) return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The index for {@code context}, building it in memory (not persisted) if
+     * needed. A built index is kept in the LRU, unless it alone exceeds its
+     * byte limit.
+     */
+    public MazeIndex getOrBuild(MazeContext context) {
+        MazeIndex index = find(context);
+        if (index != null) return index;
+        index = buildIndex(context);
+        return (MazeIndex) keep(Key.of(context), index, index.sizeBytes());
+    }
+
+    /**
+     * The abstract graph of {@code context}'s grid, built on first use and
+     * kept in the LRU. Start and goal don't matter, so every query on a grid
+     * shares one graph.
+     */
+    public ClusterGraph getOrBuildGraph(MazeContext context, int clusterSize) {
+        GraphKey key = GraphKey.of(context, clusterSize);
+        ClusterGraph opened = graphs.get(key);
+        if (opened != null) return opened;
+        synchronized (this) {
+            Built b = built.get(key);
+            if (b != null) return (ClusterGraph) b.value();
+        }
+        ClusterGraph graph = buildGraph(context, clusterSize);
+        return (ClusterGraph) keep(key, graph, graph.sizeBytes());
+    }
+
+    /** Indexes built (not loaded from a file). */
+    public synchronized long getBuilds() { return builds; }
+
+    /** Abstract graphs built (not read from a file). */
+    public synchronized long getGraphBuilds() { return graphBuilds; }
+
+    public synchronized long getLoads() { return loads; }
+
+    public synchronized long getGraphLoads() { return graphLoads; }
+
+    /** Total time spent building indexes. */
+    public synchronized long getBuildNanos() { return buildNanos; }
+
+    /** Total time spent building abstract graphs. */
+    public synchronized long getGraphBuildNanos() { return graphBuildNanos; }
+
+    /** Indexes and graphs dropped from the LRU. */
+    public synchronized long getEvictions() { return evictions; }
+
+    /** Opened indexes and graphs plus those in the LRU. */
+    public synchronized int size() { return indexes.size() + graphs.size() + built.size(); }
+
+    public synchronized long getCurrentBytes() { return currentBytes; }
+
+    /**
+     * Forgets every in-memory index and graph (files are kept).
+     */
+    public synchronized void clear() {
+        indexes.clear();
+        byGrid.clear();
+        graphs.clear();
+        built.clear();
+        currentBytes = 0;
+    }
+
+    private MazeIndex buildIndex(MazeContext context) {
+        long t0 = System.nanoTime();
+        MazeIndex index = MazeIndex.build(context, landmarks);
+        long elapsed = System.nanoTime() - t0;
+        synchronized (this) {
+            builds++;
+            buildNanos += elapsed;
+        }
+        return index;
+    }
+
+    private ClusterGraph buildGraph(MazeContext context, int clusterSize) {
+        long t0 = System.nanoTime();
+        ClusterGraph graph = ClusterGraph.build(context, clusterSize);
+        long elapsed = System.nanoTime() - t0;
+        synchronized (this) {
+            graphBuilds++;
+            graphBuildNanos += elapsed;
+        }
+        return graph;
+    }
+
+    private void register(Key key, MazeIndex index) {
+        indexes.put(key, index);
+        byGrid.put(key.fingerprint(), index);
+    }
+
+    // Adds a built value to the LRU; returns the one already there if another thread won
+    private synchronized Object keep(Object key, Object value, long size) {
+        Built existing = built.get(key);
+        if (existing != null) return existing.value();
+        if (size > maxBytes || maxEntries == 0) return value;
+        built.put(key, new Built(value, size));
+        currentBytes += size;
+        Iterator<Built> it = built.values().iterator();
+        while ((currentBytes > maxBytes || built.size() > maxEntries) && it.hasNext()) {
+            currentBytes -= it.next().sizeBytes();
+            it.remove();
+            evictions++;
+        }
+        return value;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("MazeIndexStore[%d opened, %d graphs opened, %d/%d built, %,d/%,d bytes, "
+                + "builds=%d (%.1f ms), loads=%d, graphBuilds=%d (%.1f ms), graphLoads=%d, evictions=%d, landmarks=%d]",
+            indexes.size(), graphs.size(), built.size(), maxEntries, currentBytes, maxBytes,
+            builds, buildNanos / 1e6, loads, graphBuilds, graphBuildNanos / 1e6, graphLoads, evictions, landmarks);
+    }
+}
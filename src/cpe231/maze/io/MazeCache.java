@@ -0,0 +1,168 @@
+package cpe231.maze.io;
+
+import cpe231.maze.core.MazeContext;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Process-wide cache of parsed mazes.
+ *
+ * Entries are keyed by canonical path and validated against the file's size
+ * and last-modified time, so an edited file is re-parsed on the next lookup.
+ * Cached {@link MazeContext} instances are immutable and may be shared freely
+ * between threads and solvers.
+ *
+ * Memory is bounded by the estimated grid footprint; least recently used
+ * entries are evicted first. The bound defaults to 256 MB and can be set with
+ * {@code -Dmaze.cache.maxBytes=<bytes>} or {@link #setMaxBytes(long)}.
+ *
+ * Usage Example:
+ * <pre>
+ * MazeContext ctx = MazeCache.shared().load("data/m15_15.txt");
+ * long key = MazeCache.shared().get("data/m15_15.txt").fingerprint();
+ * </pre>
+ */
+public final class MazeCache {
+
+    private static final long DEFAULT_MAX_BYTES = 256L * 1024 * 1024;
+
+    private static final MazeCache SHARED =
+        new MazeCache(Long.getLong("maze.cache.maxBytes", DEFAULT_MAX_BYTES));
+
+    /**
+     * A cached maze: the parsed context, its content fingerprint and the
+     * file attributes it was validated against.
+     */
+    public record Entry(
+        String path,
+        long fileSize,
+        long lastModified,
+        MazeContext context,
+        long fingerprint,
+        long sizeBytes
+    ) {}
+
+    // Access-ordered map = LRU iteration order (eldest first)
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxBytes;
+    private long currentBytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public MazeCache(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be >= 0");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache shared by the UI, the benchmark and every other caller
+     * in this JVM.
+     */
+    public static MazeCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Convenience wrapper returning only the parsed context.
+     */
+    public MazeContext load(String filePath) throws IOException {
+        return get(filePath).context();
+    }
+
+    /**
+     * Returns the cached entry for a file, parsing it if it is missing or the
+     * file changed on disk since it was cached.
+     *
+     * @throws IOException if the file cannot be read or is not a valid maze
+     */
+    public Entry get(String filePath) throws IOException {
+        File file = new File(filePath);
+        if (!file.isFile()) {
+            throw new IOException("Maze file not found: " + filePath);
+        }
+        String key = file.getCanonicalPath();
+        long size = file.length();
+        long modified = file.lastModified();
+
+        synchronized (this) {
+            Entry cached = entries.get(key);
+            if (cached != null && cached.fileSize() == size && cached.lastModified() == modified) {
+                hits++;
+                return cached;
+            }
+            misses++;
+        }
+
+        // Parse outside the cache lock so lookups of other mazes are not blocked
+        MazeContext context = MazeLoader.loadContext(filePath);
+        Entry loaded = new Entry(key, size, modified, context,
+            context.fingerprint(), context.estimatedSizeBytes());
+
+        synchronized (this) {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                currentBytes -= previous.sizeBytes();
+            }
+            if (loaded.sizeBytes() <= maxBytes) {
+                entries.put(key, loaded);
+                currentBytes += loaded.sizeBytes();
+                evictToFit();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Changes the memory bound, evicting entries immediately if needed.
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must be >= 0");
+        }
+        this.maxBytes = maxBytes;
+        evictToFit();
+    }
+
+    public synchronized long getMaxBytes() { return maxBytes; }
+
+    public synchronized long getCurrentBytes() { return currentBytes; }
+
+    public synchronized int size() { return entries.size(); }
+
+    public synchronized long getHits() { return hits; }
+
+    public synchronized long getMisses() { return misses; }
+
+    public synchronized long getEvictions() { return evictions; }
+
+    /**
+     * Drops every entry (statistics are kept).
+     */
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    private void evictToFit() {
+        Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.sizeBytes();
+            evictions++;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("MazeCache[%d entries, %,d/%,d bytes, hits=%d, misses=%d, evictions=%d]",
+            entries.size(), currentBytes, maxBytes, hits, misses, evictions);
+    }
+}
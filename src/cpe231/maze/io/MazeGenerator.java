@@ -0,0 +1,487 @@
+package cpe231.maze.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Procedural maze generator for scaling tests.
+ *
+ * Produces mazes in the exact text format read by {@link MazeLoader}
+ * ({@code #} walls, {@code S}/{@code G} markers, quoted cell costs).
+ * Output is streamed row by row: the full cost grid is never materialized.
+ * Corridor mazes keep only one byte of topology per maze node (a quarter of
+ * the cells), so a 10,000 x 10,000 maze needs ~25 MB of heap; open-room
+ * mazes are generated from the seed alone and need O(cols) memory.
+ *
+ * Same spec + same seed = byte-identical output.
+ *
+ * Usage Example:
+ * <pre>
+ * new MazeGenerator(new MazeGenerator.Spec(Algorithm.PRIM, 1001, 1001, 42L))
+ *     .writeText(Paths.get("data/gen/prim_1001.txt"));
+ * </pre>
+ */
+public class MazeGenerator {
+
+    /** Maximum supported dimension (rows or cols). */
+    public static final int MAX_SIZE = 10_000;
+
+    public enum Algorithm {
+        /** Depth-first carving: long winding corridors, perfect maze. */
+        BACKTRACKER,
+        /** Randomized Prim's: short branchy corridors, perfect maze. */
+        PRIM,
+        /** Backtracker with dead ends knocked through: multiple paths/loops. */
+        BRAIDED,
+        /** Large open rooms joined by doorways. */
+        OPEN_ROOM
+    }
+
+    public enum CostDistribution {
+        /** Every floor cell costs 1. */
+        UNIT,
+        /** Costs uniform in [1, maxCost] (the data/ files use 1-10). */
+        UNIFORM,
+        /** Mostly cheap cells with a long tail of expensive ones. */
+        SKEWED;
+
+        int sample(SplittableRandom rnd, int maxCost) {
+            switch (this) {
+                case UNIT:
+                    return 1;
+                case UNIFORM:
+                    return 1 + rnd.nextInt(maxCost);
+                default:
+                    // Geometric-like: P(cost = k) halves with every step
+                    int cost = 1;
+                    while (cost < maxCost && rnd.nextInt(2) == 0) cost++;
+                    return cost;
+            }
+        }
+    }
+
+    /**
+     * Generation parameters.
+     *
+     * @param loopFactor probability (0..1) that a dead end is opened up
+     *                   (BRAIDED only)
+     * @param roomSize   room pitch in cells including the wall (OPEN_ROOM only)
+     */
+    public record Spec(
+        Algorithm algorithm,
+        int rows,
+        int cols,
+        long seed,
+        CostDistribution costs,
+        int maxCost,
+        double loopFactor,
+        int roomSize
+    ) {
+        public Spec {
+            if (rows < 3 || cols < 3 || rows > MAX_SIZE || cols > MAX_SIZE) {
+                throw new IllegalArgumentException(
+                    "Size must be between 3 and " + MAX_SIZE + ": " + rows + "x" + cols);
+            }
+            if (rows < 5 && cols < 5) {
+                // Below 5x5 the goal lands on the start cell (1,1)
+                throw new IllegalArgumentException(
+                    "Rows or cols must be at least 5: " + rows + "x" + cols);
+            }
+            if (maxCost < 1 || maxCost > 99) {
+                throw new IllegalArgumentException("maxCost must be in 1..99");
+            }
+            if (loopFactor < 0 || loopFactor > 1) {
+                throw new IllegalArgumentException("loopFactor must be in 0..1");
+            }
+            if (roomSize < 3) {
+                throw new IllegalArgumentException("roomSize must be >= 3");
+            }
+        }
+
+        public Spec(Algorithm algorithm, int rows, int cols, long seed) {
+            this(algorithm, rows, cols, seed, CostDistribution.UNIFORM, 10, 0.5, 12);
+        }
+    }
+
+    /**
+     * Receives generated rows in order. {@code cells} holds -1 for walls and
+     * the cell cost otherwise; the array is reused between calls.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(int row, int[] cells) throws IOException;
+    }
+
+    // Node topology bits (one byte per maze node)
+    private static final byte EAST = 1;
+    private static final byte SOUTH = 2;
+    private static final byte VISITED = 4;
+    private static final byte FRONTIER = 8;
+    private static final int PARENT_SHIFT = 4; // 2 bits: direction back to parent
+
+    private static final int[] NODE_DR = {-1, 1, 0, 0};
+    private static final int[] NODE_DC = {0, 0, -1, 1};
+
+    private final Spec spec;
+    private final int nodeRows, nodeCols;
+    private final int startRow, startCol, goalRow, goalCol;
+
+    public MazeGenerator(Spec spec) {
+        this.spec = spec;
+        this.nodeRows = (spec.rows() - 1) / 2;
+        this.nodeCols = (spec.cols() - 1) / 2;
+        this.startRow = 1;
+        this.startCol = 1;
+        if (spec.algorithm() == Algorithm.OPEN_ROOM) {
+            this.goalRow = lastOffWall(spec.rows(), spec.roomSize());
+            this.goalCol = lastOffWall(spec.cols(), spec.roomSize());
+        } else {
+            this.goalRow = 2 * (nodeRows - 1) + 1;
+            this.goalCol = 2 * (nodeCols - 1) + 1;
+        }
+    }
+
+    public int getStartRow() { return startRow; }
+    public int getStartCol() { return startCol; }
+    public int getGoalRow() { return goalRow; }
+    public int getGoalCol() { return goalCol; }
+
+    /**
+     * Writes the maze in {@link MazeLoader}'s text format.
+     */
+    public void writeText(Path out) throws IOException {
+        Path parent = out.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (BufferedWriter writer = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            writeText(writer);
+        }
+    }
+
+    public void writeText(Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder(spec.cols() * 4);
+        generate((r, cells) -> {
+            line.setLength(0);
+            for (int c = 0; c < cells.length; c++) {
+                if (r == startRow && c == startCol) {
+                    line.append('S');
+                } else if (r == goalRow && c == goalCol) {
+                    line.append('G');
+                } else if (cells[c] == -1) {
+                    line.append('#');
+                } else {
+                    line.append('"').append(cells[c]).append('"');
+                }
+            }
+            line.append('\n');
+            writer.write(line.toString());
+        });
+    }
+
+    /**
+     * Streams every row of the maze to the sink, top to bottom.
+     */
+    public void generate(RowSink sink) throws IOException {
+        if (spec.algorithm() == Algorithm.OPEN_ROOM) {
+            emitOpenRoom(sink);
+            return;
+        }
+        byte[] nodes = new byte[nodeRows * nodeCols];
+        SplittableRandom rnd = new SplittableRandom(spec.seed());
+        switch (spec.algorithm()) {
+            case PRIM:
+                carvePrim(nodes, rnd);
+                break;
+            case BRAIDED:
+                carveBacktracker(nodes, rnd);
+                braid(nodes, rnd);
+                break;
+            default:
+                carveBacktracker(nodes, rnd);
+        }
+        emitCorridors(nodes, sink);
+    }
+
+    // === TOPOLOGY ===
+
+    /**
+     * Iterative recursive backtracker. The DFS stack is implicit: each node
+     * stores the direction back to its parent, so no explicit stack is needed.
+     */
+    private void carveBacktracker(byte[] nodes, SplittableRandom rnd) {
+        int current = 0;
+        nodes[0] |= VISITED;
+        int[] candidates = new int[4];
+
+        while (current != -1) {
+            int r = current / nodeCols, c = current % nodeCols;
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + NODE_DR[d], nc = c + NODE_DC[d];
+                if (inNodes(nr, nc) && (nodes[nr * nodeCols + nc] & VISITED) == 0) {
+                    candidates[count++] = d;
+                }
+            }
+            if (count == 0) {
+                current = parentOf(nodes, current);
+                continue;
+            }
+            int d = candidates[rnd.nextInt(count)];
+            int next = (r + NODE_DR[d]) * nodeCols + (c + NODE_DC[d]);
+            open(nodes, current, d);
+            nodes[next] |= VISITED;
+            nodes[next] |= (byte) (opposite(d) << PARENT_SHIFT);
+            current = next;
+        }
+    }
+
+    private int parentOf(byte[] nodes, int node) {
+        if (node == 0) return -1;
+        int d = (nodes[node] >> PARENT_SHIFT) & 3;
+        return (node / nodeCols + NODE_DR[d]) * nodeCols + (node % nodeCols + NODE_DC[d]);
+    }
+
+    /**
+     * Randomized Prim's: grow from the start, connecting a random frontier
+     * node to a random already-visited neighbour.
+     */
+    private void carvePrim(byte[] nodes, SplittableRandom rnd) {
+        int[] frontier = new int[Math.min(nodes.length, 1024)];
+        int size = 0;
+        nodes[0] |= VISITED;
+        size = addFrontier(nodes, 0, frontier, size);
+        int[] candidates = new int[4];
+
+        while (size > 0) {
+            int pick = rnd.nextInt(size);
+            int node = frontier[pick];
+            frontier[pick] = frontier[--size];
+
+            int r = node / nodeCols, c = node % nodeCols;
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                int nr = r + NODE_DR[d], nc = c + NODE_DC[d];
+                if (inNodes(nr, nc) && (nodes[nr * nodeCols + nc] & VISITED) != 0) {
+                    candidates[count++] = d;
+                }
+            }
+            open(nodes, node, candidates[rnd.nextInt(count)]);
+            nodes[node] |= VISITED;
+            if (size + 4 > frontier.length) {
+                // Frontier can never exceed the node count
+                frontier = Arrays.copyOf(frontier,
+                    (int) Math.min(nodes.length, frontier.length * 2L));
+            }
+            size = addFrontier(nodes, node, frontier, size);
+        }
+    }
+
+    private int addFrontier(byte[] nodes, int node, int[] frontier, int size) {
+        int r = node / nodeCols, c = node % nodeCols;
+        for (int d = 0; d < 4; d++) {
+            int nr = r + NODE_DR[d], nc = c + NODE_DC[d];
+            if (!inNodes(nr, nc)) continue;
+            int n = nr * nodeCols + nc;
+            if ((nodes[n] & (VISITED | FRONTIER)) == 0) {
+                nodes[n] |= FRONTIER;
+                frontier[size++] = n;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Removes dead ends with probability {@code loopFactor}, creating loops.
+     */
+    private void braid(byte[] nodes, SplittableRandom rnd) {
+        int[] candidates = new int[4];
+        for (int node = 0; node < nodes.length; node++) {
+            if (degree(nodes, node) != 1 || rnd.nextDouble() >= spec.loopFactor()) continue;
+            int r = node / nodeCols, c = node % nodeCols;
+            int count = 0;
+            for (int d = 0; d < 4; d++) {
+                if (inNodes(r + NODE_DR[d], c + NODE_DC[d]) && !isOpen(nodes, node, d)) {
+                    candidates[count++] = d;
+                }
+            }
+            if (count > 0) open(nodes, node, candidates[rnd.nextInt(count)]);
+        }
+    }
+
+    private int degree(byte[] nodes, int node) {
+        int deg = 0;
+        for (int d = 0; d < 4; d++) {
+            int nr = node / nodeCols + NODE_DR[d], nc = node % nodeCols + NODE_DC[d];
+            if (inNodes(nr, nc) && isOpen(nodes, node, d)) deg++;
+        }
+        return deg;
+    }
+
+    // Walls are stored once: EAST/SOUTH on the owning node
+    private boolean isOpen(byte[] nodes, int node, int d) {
+        switch (d) {
+            case 0: return (nodes[node - nodeCols] & SOUTH) != 0;
+            case 1: return (nodes[node] & SOUTH) != 0;
+            case 2: return (nodes[node - 1] & EAST) != 0;
+            default: return (nodes[node] & EAST) != 0;
+        }
+    }
+
+    private void open(byte[] nodes, int node, int d) {
+        switch (d) {
+            case 0: nodes[node - nodeCols] |= SOUTH; break;
+            case 1: nodes[node] |= SOUTH; break;
+            case 2: nodes[node - 1] |= EAST; break;
+            default: nodes[node] |= EAST;
+        }
+    }
+
+    private boolean inNodes(int r, int c) {
+        return r >= 0 && r < nodeRows && c >= 0 && c < nodeCols;
+    }
+
+    private static int opposite(int d) {
+        return d ^ 1; // 0<->1 (N/S), 2<->3 (W/E)
+    }
+
+    // === ROW EMISSION ===
+
+    private void emitCorridors(byte[] nodes, RowSink sink) throws IOException {
+        int[] cells = new int[spec.cols()];
+        for (int r = 0; r < spec.rows(); r++) {
+            SplittableRandom costRnd = rowRandom(r);
+            Arrays.fill(cells, -1);
+            int nr = (r - 1) / 2;
+            if (r > 0 && nr < nodeRows) {
+                boolean nodeRow = (r % 2 == 1);
+                for (int c = 1; c < spec.cols() - 1; c++) {
+                    int nc = (c - 1) / 2;
+                    if (nc >= nodeCols) break;
+                    boolean nodeCol = (c % 2 == 1);
+                    int node = nr * nodeCols + nc;
+                    boolean floor;
+                    if (nodeRow && nodeCol) {
+                        floor = true;
+                    } else if (nodeRow) {
+                        floor = (nodes[node] & EAST) != 0;
+                    } else if (nodeCol) {
+                        floor = (nodes[node] & SOUTH) != 0;
+                    } else {
+                        floor = false;
+                    }
+                    if (floor) cells[c] = spec.costs().sample(costRnd, spec.maxCost());
+                }
+            }
+            sink.accept(r, cells);
+        }
+    }
+
+    /**
+     * Rooms of {@code roomSize} cells separated by one-cell walls. Every wall
+     * segment between two neighbouring rooms gets one doorway, so all rooms
+     * are connected. Door positions are derived from the seed, not stored.
+     */
+    private void emitOpenRoom(RowSink sink) throws IOException {
+        int rows = spec.rows(), cols = spec.cols(), room = spec.roomSize();
+        int[] cells = new int[cols];
+        for (int r = 0; r < rows; r++) {
+            SplittableRandom costRnd = rowRandom(r);
+            Arrays.fill(cells, -1);
+            if (r > 0 && r < rows - 1) {
+                boolean wallRow = (r % room == 0);
+                for (int c = 1; c < cols - 1; c++) {
+                    boolean wallCol = (c % room == 0);
+                    boolean floor;
+                    if (wallRow && wallCol) {
+                        floor = false;
+                    } else if (wallRow) {
+                        // Horizontal wall between room rows: one door per room column
+                        floor = (c == doorOffset(r, c / room, room, cols));
+                    } else if (wallCol) {
+                        // Vertical wall between room columns: one door per room row
+                        floor = (r == doorOffset(c + MAX_SIZE, r / room, room, rows));
+                    } else {
+                        floor = true;
+                    }
+                    if (floor) cells[c] = spec.costs().sample(costRnd, spec.maxCost());
+                }
+            }
+            if (r == startRow) cells[startCol] = Math.max(cells[startCol], 1);
+            if (r == goalRow) cells[goalCol] = Math.max(cells[goalCol], 1);
+            sink.accept(r, cells);
+        }
+    }
+
+    /**
+     * Absolute door coordinate for the wall segment {@code segment} on wall
+     * line {@code line}: a deterministic pick inside the segment's span.
+     */
+    private int doorOffset(int line, int segment, int room, int limit) {
+        int lo = segment * room + 1;
+        int hi = Math.min(lo + room - 1, limit - 1); // exclusive
+        if (hi <= lo) return -1;
+        long h = spec.seed() * 0x9E3779B97F4A7C15L + line * 0xC2B2AE3D27D4EB4FL + segment;
+        return lo + (int) Math.floorMod(new SplittableRandom(h).nextLong(), (long) (hi - lo));
+    }
+
+    private static int lastOffWall(int size, int room) {
+        int v = size - 2;
+        while (v > 1 && v % room == 0) v--;
+        return v;
+    }
+
+    // Costs use an independent stream per row so output does not depend on buffering
+    private SplittableRandom rowRandom(int row) {
+        return new SplittableRandom(spec.seed() ^ (0xD1B54A32D192ED03L * (row + 1)));
+    }
+
+    // === COMMAND LINE ===
+
+    /**
+     * Usage: {@code java cpe231.maze.io.MazeGenerator --algorithm prim
+     * --rows 1001 --cols 1001 --seed 42 [--costs uniform|unit|skewed]
+     * [--max-cost 10] [--loops 0.5] [--room 12] --out data/gen/prim_1001.txt}
+     */
+    public static void main(String[] args) throws IOException {
+        Algorithm algorithm = Algorithm.BACKTRACKER;
+        int rows = 101, cols = 101, maxCost = 10, roomSize = 12;
+        long seed = 1L;
+        double loops = 0.5;
+        CostDistribution costs = CostDistribution.UNIFORM;
+        String out = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String value = (i + 1 < args.length) ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--algorithm": algorithm = Algorithm.valueOf(value.toUpperCase().replace('-', '_')); i++; break;
+                case "--rows": rows = Integer.parseInt(value); i++; break;
+                case "--cols": cols = Integer.parseInt(value); i++; break;
+                case "--seed": seed = Long.parseLong(value); i++; break;
+                case "--costs": costs = CostDistribution.valueOf(value.toUpperCase()); i++; break;
+                case "--max-cost": maxCost = Integer.parseInt(value); i++; break;
+                case "--loops": loops = Double.parseDouble(value); i++; break;
+                case "--room": roomSize = Integer.parseInt(value); i++; break;
+                case "--out": out = value; i++; break;
+                default:
+                    System.err.println("Unknown argument: " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (out == null) {
+            out = String.format("data/gen/%s_%d_%d_s%d.txt",
+                algorithm.name().toLowerCase(), rows, cols, seed);
+        }
+
+        long t0 = System.nanoTime();
+        Spec spec = new Spec(algorithm, rows, cols, seed, costs, maxCost, loops, roomSize);
+        new MazeGenerator(spec).writeText(Paths.get(out));
+        System.out.printf("Generated %s %dx%d (seed %d) -> %s in %.1f ms%n",
+            algorithm, rows, cols, seed, out, (System.nanoTime() - t0) / 1_000_000.0);
+    }
+}
@@ -1,5 +1,6 @@
 package cpe231.maze.io;
 
+import cpe231.maze.core.MazeContext;
 import java.io.BufferedReader;
 import java.io.FileReader;
 import java.io.IOException;
@@ -11,7 +12,17 @@ public class MazeLoader {
     public static int startRow = -1, startCol = -1;
     public static int endRow = -1, endCol = -1;
 
-    public static void loadMaze(String filePath) throws IOException {
+    /**
+     * Parses a maze file and returns it as an immutable context.
+     * Synchronized with {@link #loadMaze} so the static fields are never
+     * observed half-written by concurrent callers.
+     */
+    public static synchronized MazeContext loadContext(String filePath) throws IOException {
+        loadMaze(filePath);
+        return new MazeContext(maze, startRow, startCol, endRow, endCol);
+    }
+
+    public static synchronized void loadMaze(String filePath) throws IOException {
         System.out.println("📂 Loading maze from: " + filePath);
         
         List<String> lines = new ArrayList<>();
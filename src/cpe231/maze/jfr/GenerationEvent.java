@@ -0,0 +1,50 @@
+package cpe231.maze.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for one GA generation, with the time spent in each operator.
+ * Emitted through {@link GenerationTimer}.
+ */
+@Name("cpe231.maze.Generation")
+@Label("GA Generation")
+@Category({"Maze", "Solver", "Genetic Algorithm"})
+@Description("One generation of a genetic-algorithm solver")
+@StackTrace(false)
+public class GenerationEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Generation")
+    int generation;
+
+    @Label("Population Size")
+    int populationSize;
+
+    @Label("Best Cost")
+    int bestCost;
+
+    @Label("Selection")
+    @Timespan(Timespan.NANOSECONDS)
+    long selectionNanos;
+
+    @Label("Crossover")
+    @Timespan(Timespan.NANOSECONDS)
+    long crossoverNanos;
+
+    @Label("Mutation")
+    @Timespan(Timespan.NANOSECONDS)
+    long mutationNanos;
+
+    @Label("Evaluation")
+    @Description("Ranking the population by fitness and updating the best solution")
+    @Timespan(Timespan.NANOSECONDS)
+    long evaluationNanos;
+}
@@ -0,0 +1,81 @@
+package cpe231.maze.jfr;
+
+import cpe231.maze.core.MazeSolver;
+
+/**
+ * Accumulates per-operator time for one GA generation and commits it as a
+ * {@link GenerationEvent}.
+ *
+ * Call {@link #mark()} before an operator and the matching {@code ...Done()}
+ * after it. When the event is disabled {@link #start} returns a shared no-op
+ * timer, so the GA loop pays for neither {@code System.nanoTime()} nor allocation.
+ *
+ * Usage Example:
+ * <pre>
+ * GenerationTimer timer = GenerationTimer.start(this, gen);
+ * timer.mark();
+ * Individual p1 = selectParent(population);
+ * timer.selectionDone();
+ * ...
+ * timer.commit(best.cost, population.size());
+ * </pre>
+ */
+public class GenerationTimer {
+
+    private static final GenerationTimer DISABLED = new GenerationTimer(null);
+
+    private final GenerationEvent event;
+    private long mark;
+
+    private GenerationTimer(GenerationEvent event) {
+        this.event = event;
+    }
+
+    public static GenerationTimer start(MazeSolver solver, int generation) {
+        GenerationEvent event = new GenerationEvent();
+        if (!event.isEnabled()) return DISABLED;
+        event.algorithm = SolveEvent.algorithmName(solver);
+        event.generation = generation;
+        event.begin();
+        GenerationTimer timer = new GenerationTimer(event);
+        timer.mark = System.nanoTime();
+        return timer;
+    }
+
+    public void mark() {
+        if (event != null) mark = System.nanoTime();
+    }
+
+    public void selectionDone() {
+        if (event != null) event.selectionNanos += lap();
+    }
+
+    public void crossoverDone() {
+        if (event != null) event.crossoverNanos += lap();
+    }
+
+    public void mutationDone() {
+        if (event != null) event.mutationNanos += lap();
+    }
+
+    public void evaluationDone() {
+        if (event != null) event.evaluationNanos += lap();
+    }
+
+    public void commit(int bestCost, int populationSize) {
+        if (event == null) return;
+        event.end();
+        if (event.shouldCommit()) {
+            event.bestCost = bestCost;
+            event.populationSize = populationSize;
+            event.commit();
+        }
+    }
+
+    private long lap() {
+        long now = System.nanoTime();
+        long elapsed = now - mark;
+        mark = now;
+        return elapsed;
+    }
+}
@@ -0,0 +1,57 @@
+package cpe231.maze.jfr;
+
+import cpe231.maze.core.MazeSolver;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one phase of a deterministic search: {@code "build"}
+ * (getting the index or abstract graph the search needs, building it if
+ * missing), {@code "search"} (frontier expansion) or {@code "reconstruct"}
+ * (walking the parent links).
+ */
+@Name("cpe231.maze.SearchPhase")
+@Label("Search Phase")
+@Category({"Maze", "Solver"})
+@Description("Search or path-reconstruction phase of a graph-search solver")
+@StackTrace(false)
+public class SearchPhaseEvent extends Event {
+
+    public static final String BUILD = "build";
+    public static final String SEARCH = "search";
+    public static final String RECONSTRUCT = "reconstruct";
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Items")
+    @Description("Abstract graph nodes (build), nodes expanded (search) or path cells (reconstruct)")
+    long items;
+
+    public static SearchPhaseEvent start(MazeSolver solver, String phase) {
+        SearchPhaseEvent event = new SearchPhaseEvent();
+        if (event.isEnabled()) {
+            event.algorithm = SolveEvent.algorithmName(solver);
+            event.phase = phase;
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(long items) {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                this.items = items;
+                commit();
+            }
+        }
+    }
+}
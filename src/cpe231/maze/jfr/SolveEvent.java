@@ -0,0 +1,86 @@
+package cpe231.maze.jfr;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event spanning one {@link MazeSolver#solve} call.
+ *
+ * Usage Example:
+ * <pre>
+ * public AlgorithmResult solve(MazeContext context) {
+ *     SolveEvent event = SolveEvent.start(this, context);
+ *     return event.finish(search(context));
+ * }
+ * </pre>
+ * When no recording has the event enabled, {@link #start} and {@link #finish}
+ * only check a flag and the event object does not escape.
+ */
+@Name("cpe231.maze.Solve")
+@Label("Maze Solve")
+@Category({"Maze", "Solver"})
+@Description("One solver run: maze size and result statistics")
+@StackTrace(false)
+public class SolveEvent extends Event {
+
+    @Label("Algorithm")
+    String algorithm;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int cols;
+
+    @Label("Status")
+    String status;
+
+    @Label("Cost")
+    int cost;
+
+    @Label("Nodes Expanded")
+    long nodesExpanded;
+
+    @Label("Path Length")
+    int pathLength;
+
+    public static SolveEvent start(MazeSolver solver, MazeContext context) {
+        SolveEvent event = new SolveEvent();
+        if (event.isEnabled()) {
+            event.algorithm = algorithmName(solver);
+            event.rows = context.rows;
+            event.cols = context.cols;
+            event.begin();
+        }
+        return event;
+    }
+
+    /**
+     * Records the result and commits the event; returns {@code result} unchanged.
+     */
+    public AlgorithmResult finish(AlgorithmResult result) {
+        if (isEnabled()) {
+            end();
+            if (shouldCommit()) {
+                status = result.status();
+                cost = result.cost();
+                nodesExpanded = result.nodesExpanded();
+                pathLength = result.path() == null ? 0 : result.path().size();
+                commit();
+            }
+        }
+        return result;
+    }
+
+    // Same short form as the benchmark tables: "AStar", "PureGA"
+    static String algorithmName(MazeSolver solver) {
+        return solver.getClass().getSimpleName().replace("Solver", "");
+    }
+}
@@ -0,0 +1,91 @@
+package cpe231.maze.server;
+
+import cpe231.maze.algorithms.HierarchicalAStarSolver;
+import cpe231.maze.benchmark.BenchmarkEngine;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.index.MazeIndexStore;
+import cpe231.maze.io.MazeLoader;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory mazes served by id. The id is the file name without ".txt"
+ * ("m100_100"); lookups also accept the full file name.
+ *
+ * Mazes are loaded once at startup and shared by every request: a
+ * {@link MazeContext} is immutable, so no copying or locking is needed.
+ * With an index store, each maze's search index and abstract graph are
+ * opened (read from its {@code .idx} and {@code .hpa} files, or built and
+ * written) as the maze is loaded, so neither is rebuilt after a restart.
+ */
+public final class MazeRegistry {
+
+    private final Map<String, MazeContext> mazes = new ConcurrentHashMap<>();
+    private final MazeIndexStore indexStore;
+
+    /**
+     * @param indexStore where to open search indexes, or null for none
+     */
+    public MazeRegistry(MazeIndexStore indexStore) {
+        this.indexStore = indexStore;
+    }
+
+    public MazeRegistry() {
+        this(null);
+    }
+
+    /**
+     * Loads every {@code .txt} maze in {@code directory}.
+     *
+     * @return number of mazes loaded
+     */
+    public int loadDirectory(String directory) throws IOException {
+        List<String> files = BenchmarkEngine.listMazeFiles(directory);
+        for (String file : files) load(file);
+        return files.size();
+    }
+
+    /**
+     * Loads one maze file and returns its id.
+     */
+    public String load(String filePath) throws IOException {
+        String id = idOf(Paths.get(filePath).getFileName().toString());
+        MazeContext context = MazeLoader.loadContext(filePath);
+        if (indexStore != null) {
+            indexStore.open(filePath, context);
+            indexStore.openGraph(filePath, context, HierarchicalAStarSolver.DEFAULT_CLUSTER_SIZE);
+        }
+        mazes.put(id, context);
+        return id;
+    }
+
+    public void put(String id, MazeContext context) {
+        mazes.put(idOf(id), context);
+    }
+
+    /**
+     * The maze with this id, or null.
+     */
+    public MazeContext get(String id) {
+        return mazes.get(idOf(id));
+    }
+
+    /**
+     * Registered ids, sorted.
+     */
+    public List<String> ids() {
+        return List.copyOf(new TreeSet<>(mazes.keySet()));
+    }
+
+    public int size() {
+        return mazes.size();
+    }
+
+    private static String idOf(String name) {
+        return name.endsWith(".txt") ? name.substring(0, name.length() - 4) : name;
+    }
+}
@@ -0,0 +1,417 @@
+package cpe231.maze.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.benchmark.ClientThreads;
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import cpe231.maze.core.SearchStats;
+import cpe231.maze.index.MazeIndexStore;
+import cpe231.maze.service.CachingSolver;
+import cpe231.maze.service.CoalescingSolver;
+import cpe231.maze.service.ResultCache;
+import cpe231.maze.service.ScheduledSolver;
+import cpe231.maze.service.SolveCoalescer;
+import cpe231.maze.service.SolveScheduler;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Embedded HTTP solve service on the JDK's built-in {@code com.sun.net.httpserver}.
+ *
+ * Endpoints:
+ * <ul>
+ *   <li>{@code POST /solve}: one {@link SolveRequest} as a JSON object;
+ *       responds with the {@link AlgorithmResult} as JSON.</li>
+ *   <li>{@code POST /solve/batch}: newline-delimited JSON, one request per
+ *       line; responds with one result line per request, in order, each
+ *       flushed as soon as it is solved (chunked transfer).</li>
+ *   <li>{@code GET /mazes}: ids of the preloaded mazes.</li>
+ *   <li>{@code GET /health}: liveness probe.</li>
+ * </ul>
+ *
+ * Each request runs on its own virtual thread (Java 21+; platform threads
+ * otherwise, or with {@code --threads platform}). Solvers are created per
+ * request, and the preloaded mazes are immutable and shared. Repeated
+ * queries to deterministic (or seeded) solvers are answered from a
+ * {@link ResultCache}, and identical queries that arrive while one is being
+ * solved share its computation ({@link SolveCoalescer}). Solves then run on a
+ * {@link SolveScheduler}, so a burst of GA requests cannot starve cheap A*
+ * queries; a full queue answers 503.
+ *
+ * Usage Example:
+ * <pre>
+ * java -cp bin cpe231.maze.server.MazeServer --port 8080 --data data
+ * curl -d '{"maze": "m100_100", "algorithm": "Dijkstra"}' localhost:8080/solve
+ * </pre>
+ */
+public final class MazeServer {
+
+    public static final int DEFAULT_PORT = 8080;
+
+    // Larger bodies are rejected with 413 (a 1000x1000 inline grid is ~3 MB)
+    static final int MAX_BODY_BYTES = 16 * 1024 * 1024;
+
+    private final MazeRegistry registry;
+    private final ResultCache cache;
+    private final SolveCoalescer coalescer = new SolveCoalescer();
+    private final SolveScheduler scheduler;
+    private final HttpServer server;
+    private final Executor executor;
+
+    /**
+     * Binds to {@code port} (0 = any free port); call {@link #start()} to serve.
+     *
+     * @param threads VIRTUAL: one virtual thread per request;
+     *                PLATFORM: a fixed pool of {@code workers} threads
+     * @param scheduler runs the solves (owned by the server and closed by {@link #stop})
+     */
+    public MazeServer(MazeRegistry registry, ResultCache cache, SolveScheduler scheduler, int port,
+                      ClientThreads.Mode threads, int workers) throws IOException {
+        this.registry = registry;
+        this.cache = cache;
+        this.scheduler = scheduler;
+        this.server = HttpServer.create(new InetSocketAddress(port), 0);
+        ThreadFactory factory = ClientThreads.factory(threads, "http-");
+        // Virtual threads are cheap, so each request gets a new one; platform threads are pooled
+        this.executor = threads == ClientThreads.Mode.VIRTUAL && ClientThreads.virtualThreadsAvailable()
+            ? task -> factory.newThread(task).start()
+            : Executors.newFixedThreadPool(workers, factory);
+        server.setExecutor(executor);
+        server.createContext("/solve", handler(this::handleSolve));
+        server.createContext("/solve/batch", handler(this::handleBatch));
+        server.createContext("/mazes", handler(this::handleMazes));
+        server.createContext("/health", handler(this::handleHealth));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops accepting requests, waits up to {@code delaySeconds} for active
+     * exchanges, then shuts the worker pool down.
+     */
+    public void stop(int delaySeconds) {
+        server.stop(delaySeconds);
+        if (executor instanceof ExecutorService) ((ExecutorService) executor).shutdownNow();
+        scheduler.close();
+    }
+
+    /**
+     * The bound port (useful when constructed with port 0).
+     */
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    // === Handlers ===
+
+    private interface Endpoint {
+        void handle(HttpExchange exchange) throws IOException;
+    }
+
+    private HttpHandler handler(Endpoint endpoint) {
+        return exchange -> {
+            try {
+                endpoint.handle(exchange);
+            } catch (HttpError e) {
+                sendJson(exchange, e.status, errorJson(null, e.getMessage()));
+            } catch (IllegalArgumentException e) {
+                sendJson(exchange, 400, errorJson(null, e.getMessage()));
+            } catch (NoSuchElementException e) {
+                sendJson(exchange, 404, errorJson(null, e.getMessage()));
+            } catch (RejectedExecutionException e) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                sendJson(exchange, 503, errorJson(null, e.getMessage()));
+            } catch (IOException e) {
+                // Client went away mid-response; nothing left to send
+            } catch (RuntimeException e) {
+                sendJson(exchange, 500, errorJson(null, e.toString()));
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    private void handleSolve(HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "POST", "/solve");
+        String body = new String(readBody(exchange), StandardCharsets.UTF_8);
+        SolveRequest request = SolveRequest.fromJson(Json.parseObject(body));
+        sendJson(exchange, 200, solve(request));
+    }
+
+    private void handleBatch(HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "POST", "/solve/batch");
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0); // chunked
+        try (BufferedReader in = new BufferedReader(
+                 new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8));
+             Writer out = new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)) {
+            String line;
+            int lineNo = 0;
+            while ((line = in.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) continue;
+                String response;
+                try {
+                    response = solve(SolveRequest.fromJson(Json.parseObject(line)));
+                } catch (IllegalArgumentException | NoSuchElementException | RejectedExecutionException e) {
+                    // A bad line is reported in place; the rest of the batch still runs
+                    response = errorJson(lineNo, e.getMessage());
+                }
+                out.write(response);
+                out.write('\n');
+                out.flush();
+            }
+        }
+    }
+
+    private void handleMazes(HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "GET", "/mazes");
+        StringBuilder sb = new StringBuilder("{\"mazes\": [");
+        List<String> ids = registry.ids();
+        for (int i = 0; i < ids.size(); i++) {
+            if (i > 0) sb.append(", ");
+            MazeContext ctx = registry.get(ids.get(i));
+            sb.append("{\"id\": ").append(Json.quote(ids.get(i)))
+              .append(", \"rows\": ").append(ctx.rows)
+              .append(", \"cols\": ").append(ctx.cols)
+              .append(", \"start\": [").append(ctx.startRow).append(", ").append(ctx.startCol).append(']')
+              .append(", \"goal\": [").append(ctx.endRow).append(", ").append(ctx.endCol).append("]}");
+        }
+        sendJson(exchange, 200, sb.append("]}").toString());
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "GET", "/health");
+        sendJson(exchange, 200, "{\"status\": \"ok\", \"mazes\": " + registry.size()
+            + ", \"cache\": {\"entries\": " + cache.size()
+            + ", \"bytes\": " + cache.getCurrentBytes()
+            + ", \"hits\": " + cache.getHits()
+            + ", \"misses\": " + cache.getMisses()
+            + ", \"evictions\": " + cache.getEvictions() + "}"
+            + ", \"inFlight\": {\"solves\": " + coalescer.inFlight()
+            + ", \"launched\": " + coalescer.getLaunched()
+            + ", \"joined\": " + coalescer.getJoined()
+            + ", \"cancelled\": " + coalescer.getCancelled() + "}"
+            + ", \"lanes\": " + lanesJson()
+            + ", \"index\": " + indexJson(MazeIndexStore.shared()) + "}");
+    }
+
+    private static String indexJson(MazeIndexStore store) {
+        return "{\"entries\": " + store.size()
+            + ", \"bytes\": " + store.getCurrentBytes()
+            + ", \"builds\": " + store.getBuilds()
+            + ", \"buildMs\": " + String.format(Locale.ROOT, "%.1f", store.getBuildNanos() / 1e6)
+            + ", \"graphBuilds\": " + store.getGraphBuilds()
+            + ", \"graphBuildMs\": " + String.format(Locale.ROOT, "%.1f", store.getGraphBuildNanos() / 1e6)
+            + ", \"loads\": " + (store.getLoads() + store.getGraphLoads())
+            + ", \"evictions\": " + store.getEvictions() + "}";
+    }
+
+    private String lanesJson() {
+        StringBuilder sb = new StringBuilder("[");
+        for (SolveScheduler.LaneStats lane : scheduler.stats()) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append("{\"algorithm\": ").append(Json.quote(lane.algorithm()))
+              .append(", \"running\": ").append(lane.running())
+              .append(", \"queued\": ").append(lane.queued())
+              .append(", \"completed\": ").append(lane.completed())
+              .append(", \"rejected\": ").append(lane.rejected())
+              .append(", \"nsPerCell\": ").append(String.format(Locale.ROOT, "%.1f", lane.nsPerCell()))
+              .append('}');
+        }
+        return sb.append(']').toString();
+    }
+
+    // === Solving ===
+
+    /**
+     * Solves one request and renders the response object.
+     */
+    String solve(SolveRequest request) {
+        MazeSolver solver = request.seed() == null
+            ? SolverFactory.create(request.algorithm())
+            : SolverFactory.create(request.algorithm(), request.seed());
+        MazeContext context = request.context(registry);
+        String algorithm = SolverFactory.shortName(solver);
+        MazeSolver scheduled = new ScheduledSolver(solver, scheduler, algorithm);
+        // ScheduledSolver hides the delegate's class, so name the solve explicitly: PureGA and HybridGA must not share
+        String solverId = solver.cacheKey() != null ? solver.cacheKey() : algorithm + "#unseeded";
+        AlgorithmResult result = new CachingSolver(new CoalescingSolver(scheduled, coalescer, solverId), cache)
+            .solve(context);
+        return resultJson(request, algorithm, result);
+    }
+
+    static String resultJson(SolveRequest request, String algorithm, AlgorithmResult result) {
+        StringBuilder sb = new StringBuilder(64 + (request.includePath() ? result.path().size() * 12 : 0));
+        sb.append('{');
+        if (request.id() != null) sb.append("\"id\": ").append(Json.quote(request.id())).append(", ");
+        if (request.maze() != null) sb.append("\"maze\": ").append(Json.quote(request.maze())).append(", ");
+        sb.append("\"algorithm\": ").append(Json.quote(algorithm))
+          .append(", \"status\": ").append(Json.quote(result.status()))
+          .append(", \"cost\": ").append(result.cost())
+          .append(", \"durationMs\": ").append(String.format(Locale.ROOT, "%.4f", result.getDurationMs()))
+          .append(", \"nodesExpanded\": ").append(result.nodesExpanded())
+          .append(", \"pathLength\": ").append(result.path().size());
+        SearchStats st = result.searchStats();
+        if (st != null) {
+            sb.append(", \"searchStats\": {\"staleSkips\": ").append(st.staleSkips())
+              .append(", \"pushes\": ").append(st.pushes())
+              .append(", \"peakQueue\": ").append(st.peakQueue())
+              .append(", \"relaxations\": ").append(st.relaxations()).append('}');
+        }
+        if (request.includePath()) {
+            sb.append(", \"path\": [");
+            for (int i = 0; i < result.path().size(); i++) {
+                int[] cell = result.path().get(i);
+                if (i > 0) sb.append(", ");
+                sb.append('[').append(cell[0]).append(", ").append(cell[1]).append(']');
+            }
+            sb.append(']');
+        }
+        return sb.append('}').toString();
+    }
+
+    // === HTTP helpers ===
+
+    private static final class HttpError extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final int status;
+
+        HttpError(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method, String path) {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            throw new HttpError(404, "No such endpoint: " + exchange.getRequestURI().getPath());
+        }
+        if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            throw new HttpError(405, path + " only accepts " + method);
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] body = in.readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new HttpError(413, "Request body exceeds " + MAX_BODY_BYTES + " bytes");
+            }
+            return body;
+        }
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String errorJson(Integer line, String message) {
+        String text = message == null ? "Unknown error" : message;
+        return line == null
+            ? "{\"error\": " + Json.quote(text) + "}"
+            : "{\"line\": " + line + ", \"error\": " + Json.quote(text) + "}";
+    }
+
+    // === CLI ===
+
+    public static void main(String[] args) {
+        int port = DEFAULT_PORT;
+        String data = "data";
+        List<String> maps = new ArrayList<>();
+        ClientThreads.Mode threads = ClientThreads.Mode.VIRTUAL;
+        int workers = Runtime.getRuntime().availableProcessors() * 2;
+        // At least two, so a GA job never holds the only solve worker
+        int solveWorkers = Math.max(2, Runtime.getRuntime().availableProcessors());
+        boolean verbose = false;
+        boolean index = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String value = (i + 1 < args.length) ? args[i + 1] : null;
+                switch (args[i]) {
+                    case "--port": port = Integer.parseInt(value); i++; break;
+                    case "--data": data = value; i++; break;
+                    case "--maps": maps.addAll(Arrays.asList(value.split(","))); i++; break;
+                    case "--threads": threads = ClientThreads.parseMode(value); i++; break;
+                    case "--workers": workers = Integer.parseInt(value); i++; break;
+                    case "--solve-workers": solveWorkers = Integer.parseInt(value); i++; break;
+                    case "--verbose": verbose = true; break;
+                    case "--index": index = true; break;
+                    case "--help":
+                        printUsage();
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            if (workers < 1 || solveWorkers < 1) {
+                throw new IllegalArgumentException("--workers and --solve-workers must be >= 1");
+            }
+        } catch (RuntimeException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(2);
+            return;
+        }
+
+        PrintStream console = System.out;
+        // Loader and GA logging would otherwise be printed for every request
+        if (!verbose) System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        MazeRegistry registry = new MazeRegistry(index ? MazeIndexStore.shared() : null);
+        MazeServer server;
+        try {
+            if (maps.isEmpty()) registry.loadDirectory(data);
+            for (String map : maps) registry.load(map);
+            SolveScheduler scheduler = new SolveScheduler(solveWorkers, SolveScheduler.defaultLimits(solveWorkers),
+                SolveScheduler.defaultGroupLimits(solveWorkers));
+            server = new MazeServer(registry, ResultCache.shared(), scheduler, port, threads, workers);
+        } catch (IOException | IllegalArgumentException e) {
+            System.setOut(console);
+            System.err.println("Failed to start: " + e.getMessage());
+            System.exit(2);
+            return;
+        }
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1)));
+        console.println("Maze server listening on port " + server.port() + " with " + registry.size()
+            + " maze(s), " + (threads == ClientThreads.Mode.VIRTUAL && ClientThreads.virtualThreadsAvailable()
+                ? "virtual thread per request" : workers + " worker threads"));
+    }
+
+    private static void printUsage() {
+        System.err.println("Usage: MazeServer [--port " + DEFAULT_PORT + "] [--data dir] [--maps a.txt,b.txt] "
+            + "[--threads virtual|platform] [--workers N (platform mode)] [--solve-workers N] [--index] [--verbose]");
+    }
+}
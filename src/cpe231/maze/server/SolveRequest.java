@@ -0,0 +1,128 @@
+package cpe231.maze.server;
+
+import cpe231.maze.core.MazeContext;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * One solve query, as sent to {@code POST /solve} or as a line of
+ * {@code POST /solve/batch}.
+ *
+ * Either {@code maze} (a registry id) or {@code grid} (rows of cell costs,
+ * each at least 1, or -1 for a wall) must be given. {@code start} and {@code goal} are [row, col]
+ * pairs; they default to the registered maze's S and G but are required with
+ * an inline grid.
+ *
+ * Usage Example:
+ * <pre>
+ * {"id": "q1", "maze": "m100_100", "algorithm": "AStar", "start": [1, 1], "goal": [99, 99]}
+ * {"grid": [[1, 1, 1], [-1, -1, 1], [1, 1, 1]], "start": [0, 0], "goal": [2, 0], "path": false}
+ * </pre>
+ *
+ * @param id          optional client correlation id, echoed in the response
+ * @param algorithm   solver name as accepted by {@code SolverFactory} (default "AStar")
+ * @param seed        random seed for the GA solvers, or null; seeded results are cacheable
+ * @param includePath whether the response lists the path cells (default true)
+ */
+public record SolveRequest(
+    String id,
+    String maze,
+    int[][] grid,
+    int[] start,
+    int[] goal,
+    String algorithm,
+    Long seed,
+    boolean includePath
+) {
+    public static final String DEFAULT_ALGORITHM = "AStar";
+
+    /**
+     * @throws IllegalArgumentException if a field is missing or malformed
+     */
+    public static SolveRequest fromJson(Map<String, Object> json) {
+        Object id = json.get("id");
+        String maze = optionalString(json, "maze");
+        int[][] grid = json.containsKey("grid") ? toGrid(json.get("grid")) : null;
+        if ((maze == null) == (grid == null)) {
+            throw new IllegalArgumentException("Give exactly one of 'maze' or 'grid'");
+        }
+        int[] start = json.containsKey("start") ? toCell(json.get("start"), "start") : null;
+        int[] goal = json.containsKey("goal") ? toCell(json.get("goal"), "goal") : null;
+        if (grid != null && (start == null || goal == null)) {
+            throw new IllegalArgumentException("'start' and 'goal' are required with an inline grid");
+        }
+        String algorithm = optionalString(json, "algorithm");
+        Object seed = json.get("seed");
+        if (seed != null && !(seed instanceof Long)) throw new IllegalArgumentException("'seed' must be an integer");
+        Object path = json.getOrDefault("path", Boolean.TRUE);
+        if (!(path instanceof Boolean)) throw new IllegalArgumentException("'path' must be true or false");
+        return new SolveRequest(id == null ? null : id.toString(), maze, grid, start, goal,
+            algorithm == null ? DEFAULT_ALGORITHM : algorithm, (Long) seed, (Boolean) path);
+    }
+
+    /**
+     * The maze to solve, with the requested endpoints applied.
+     *
+     * @throws NoSuchElementException   if {@code maze} is not registered
+     * @throws IllegalArgumentException if the grid or an endpoint is invalid
+     */
+    public MazeContext context(MazeRegistry registry) {
+        if (grid != null) {
+            return new MazeContext(grid, start[0], start[1], goal[0], goal[1]);
+        }
+        MazeContext base = registry.get(maze);
+        if (base == null) throw new NoSuchElementException("Unknown maze '" + maze + "'");
+        int[] s = start != null ? start : new int[]{base.startRow, base.startCol};
+        int[] g = goal != null ? goal : new int[]{base.endRow, base.endCol};
+        return base.withEndpoints(s[0], s[1], g[0], g[1]);
+    }
+
+    private static String optionalString(Map<String, Object> json, String key) {
+        Object value = json.get(key);
+        if (value == null) return null;
+        if (!(value instanceof String)) throw new IllegalArgumentException("'" + key + "' must be a string");
+        return (String) value;
+    }
+
+    private static int[] toCell(Object value, String key) {
+        if (!(value instanceof List) || ((List<?>) value).size() != 2) {
+            throw new IllegalArgumentException("'" + key + "' must be [row, col]");
+        }
+        List<?> pair = (List<?>) value;
+        return new int[]{toInt(pair.get(0), key), toInt(pair.get(1), key)};
+    }
+
+    private static int[][] toGrid(Object value) {
+        if (!(value instanceof List) || ((List<?>) value).isEmpty()) {
+            throw new IllegalArgumentException("'grid' must be a non-empty array of rows");
+        }
+        List<?> rows = (List<?>) value;
+        int[][] grid = new int[rows.size()][];
+        for (int r = 0; r < grid.length; r++) {
+            if (!(rows.get(r) instanceof List)) {
+                throw new IllegalArgumentException("'grid' row " + r + " is not an array");
+            }
+            List<?> row = (List<?>) rows.get(r);
+            grid[r] = new int[row.size()];
+            for (int c = 0; c < grid[r].length; c++) {
+                int cost = toInt(row.get(c), "grid");
+                // Zero costs break the A* heuristics and negative ones make negative cycles the searches never leave
+                if (cost != -1 && cost < 1) {
+                    throw new IllegalArgumentException("'grid' cell (" + r + "," + c + ") must be -1 or a cost >= 1: " + cost);
+                }
+                grid[r][c] = cost;
+            }
+        }
+        return grid;
+    }
+
+    private static int toInt(Object value, String key) {
+        if (!(value instanceof Long)) throw new IllegalArgumentException("'" + key + "' must contain integers");
+        long v = (Long) value;
+        if (v < Integer.MIN_VALUE || v > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("'" + key + "' value out of range: " + v);
+        }
+        return (int) v;
+    }
+}
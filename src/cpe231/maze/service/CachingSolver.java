@@ -0,0 +1,65 @@
+package cpe231.maze.service;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+
+/**
+ * Decorator that answers repeated solves from a {@link ResultCache}.
+ *
+ * Solvers whose {@link MazeSolver#cacheKey()} is null (unseeded GAs) are
+ * passed straight through. A hit returns the cached path, cost and search
+ * counters with {@code durationNs} set to the lookup time.
+ */
+public class CachingSolver implements MazeSolver {
+
+    private final MazeSolver delegate;
+    private final ResultCache cache;
+
+    public CachingSolver(MazeSolver delegate, ResultCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    public CachingSolver(MazeSolver delegate) {
+        this(delegate, ResultCache.shared());
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        String solverKey = delegate.cacheKey();
+        if (solverKey == null) return delegate.solve(context);
+
+        long startTime = System.nanoTime();
+        ResultCache.Key key = ResultCache.Key.of(context, solverKey);
+        ResultCache.Entry cached = cache.get(key);
+        if (cached != null) return cached.toResult(System.nanoTime() - startTime);
+
+        AlgorithmResult result = delegate.solve(context);
+        cache.put(key, result);
+        return result;
+    }
+
+    public MazeSolver getDelegate() {
+        return delegate;
+    }
+
+    public ResultCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return delegate.isOptimal();
+    }
+
+    @Override
+    public String cacheKey() {
+        return delegate.cacheKey();
+    }
+}
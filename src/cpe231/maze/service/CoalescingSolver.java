@@ -0,0 +1,74 @@
+package cpe231.maze.service;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decorator that routes solves through a {@link SolveCoalescer}, so callers
+ * asking for the same solve at the same time share one computation.
+ *
+ * The solver id defaults to the delegate's {@link MazeSolver#cacheKey()},
+ * or its class name when that is null: for an unseeded GA any one run is as
+ * good an answer as another, so concurrent callers can share it.
+ *
+ * An interrupted caller detaches from the computation and gets a
+ * "Cancelled" result; the computation stops once no caller is left.
+ */
+public class CoalescingSolver implements MazeSolver {
+
+    private final MazeSolver delegate;
+    private final SolveCoalescer coalescer;
+    private final String solverId;
+
+    public CoalescingSolver(MazeSolver delegate, SolveCoalescer coalescer, String solverId) {
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+        this.solverId = solverId;
+    }
+
+    public CoalescingSolver(MazeSolver delegate, SolveCoalescer coalescer) {
+        this(delegate, coalescer, delegate.cacheKey() != null
+            ? delegate.cacheKey() : delegate.getClass().getName());
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        long startTime = System.nanoTime();
+        CompletableFuture<AlgorithmResult> future = coalescer.submit(delegate, solverId, context);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return new AlgorithmResult("Cancelled", new ArrayList<>(), -1, System.nanoTime() - startTime, 0);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public MazeSolver getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return delegate.isOptimal();
+    }
+
+    @Override
+    public String cacheKey() {
+        return delegate.cacheKey();
+    }
+}
@@ -0,0 +1,74 @@
+package cpe231.maze.service;
+
+import cpe231.maze.core.MazeContext;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Predicts how long a solve will take from the algorithm and maze size.
+ *
+ * Each algorithm has a cost per grid cell (ns), seeded from the benchmark
+ * CSVs and then tracked as an exponentially weighted moving average of
+ * observed solves. The estimate is only used to order work, so being off
+ * by a constant factor is harmless; the ~1000x gap between the exact
+ * solvers and the GAs is what matters.
+ */
+public final class CostModel {
+
+    // Priors from output/results: A*/Dijkstra ~0.04-0.3 ms and the GAs ~200 ms on m15_15 (225 cells)
+    private static final double EXACT_NS_PER_CELL = 500;
+    private static final double GA_NS_PER_CELL = 1_000_000;
+    private static final double UNKNOWN_NS_PER_CELL = 50_000;
+
+    /** Weight of the newest observation in the moving average. */
+    public static final double DEFAULT_ALPHA = 0.2;
+
+    private final double alpha;
+    private final Map<String, Double> nsPerCell = new ConcurrentHashMap<>();
+
+    public CostModel(double alpha) {
+        if (alpha <= 0 || alpha > 1) {
+            throw new IllegalArgumentException("alpha must be in (0, 1]");
+        }
+        this.alpha = alpha;
+        nsPerCell.put("AStar", EXACT_NS_PER_CELL);
+        nsPerCell.put("Dijkstra", EXACT_NS_PER_CELL);
+        nsPerCell.put("LandmarkAStar", EXACT_NS_PER_CELL);
+        nsPerCell.put("HierarchicalAStar", EXACT_NS_PER_CELL);
+        nsPerCell.put("DeltaStepping", EXACT_NS_PER_CELL);
+        nsPerCell.put("AraStar", EXACT_NS_PER_CELL);
+        nsPerCell.put("PureGA", GA_NS_PER_CELL);
+        nsPerCell.put("HybridGA", GA_NS_PER_CELL);
+    }
+
+    public CostModel() {
+        this(DEFAULT_ALPHA);
+    }
+
+    /**
+     * Expected solve time in nanoseconds.
+     */
+    public long estimateNs(String algorithm, MazeContext context) {
+        double perCell = nsPerCell.getOrDefault(algorithm, UNKNOWN_NS_PER_CELL);
+        return (long) (perCell * cells(context));
+    }
+
+    /**
+     * Folds a finished solve into the algorithm's moving average.
+     */
+    public void observe(String algorithm, MazeContext context, long durationNs) {
+        double sample = (double) durationNs / cells(context);
+        nsPerCell.merge(algorithm, sample, (old, s) -> old + alpha * (s - old));
+    }
+
+    /**
+     * Current cost per cell for {@code algorithm} (ns), or NaN if unknown.
+     */
+    public double nsPerCell(String algorithm) {
+        return nsPerCell.getOrDefault(algorithm, Double.NaN);
+    }
+
+    private static long cells(MazeContext context) {
+        return Math.max(1L, (long) context.rows * context.cols);
+    }
+}
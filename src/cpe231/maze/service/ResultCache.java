@@ -0,0 +1,174 @@
+package cpe231.maze.service;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.SearchStats;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of solve results.
+ *
+ * Entries are keyed by maze content (fingerprint), start, goal and the
+ * solver's {@link cpe231.maze.core.MazeSolver#cacheKey()}, so the same grid
+ * loaded from different files shares entries. Paths are stored as
+ * {@link CompactPath}s. Both the entry count and the estimated footprint are
+ * bounded; least recently used entries are evicted first.
+ *
+ * Defaults are 100,000 entries and 64 MB, settable with
+ * {@code -Dmaze.resultCache.maxEntries=<n>} and
+ * {@code -Dmaze.resultCache.maxBytes=<bytes>}.
+ *
+ * Usage Example:
+ * <pre>
+ * MazeSolver solver = new CachingSolver(new AStarSolver(), ResultCache.shared());
+ * solver.solve(context);   // miss: runs A*
+ * solver.solve(context);   // hit
+ * System.out.println(ResultCache.shared());
+ * </pre>
+ */
+public final class ResultCache {
+
+    private static final int DEFAULT_MAX_ENTRIES = 100_000;
+    private static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+
+    private static final ResultCache SHARED = new ResultCache(
+        Integer.getInteger("maze.resultCache.maxEntries", DEFAULT_MAX_ENTRIES),
+        Long.getLong("maze.resultCache.maxBytes", DEFAULT_MAX_BYTES));
+
+    /**
+     * Cache key. Start and goal are flat cell indices (row * cols + col);
+     * the fingerprint covers the grid's dimensions, so they are unambiguous.
+     */
+    public record Key(long fingerprint, int start, int goal, String solver) {
+
+        public static Key of(MazeContext context, String solverKey) {
+            return new Key(context.fingerprint(), context.getStartIndex(), context.getEndIndex(), solverKey);
+        }
+    }
+
+    /**
+     * A cached result without timing; hits are re-timed by the caller.
+     */
+    public record Entry(String status, CompactPath path, int cost, long nodesExpanded,
+                        SearchStats searchStats, long sizeBytes) {
+
+        public AlgorithmResult toResult(long durationNs) {
+            return new AlgorithmResult(status, path.toList(), cost, durationNs, nodesExpanded, searchStats);
+        }
+    }
+
+    // Access-ordered map = LRU iteration order (eldest first)
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxEntries;
+    private final long maxBytes;
+    private long currentBytes;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ResultCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must be >= 0");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the cache shared by every {@link CachingSolver} that does not
+     * bring its own.
+     */
+    public static ResultCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * The cached entry, or null (counted as a miss).
+     */
+    public synchronized Entry get(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null) hits++;
+        else misses++;
+        return entry;
+    }
+
+    /**
+     * Caches a finished result. Only "Success", "Failed" and "Unreachable" are
+     * deterministic outcomes; other statuses (cancelled, timed out) and paths that are not
+     * 4-connected are ignored.
+     *
+     * @return true if the result was stored
+     */
+    public boolean put(Key key, AlgorithmResult result) {
+        if (!result.isSuccess() && !"Failed".equalsIgnoreCase(result.status())
+                && !"Unreachable".equalsIgnoreCase(result.status())) return false;
+        CompactPath path;
+        try {
+            path = CompactPath.of(result.path());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        // Key and entry objects plus the solver string and path
+        long size = 160L + 2L * key.solver().length() + path.sizeBytes();
+        Entry entry = new Entry(result.status(), path, result.cost(), result.nodesExpanded(),
+            result.searchStats(), size);
+
+        synchronized (this) {
+            if (size > maxBytes || maxEntries == 0) return false;
+            Entry previous = entries.put(key, entry);
+            if (previous != null) currentBytes -= previous.sizeBytes();
+            currentBytes += size;
+            evictToFit();
+        }
+        return true;
+    }
+
+    public synchronized int size() { return entries.size(); }
+
+    public synchronized long getCurrentBytes() { return currentBytes; }
+
+    public int getMaxEntries() { return maxEntries; }
+
+    public long getMaxBytes() { return maxBytes; }
+
+    public synchronized long getHits() { return hits; }
+
+    public synchronized long getMisses() { return misses; }
+
+    public synchronized long getEvictions() { return evictions; }
+
+    /**
+     * Fraction of lookups that hit (0 when there were none).
+     */
+    public synchronized double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Drops every entry (statistics are kept).
+     */
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    private void evictToFit() {
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while ((currentBytes > maxBytes || entries.size() > maxEntries) && it.hasNext()) {
+            Entry eldest = it.next().getValue();
+            it.remove();
+            currentBytes -= eldest.sizeBytes();
+            evictions++;
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("ResultCache[%d/%d entries, %,d/%,d bytes, hits=%d, misses=%d, evictions=%d]",
+            entries.size(), maxEntries, currentBytes, maxBytes, hits, misses, evictions);
+    }
+}
@@ -0,0 +1,69 @@
+package cpe231.maze.service;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decorator that runs the delegate on a {@link SolveScheduler} and waits for
+ * the result, so existing {@link MazeSolver} callers get admission control
+ * without changes.
+ *
+ * A full lane surfaces as {@link java.util.concurrent.RejectedExecutionException};
+ * an interrupted caller cancels its job and gets a "Cancelled" result.
+ */
+public class ScheduledSolver implements MazeSolver {
+
+    private final MazeSolver delegate;
+    private final SolveScheduler scheduler;
+    private final String algorithm;
+
+    /**
+     * @param algorithm lane to run in (a solver short name such as "AStar")
+     */
+    public ScheduledSolver(MazeSolver delegate, SolveScheduler scheduler, String algorithm) {
+        this.delegate = delegate;
+        this.scheduler = scheduler;
+        this.algorithm = algorithm;
+    }
+
+    @Override
+    public AlgorithmResult solve(MazeContext context) {
+        long startTime = System.nanoTime();
+        CompletableFuture<AlgorithmResult> future = scheduler.submit(algorithm, delegate, context);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            return new AlgorithmResult("Cancelled", new ArrayList<>(), -1, System.nanoTime() - startTime, 0);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public MazeSolver getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public boolean isOptimal() {
+        return delegate.isOptimal();
+    }
+
+    @Override
+    public String cacheKey() {
+        return delegate.cacheKey();
+    }
+}
@@ -0,0 +1,153 @@
+package cpe231.maze.service;
+
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-flight layer for solves: concurrent requests for the same maze,
+ * start, goal and solver attach to one in-flight computation instead of
+ * each running their own.
+ *
+ * Every caller gets its own future (with its own copy of the path), so a
+ * caller may cancel without affecting the others. When the last waiter of a
+ * computation cancels, the computation itself is cancelled by interrupting
+ * the solver thread. Finished computations are forgotten immediately;
+ * reusing completed results is the job of {@link ResultCache}.
+ *
+ * Usage Example:
+ * <pre>
+ * SolveCoalescer coalescer = new SolveCoalescer();
+ * CompletableFuture&lt;AlgorithmResult&gt; f = coalescer.submit(new HybridGASolver(), "HybridGA", context);
+ * AlgorithmResult result = f.get();
+ * </pre>
+ */
+public final class SolveCoalescer {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final ExecutorService executor;
+
+    // Guarded by this
+    private final Map<ResultCache.Key, InFlight> inFlight = new HashMap<>();
+    private long launched;
+    private long joined;
+    private long cancelled;
+
+    private static final class InFlight {
+        final ResultCache.Key key;
+        final CompletableFuture<AlgorithmResult> shared = new CompletableFuture<>();
+        Future<?> task;
+        int waiters;
+
+        InFlight(ResultCache.Key key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * Runs computations on {@code executor}.
+     */
+    public SolveCoalescer(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs computations on a private pool of daemon threads.
+     */
+    public SolveCoalescer() {
+        this(Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "coalesce-" + THREAD_COUNTER.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }));
+    }
+
+    /**
+     * Starts a solve, or joins the identical one already running.
+     *
+     * @param solver   used only if no identical solve is in flight
+     * @param solverId identifies the solver and its configuration (requests
+     *                 with the same id and maze are interchangeable)
+     * @return a future owned by this caller; cancelling it detaches this caller
+     */
+    public CompletableFuture<AlgorithmResult> submit(MazeSolver solver, String solverId, MazeContext context) {
+        ResultCache.Key key = ResultCache.Key.of(context, solverId);
+        InFlight flight;
+        synchronized (this) {
+            flight = inFlight.get(key);
+            if (flight == null) {
+                flight = new InFlight(key);
+                inFlight.put(key, flight);
+                InFlight started = flight;
+                flight.task = executor.submit(() -> run(started, solver, context));
+                launched++;
+            } else {
+                joined++;
+            }
+            flight.waiters++;
+        }
+
+        InFlight attached = flight;
+        CompletableFuture<AlgorithmResult> waiter = flight.shared.thenApply(SolveCoalescer::copyOf);
+        waiter.whenComplete((result, error) -> {
+            if (waiter.isCancelled()) leave(attached);
+        });
+        return waiter;
+    }
+
+    /**
+     * Number of distinct computations currently running.
+     */
+    public synchronized int inFlight() { return inFlight.size(); }
+
+    /** Computations started. */
+    public synchronized long getLaunched() { return launched; }
+
+    /** Requests that attached to an existing computation instead of starting one. */
+    public synchronized long getJoined() { return joined; }
+
+    /** Computations cancelled because every waiter left. */
+    public synchronized long getCancelled() { return cancelled; }
+
+    private void run(InFlight flight, MazeSolver solver, MazeContext context) {
+        try {
+            flight.shared.complete(solver.solve(context));
+        } catch (RuntimeException | Error e) {
+            flight.shared.completeExceptionally(e);
+        } finally {
+            synchronized (this) {
+                inFlight.remove(flight.key, flight);
+            }
+        }
+    }
+
+    private synchronized void leave(InFlight flight) {
+        if (flight.shared.isDone()) return;
+        if (--flight.waiters > 0) return;
+        inFlight.remove(flight.key, flight);
+        cancelled++;
+        flight.task.cancel(true);
+        flight.shared.cancel(false);
+    }
+
+    // Each waiter gets its own path list, so one caller's edits cannot leak to another
+    private static AlgorithmResult copyOf(AlgorithmResult r) {
+        return new AlgorithmResult(r.status(), new ArrayList<>(r.path()), r.cost(), r.durationNs(),
+            r.nodesExpanded(), r.metrics(), r.searchStats());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("SolveCoalescer[inFlight=%d, launched=%d, joined=%d, cancelled=%d]",
+            inFlight.size(), launched, joined, cancelled);
+    }
+}
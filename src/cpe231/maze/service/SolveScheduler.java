@@ -0,0 +1,380 @@
+package cpe231.maze.service;
+
+import cpe231.maze.algorithms.SolverFactory;
+import cpe231.maze.core.AlgorithmResult;
+import cpe231.maze.core.MazeContext;
+import cpe231.maze.core.MazeSolver;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Admission control and cost-aware ordering for solves on a shared pool.
+ *
+ * Every algorithm gets its own lane with a concurrency limit and a bounded
+ * queue; a submit to a full lane is rejected with
+ * {@link RejectedExecutionException} instead of queueing without bound.
+ * Lanes can also share a group budget: the GA lanes together never hold
+ * more than {@link #defaultGroupLimits} allows, however many GA algorithms
+ * are queued.
+ *
+ * Idle workers take the eligible job (its lane below its limit) with the
+ * smallest {@code enqueueTime + estimatedCost}, using {@link CostModel}.
+ * That is shortest-job-first with aging: a cheap A* query overtakes queued
+ * GA jobs, but a GA job that has waited longer than its own estimated run
+ * time is no longer overtaken. Keeping the GA group's budget below the worker
+ * count leaves workers free for cheap queries, which bounds A* tail latency
+ * while GA jobs run.
+ *
+ * Usage Example:
+ * <pre>
+ * SolveScheduler scheduler = new SolveScheduler(4, SolveScheduler.defaultLimits(4),
+ *     SolveScheduler.defaultGroupLimits(4));
+ * AlgorithmResult r = scheduler.submit(new AStarSolver(), context).get();
+ * scheduler.close();
+ * </pre>
+ */
+public final class SolveScheduler implements AutoCloseable {
+
+    /** Group shared by the GA lanes in {@link #defaultLimits}. */
+    public static final String GA_GROUP = "GA";
+
+    /**
+     * Per-lane admission limits.
+     *
+     * @param maxConcurrent jobs of this lane running at once
+     * @param maxQueued     jobs waiting; further submits are rejected
+     * @param group         budget shared with other lanes, or null
+     */
+    public record Limits(int maxConcurrent, int maxQueued, String group) {
+        public Limits {
+            if (maxConcurrent < 1 || maxQueued < 0) {
+                throw new IllegalArgumentException("maxConcurrent must be >= 1 and maxQueued >= 0");
+            }
+        }
+
+        public Limits(int maxConcurrent, int maxQueued) {
+            this(maxConcurrent, maxQueued, null);
+        }
+    }
+
+    /**
+     * Counters for one lane.
+     */
+    public record LaneStats(String algorithm, int running, int queued, long completed, long rejected,
+                            double nsPerCell) {}
+
+    private static final class Job {
+        final Lane lane;
+        final MazeSolver solver;
+        final MazeContext context;
+        final long priority;
+        final long sequence;
+        final CompletableFuture<AlgorithmResult> future = new CompletableFuture<>();
+        Thread runner; // guarded by the scheduler
+
+        Job(Lane lane, MazeSolver solver, MazeContext context, long priority, long sequence) {
+            this.lane = lane;
+            this.solver = solver;
+            this.context = context;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+
+    private static final Comparator<Job> ORDER =
+        Comparator.<Job>comparingLong(j -> j.priority).thenComparingLong(j -> j.sequence);
+
+    // Running-job budget shared by several lanes
+    private static final class Group {
+        final int maxConcurrent;
+        int running;
+
+        Group(int maxConcurrent) {
+            this.maxConcurrent = maxConcurrent;
+        }
+    }
+
+    private static final class Lane {
+        final String algorithm;
+        final Limits limits;
+        final Group group; // null if the lane has no shared budget
+        final PriorityQueue<Job> queue = new PriorityQueue<>(ORDER);
+        int running;
+        long completed;
+        long rejected;
+
+        Lane(String algorithm, Limits limits, Group group) {
+            this.algorithm = algorithm;
+            this.limits = limits;
+            this.group = group;
+        }
+
+        boolean eligible() {
+            return running < limits.maxConcurrent() && (group == null || group.running < group.maxConcurrent)
+                && !queue.isEmpty();
+        }
+
+        void started() {
+            running++;
+            if (group != null) group.running++;
+        }
+
+        void finished() {
+            running--;
+            completed++;
+            if (group != null) group.running--;
+        }
+    }
+
+    private final CostModel costModel;
+    private final Limits defaultLimits;
+    private final Map<String, Limits> limits;
+    private final List<Thread> workers = new ArrayList<>();
+
+    // Guarded by this
+    private final Map<String, Lane> lanes = new LinkedHashMap<>();
+    private final Map<String, Group> groups = new LinkedHashMap<>();
+    private long sequence;
+    private boolean closed;
+
+    /**
+     * @param workers       solver threads
+     * @param limits        per-algorithm limits, keyed by solver short name
+     * @param groupLimits   running-job budget per {@link Limits#group()}; a
+     *                      lane whose group has budget 0 (or none) rejects every submit
+     * @param defaultLimits limits for algorithms not listed
+     * @param costModel     run-time estimates (updated as jobs finish)
+     */
+    public SolveScheduler(int workers, Map<String, Limits> limits, Map<String, Integer> groupLimits,
+                          Limits defaultLimits, CostModel costModel) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be >= 1");
+        }
+        this.limits = Map.copyOf(limits);
+        groupLimits.forEach((name, max) -> {
+            if (max < 0) throw new IllegalArgumentException("Group " + name + " budget must be >= 0");
+            groups.put(name, new Group(max));
+        });
+        this.defaultLimits = defaultLimits;
+        this.costModel = costModel;
+        for (int i = 0; i < workers; i++) {
+            Thread t = new Thread(this::workLoop, "solve-worker-" + (i + 1));
+            t.setDaemon(true);
+            t.start();
+            this.workers.add(t);
+        }
+    }
+
+    public SolveScheduler(int workers, Map<String, Limits> limits, Map<String, Integer> groupLimits) {
+        this(workers, limits, groupLimits, new Limits(workers, 1024), new CostModel());
+    }
+
+    public SolveScheduler(int workers, Map<String, Limits> limits) {
+        this(workers, limits, Map.of());
+    }
+
+    /**
+     * Sensible limits for {@code workers} threads: the exact solvers may use
+     * every worker, and both GA lanes share the {@link #GA_GROUP} budget from
+     * {@link #defaultGroupLimits}.
+     */
+    public static Map<String, Limits> defaultLimits(int workers) {
+        int gaLimit = gaBudget(workers);
+        Map<String, Limits> m = new LinkedHashMap<>();
+        m.put("AStar", new Limits(workers, 1024));
+        m.put("Dijkstra", new Limits(workers, 1024));
+        m.put("LandmarkAStar", new Limits(workers, 1024));
+        m.put("HierarchicalAStar", new Limits(workers, 1024));
+        m.put("AraStar", new Limits(workers, 1024));
+        // Already parallel on the common pool: one at a time keeps it from oversubscribing the cores
+        m.put("DeltaStepping", new Limits(1, 64));
+        m.put("PureGA", new Limits(gaLimit, 16, GA_GROUP));
+        m.put("HybridGA", new Limits(gaLimit, 16, GA_GROUP));
+        return m;
+    }
+
+    /**
+     * Group budgets for {@link #defaultLimits}: all GA jobs together use at
+     * most half the workers, but at least one. With two or more workers that
+     * never includes the last one, so cheap queries always find a free worker;
+     * with a single worker a running GA job holds it, and only the
+     * shortest-job-first order keeps cheap queries ahead of queued GA jobs.
+     */
+    public static Map<String, Integer> defaultGroupLimits(int workers) {
+        return Map.of(GA_GROUP, gaBudget(workers));
+    }
+
+    private static int gaBudget(int workers) {
+        return Math.max(1, workers / 2);
+    }
+
+    /**
+     * Queues a solve in the lane named by {@link SolverFactory#shortName}.
+     */
+    public CompletableFuture<AlgorithmResult> submit(MazeSolver solver, MazeContext context) {
+        return submit(SolverFactory.shortName(solver), solver, context);
+    }
+
+    /**
+     * Queues a solve in lane {@code algorithm}.
+     *
+     * @return completes with the result, or exceptionally with
+     *         {@link RejectedExecutionException} if the lane's queue is full or
+     *         the scheduler is closed. Cancelling it drops a queued job or
+     *         interrupts a running one.
+     */
+    public CompletableFuture<AlgorithmResult> submit(String algorithm, MazeSolver solver, MazeContext context) {
+        long estimate = costModel.estimateNs(algorithm, context);
+        Job job;
+        synchronized (this) {
+            Lane lane = lanes.computeIfAbsent(algorithm, this::newLane);
+            String refusal = null;
+            if (closed) {
+                refusal = "Scheduler is closed";
+            } else if (lane.limits.group() != null && (lane.group == null || lane.group.maxConcurrent == 0)) {
+                // Would wait forever: its group may never run anything
+                refusal = "No workers available for " + algorithm + " (group " + lane.limits.group() + ")";
+            } else if (lane.queue.size() >= lane.limits.maxQueued()) {
+                refusal = "Queue for " + algorithm + " is full (" + lane.limits.maxQueued() + " waiting)";
+            }
+            if (refusal != null) {
+                lane.rejected++;
+                return CompletableFuture.failedFuture(new RejectedExecutionException(refusal));
+            }
+            job = new Job(lane, solver, context, saturatingAdd(System.nanoTime(), estimate), sequence++);
+            lane.queue.add(job);
+            notifyAll();
+        }
+        job.future.whenComplete((result, error) -> {
+            if (job.future.isCancelled()) cancel(job);
+        });
+        return job.future;
+    }
+
+    private Lane newLane(String algorithm) {
+        Limits l = limits.getOrDefault(algorithm, defaultLimits);
+        return new Lane(algorithm, l, l.group() == null ? null : groups.get(l.group()));
+    }
+
+    /**
+     * A snapshot of every lane seen so far.
+     */
+    public synchronized List<LaneStats> stats() {
+        List<LaneStats> out = new ArrayList<>();
+        for (Lane lane : lanes.values()) {
+            out.add(new LaneStats(lane.algorithm, lane.running, lane.queue.size(), lane.completed,
+                lane.rejected, costModel.nsPerCell(lane.algorithm)));
+        }
+        return out;
+    }
+
+    public CostModel costModel() {
+        return costModel;
+    }
+
+    /**
+     * Rejects new submits, fails queued jobs and interrupts running ones.
+     */
+    @Override
+    public void close() {
+        List<Job> dropped = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            for (Lane lane : lanes.values()) {
+                dropped.addAll(lane.queue);
+                lane.queue.clear();
+            }
+            notifyAll();
+        }
+        for (Job job : dropped) job.future.completeExceptionally(new RejectedExecutionException("Scheduler is closed"));
+        for (Thread t : workers) t.interrupt();
+    }
+
+    // === Workers ===
+
+    private void workLoop() {
+        while (true) {
+            Job job;
+            synchronized (this) {
+                job = nextJob();
+                while (job == null) {
+                    if (closed) return;
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        if (closed) return;
+                    }
+                    job = nextJob();
+                }
+                job.lane.started();
+                Thread.interrupted(); // clear a late cancel aimed at the previous job
+                job.runner = Thread.currentThread();
+            }
+
+            long start = System.nanoTime();
+            try {
+                AlgorithmResult result = job.solver.solve(job.context);
+                if (result.isSuccess() || "Failed".equalsIgnoreCase(result.status())) {
+                    costModel.observe(job.lane.algorithm, job.context, System.nanoTime() - start);
+                }
+                job.future.complete(result);
+            } catch (RuntimeException | Error e) {
+                job.future.completeExceptionally(e);
+            } finally {
+                synchronized (this) {
+                    job.runner = null;
+                    job.lane.finished();
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    // Cheapest (priority) head among lanes that are below their concurrency limit
+    private Job nextJob() {
+        Job best = null;
+        for (Lane lane : lanes.values()) {
+            // Drop jobs cancelled while queued
+            while (!lane.queue.isEmpty() && lane.queue.peek().future.isDone()) lane.queue.poll();
+            if (!lane.eligible()) continue;
+            Job head = lane.queue.peek();
+            if (best == null || ORDER.compare(head, best) < 0) best = head;
+        }
+        if (best != null) best.lane.queue.poll();
+        return best;
+    }
+
+    private synchronized void cancel(Job job) {
+        if (job.runner != null) {
+            job.runner.interrupt();
+        } else {
+            job.lane.queue.remove(job);
+        }
+    }
+
+    private static long saturatingAdd(long a, long b) {
+        long r = a + b;
+        return ((a ^ r) & (b ^ r)) < 0 ? Long.MAX_VALUE : r;
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder("SolveScheduler[");
+        boolean first = true;
+        for (Lane lane : lanes.values()) {
+            if (!first) sb.append(", ");
+            first = false;
+            sb.append(lane.algorithm).append(": running=").append(lane.running)
+              .append(" queued=").append(lane.queue.size())
+              .append(" done=").append(lane.completed)
+              .append(" rejected=").append(lane.rejected);
+        }
+        return sb.append(']').toString();
+    }
+}
@@ -2,7 +2,7 @@ package cpe231.maze.ui;
 
 import cpe231.maze.algorithms.*;
 import cpe231.maze.core.*;
-import cpe231.maze.io.MazeLoader;
+import cpe231.maze.io.MazeCache;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -245,12 +245,13 @@ public class VisualizationApp extends JFrame {
     private void loadMap(String filename) {
         if (filename == null || filename.equals("No files")) return;
         try {
-            MazeLoader.loadMaze("data/" + filename);
-            currentContext = new MazeContext(
-                MazeLoader.maze, 
-                MazeLoader.startRow, MazeLoader.startCol, 
-                MazeLoader.endRow, MazeLoader.endCol
-            );
+            MazeContext ctx = MazeCache.shared().load("data/" + filename);
+            if (ctx == currentContext) {
+                // Same cached maze: keep the rendered background, just clear paths
+                for (MazePanel p : panels) p.setPath(null);
+                return;
+            }
+            currentContext = ctx;
             for (MazePanel p : panels) {
                 p.setMaze(currentContext);
                 p.setPath(null);